@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.ReplayingTransport;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.TransportCaptureFile;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.TransportExchange;
+
+/**
+ * VIAConnectProCaptureReplay
+ * Feeds a capture file written with the captureFile adapter property back through getMultipleStatistics() of a {@link VIAConnectProCommunicator},
+ * without any device, and reports poll latency percentiles and allocation per poll.
+ * <p>
+ * Arguments are key=value pairs: file (capture file, required), polls, pace (full or realtime), configManagement, output (JSON report file).
+ * At full speed only parsing and statistics are measured, in real-time each reply is delayed by its captured duration to reproduce slow polls.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class VIAConnectProCaptureReplay {
+
+    private static final String REALTIME_PACE = "realtime";
+
+    /**
+     * Run the replay
+     *
+     * @param args key=value arguments
+     * @throws Exception if the capture cannot be read or the report cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                arguments.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        String file = arguments.get("file");
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Missing file=<capture file> argument");
+        }
+        int polls = Integer.parseInt(arguments.getOrDefault("polls", "100"));
+        String pace = arguments.getOrDefault("pace", "full");
+        String configManagement = arguments.getOrDefault("configManagement", "true");
+        File output = new File(arguments.getOrDefault("output", "target/capture-replay-result.json"));
+
+        List<TransportExchange> exchanges = TransportCaptureFile.read(Paths.get(file));
+        VIAConnectProCommunicator communicator = new VIAConnectProCommunicator();
+        communicator.setHost("replay");
+        communicator.setLogin("replay");
+        communicator.setPassword("replay");
+        communicator.setConfigManagement(configManagement);
+        communicator.setTransport(new ReplayingTransport(exchanges, true, REALTIME_PACE.equals(pace)));
+        communicator.init();
+        Map<String, Object> report = run(communicator, polls);
+        communicator.destroy();
+        report.put("captureFile", file);
+        report.put("capturedExchanges", exchanges.size());
+        report.put("pace", pace);
+        report.put("configManagement", configManagement);
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        File parent = output.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IllegalStateException("Unable to create directory " + parent);
+        }
+        objectMapper.writeValue(output, report);
+        System.out.println(objectMapper.writeValueAsString(report));
+    }
+
+    /**
+     * Poll the communicator {@code polls} times on the current thread
+     *
+     * @return report entries
+     */
+    private static Map<String, Object> run(VIAConnectProCommunicator communicator, int polls) {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationMXBean = threadMXBean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) threadMXBean : null;
+        long threadId = Thread.currentThread().getId();
+        long[] latencies = new long[polls];
+        int failedPolls = 0;
+        String firstFailure = null;
+        long allocatedBefore = allocationMXBean != null ? allocationMXBean.getThreadAllocatedBytes(threadId) : 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < polls; i++) {
+            long pollStart = System.nanoTime();
+            try {
+                communicator.getMultipleStatistics();
+            } catch (Exception e) {
+                failedPolls++;
+                if (firstFailure == null) {
+                    firstFailure = e.getMessage();
+                }
+            }
+            latencies[i] = System.nanoTime() - pollStart;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocatedBytes = allocationMXBean != null ? allocationMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore : -1;
+
+        Arrays.sort(latencies);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("totalPolls", polls);
+        report.put("failedPolls", failedPolls);
+        report.put("firstFailure", firstFailure);
+        report.put("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        report.put("pollsPerSecond", polls / (elapsedNanos / 1e9));
+        report.put("latencyP50Millis", percentile(latencies, 0.50));
+        report.put("latencyP99Millis", percentile(latencies, 0.99));
+        report.put("latencyMaxMillis", latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+        report.put("allocatedBytesPerPoll", allocatedBytes < 0 || polls == 0 ? -1 : allocatedBytes / polls);
+        return report;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted latencies, in milliseconds
+     */
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.ParticipantListDTO;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll.PollResult;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProErrorMetric;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * VIAConnectProParsingBenchmark
+ * Request encoding and response parsing on the polling hot path, run with the gc profiler to report allocated bytes per operation.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VIAConnectProParsingBenchmark {
+
+    private VIAConnectProCommunicator communicator;
+    private List<String> participantListParams;
+    private String staleAndExpectedResponse;
+    private PollResult nonGroupPollResult;
+
+    /**
+     * Participant list of a given size
+     */
+    @State(Scope.Thread)
+    public static class ParticipantListState {
+
+        @Param({"0", "1", "10", "50", "200"})
+        public int users;
+
+        private PollResult pollResult;
+
+        @Setup
+        public void setup() {
+            String userList;
+            if (users == 0) {
+                userList = VIAConnectProErrorMetric.ERROR_14.getErrorCode();
+            } else {
+                StringBuilder stringBuilder = new StringBuilder();
+                for (int i = 0; i < users; i++) {
+                    if (i > 0) {
+                        stringBuilder.append(VIAConnectProConstant.HASH);
+                    }
+                    stringBuilder.append("participant").append(i).append(VIAConnectProConstant.UNDER_SCORE).append(i % 3);
+                }
+                userList = stringBuilder.toString();
+            }
+            pollResult = new PollResult();
+            pollResult.putResponse(VIAConnectProMonitoringMetric.PLIST_All_STATUS, "PList|all|4|" + userList);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        communicator = new VIAConnectProCommunicator();
+        communicator.setLogin("su");
+        communicator.setPassword("supass");
+        participantListParams = Arrays.asList(VIAConnectProMonitoringMetric.PLIST_All_STATUS.getParam().split(VIAConnectProConstant.COMMA));
+        staleAndExpectedResponse = "Vol|Get|50\r\nPList|all|4|Alice_1#Bob_0\r\n";
+        nonGroupPollResult = new PollResult();
+        nonGroupPollResult.putResponse(VIAConnectProMonitoringMetric.IP_INFORMATION,
+                "IP:192.168.0.10|SubnetMask:255.255.255.0|Gateway:192.168.0.1|DNS:192.168.0.2|HostName:via-room-101");
+        nonGroupPollResult.putResponse(VIAConnectProMonitoringMetric.ROOM_CODE, "RCode|Get|Code|1234");
+        nonGroupPollResult.putResponse(VIAConnectProMonitoringMetric.VERSION_GET, "GetVersion|3.0.0.1");
+        nonGroupPollResult.putResponse(VIAConnectProMonitoringMetric.MAC_ADDRESS_GET, "GetMacAdd|00:0A:95:9D:68:16");
+        nonGroupPollResult.putResponse(VIAConnectProMonitoringMetric.SERIAL_NUMBER_GET, "GetSerialNo|VIA0001");
+    }
+
+    @Benchmark
+    public String buildTelnetRequest() {
+        return communicator.buildTelnetRequest(VIAConnectProMonitoringMetric.PLIST_All_STATUS.getCommand(), participantListParams, false);
+    }
+
+    @Benchmark
+    public String selectResponse() {
+        return communicator.selectResponse(staleAndExpectedResponse, VIAConnectProMonitoringMetric.PLIST_All_STATUS.getCommand());
+    }
+
+    @Benchmark
+    public ParticipantListDTO getListParticipant(ParticipantListState state) {
+        return communicator.getListParticipant(state.pollResult);
+    }
+
+    @Benchmark
+    public Map<String, String> populateNonGroupProperties() {
+        Map<String, String> statistics = new HashMap<>();
+        communicator.populateNonGroupProperties(statistics, new ArrayList<>(), nonGroupPollResult);
+        return statistics;
+    }
+
+    @Benchmark
+    public VIAConnectProErrorMetric getByCodeHit() {
+        return VIAConnectProErrorMetric.getByCode(VIAConnectProErrorMetric.ERROR_20066.getErrorCode());
+    }
+
+    @Benchmark
+    public VIAConnectProErrorMetric getByCodeMiss() {
+        return VIAConnectProErrorMetric.getByCode("1");
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.simulator.SimulatedDevice;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.simulator.VIAConnectProSimulator;
+
+/**
+ * VIAConnectProPollLoadBenchmark
+ * Drives many {@link VIAConnectProCommunicator} instances concurrently against a local {@link VIAConnectProSimulator}
+ * and reports getMultipleStatistics() latency percentiles, commands per poll, connections per minute, threads and allocation per poll.
+ * <p>
+ * Arguments are key=value pairs: rooms, polls (per room), workers, rtt and jitter (milliseconds), configManagement, output (JSON report file).
+ * The report is printed to the standard output and written to the output file.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class VIAConnectProPollLoadBenchmark {
+
+    private static final String USERNAME = "su";
+    private static final String PASSWORD = "supass";
+
+    /**
+     * Run the benchmark
+     *
+     * @param args key=value arguments
+     * @throws Exception if the simulator cannot be started or the report cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                arguments.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        int rooms = Integer.parseInt(arguments.getOrDefault("rooms", "50"));
+        int polls = Integer.parseInt(arguments.getOrDefault("polls", "5"));
+        int workers = Integer.parseInt(arguments.getOrDefault("workers", String.valueOf(Math.min(rooms, 256))));
+        long rtt = Long.parseLong(arguments.getOrDefault("rtt", "5"));
+        long jitter = Long.parseLong(arguments.getOrDefault("jitter", "0"));
+        String configManagement = arguments.getOrDefault("configManagement", "true");
+        File output = new File(arguments.getOrDefault("output", "target/poll-load-result.json"));
+
+        SimulatedDevice device = new SimulatedDevice();
+        device.putParticipant("Alice", SimulatedDevice.PRESENTING);
+        device.putParticipant("Bob", SimulatedDevice.NOT_PRESENTING);
+        device.activateStreaming("udp://239.0.0.1:5000");
+        try (VIAConnectProSimulator simulator = new VIAConnectProSimulator(device, USERNAME, PASSWORD).start()) {
+            simulator.setDefaultLatency(rtt);
+            simulator.setJitter(jitter);
+            List<VIAConnectProCommunicator> communicators = new ArrayList<>(rooms);
+            for (int i = 0; i < rooms; i++) {
+                VIAConnectProCommunicator communicator = new VIAConnectProCommunicator();
+                communicator.setProtocol("telnet");
+                communicator.setHost("127.0.0.1");
+                communicator.setPort(simulator.getPort());
+                communicator.setLogin(USERNAME);
+                communicator.setPassword(PASSWORD);
+                communicator.setConfigManagement(configManagement);
+                communicator.init();
+                communicators.add(communicator);
+            }
+            Map<String, Object> report = run(simulator, communicators, polls, workers);
+            report.put("rooms", rooms);
+            report.put("pollsPerRoom", polls);
+            report.put("workers", workers);
+            report.put("rttMillis", rtt);
+            report.put("jitterMillis", jitter);
+            report.put("configManagement", configManagement);
+            for (VIAConnectProCommunicator communicator : communicators) {
+                communicator.destroy();
+            }
+            ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            File parent = output.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists() && !parent.mkdirs()) {
+                throw new IllegalStateException("Unable to create directory " + parent);
+            }
+            objectMapper.writeValue(output, report);
+            System.out.println(objectMapper.writeValueAsString(report));
+        }
+    }
+
+    /**
+     * Poll every communicator {@code polls} times on a pool of {@code workers} threads
+     *
+     * @return report entries
+     */
+    private static Map<String, Object> run(VIAConnectProSimulator simulator, List<VIAConnectProCommunicator> communicators, int polls, int workers) throws Exception {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationMXBean = threadMXBean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) threadMXBean : null;
+        int totalPolls = communicators.size() * polls;
+        long[] latencies = new long[totalPolls];
+        AtomicInteger latencyIndex = new AtomicInteger();
+        AtomicInteger failedPolls = new AtomicInteger();
+        AtomicLong allocatedBytes = new AtomicLong();
+        AtomicInteger peakAdapterThreads = new AtomicInteger();
+
+        // Threads of the simulator (accept thread and one per session) and of this sampler are not counted
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakAdapterThreads.accumulateAndGet(threadMXBean.getThreadCount() - simulator.getOpenSessionCount() - 2, Math::max),
+                0, 50, TimeUnit.MILLISECONDS);
+
+        long connectionsBefore = simulator.getConnectionCount();
+        long requestsBefore = simulator.getRequestCount();
+        long loginsBefore = simulator.getLoginCount();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(communicators.size());
+        for (VIAConnectProCommunicator communicator : communicators) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < polls; i++) {
+                    long threadId = Thread.currentThread().getId();
+                    long allocatedBefore = allocationMXBean != null ? allocationMXBean.getThreadAllocatedBytes(threadId) : 0;
+                    long pollStart = System.nanoTime();
+                    try {
+                        communicator.getMultipleStatistics();
+                    } catch (Exception e) {
+                        failedPolls.incrementAndGet();
+                    }
+                    latencies[latencyIndex.getAndIncrement()] = System.nanoTime() - pollStart;
+                    if (allocationMXBean != null) {
+                        allocatedBytes.addAndGet(allocationMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+        sampler.shutdownNow();
+
+        Arrays.sort(latencies);
+        long connections = simulator.getConnectionCount() - connectionsBefore;
+        long logins = simulator.getLoginCount() - loginsBefore;
+        long commands = simulator.getRequestCount() - requestsBefore - logins;
+        double elapsedMinutes = elapsedNanos / 60e9;
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("totalPolls", totalPolls);
+        report.put("failedPolls", failedPolls.get());
+        report.put("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        report.put("pollsPerSecond", totalPolls / (elapsedNanos / 1e9));
+        report.put("latencyP50Millis", percentile(latencies, 0.50));
+        report.put("latencyP99Millis", percentile(latencies, 0.99));
+        report.put("latencyMaxMillis", latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+        report.put("commandsPerPoll", (double) commands / totalPolls);
+        report.put("connectionsPerPoll", (double) connections / totalPolls);
+        report.put("connectionsPerMinute", connections / elapsedMinutes);
+        report.put("peakAdapterThreads", peakAdapterThreads.get());
+        report.put("allocatedBytesPerPoll", allocationMXBean != null ? allocatedBytes.get() / totalPolls : -1);
+        return report;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted latencies, in milliseconds
+     */
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1e6;
+    }
+}
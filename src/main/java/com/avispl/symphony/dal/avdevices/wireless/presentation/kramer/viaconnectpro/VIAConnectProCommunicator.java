@@ -7,12 +7,42 @@ package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnec
 import com.avispl.symphony.api.dal.control.Controller;
 import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
-import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.CachedPropertyStore;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.ControlTemplate;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.DeviceReply;
 import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.ParticipantListDTO;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.ParticipantTable;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.StatisticsMap;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.StatisticsSnapshot;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.WarmStartSnapshot;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.events.FlightRecorderEvents;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.logging.AggregatedErrorLogger;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.metrics.AdapterMetrics;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll.PipelinedPollStepHandler;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll.PollPlan;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll.PollPlanExecutor;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll.PollResult;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll.PollStateClass;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll.PollStep;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll.PollStepHandler;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll.StreamingState;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll.StreamingStateMachine;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing.SpanKind;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing.TraceSink;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing.TraceSinks;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing.TraceSpan;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing.Tracer;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.CapturingTransport;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.FramedResponseReader;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.OutstandingReplies;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.OutstandingReplies.OutstandingReply;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.ReplayingTransport;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.VIAConnectProTransport;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.CommandDescriptor;
 import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.DisplayStatusModeEnum;
 import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
 import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProControllingMetric;
@@ -22,9 +52,16 @@ import com.avispl.symphony.dal.communicator.TelnetCommunicator;
 import com.avispl.symphony.dal.util.StringUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 import org.springframework.util.CollectionUtils;
 
@@ -64,37 +101,55 @@ import org.springframework.util.CollectionUtils;
 public class VIAConnectProCommunicator extends TelnetCommunicator implements Monitorable, Controller {
 
 	/**
-	 * Store previous/current ExtendedStatistics
+	 * Immutable statistics and controls of the latest completed poll, patched copies are published after controls.
+	 * Readers take the current snapshot without {@link #reentrantLock}, writers replace it as a whole.
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	private final AtomicReference<StatisticsSnapshot> localSnapshot = new AtomicReference<>();
 
 	/**
-	 * cachedLocalExtendedStatistics.This variable will store cached stats/controls and will be updated in {@link VIAConnectProCommunicator#controlProperty(ControllableProperty)}
+	 * cachedProperties.This variable will store cached stats/controls and will be updated in {@link VIAConnectProCommunicator#controlProperty(ControllableProperty)}
 	 * And populate its values in {@link VIAConnectProCommunicator#getMultipleStatistics()}
 	 */
-	private final ExtendedStatistics cachedLocalExtendedStatistics;
+	private final CachedPropertyStore cachedProperties = new CachedPropertyStore();
 
 	/**
 	 * Check if {@link VIAConnectProCommunicator#controlProperty(ControllableProperty)} have just finished
 	 * And {@link VIAConnectProCommunicator#getMultipleStatistics()} is about to be executed.
 	 */
-	private boolean isCachedControlling;
+	private volatile boolean isCachedControlling;
 
 	/**
-	 * Check if user is controlling StreamingControl
+	 * State of the StreamingFromDeviceToExternal group, replaces re-sending Streaming|Get and Streaming|SStatus after controls
 	 */
-	private boolean isStreamingControl = false;
+	private final StreamingStateMachine streamingStateMachine = new StreamingStateMachine();
 
 	/**
 	 * Store previous username
 	 */
 	private String previousUserName;
 
+	/**
+	 * Participants logged in to the device, with slots kept across polls
+	 */
+	private final ParticipantTable participantTable = new ParticipantTable();
+
+	/**
+	 * User drop-down of UserModeration, rebuilt only when {@link ParticipantTable#getMembershipVersion()} changes
+	 */
+	private ControlTemplate userDropdownControl;
+	private int userDropdownVersion;
+
 	/**
 	 * ReentrantLock to prevent telnet session is closed when adapter is retrieving statistics from the device.
 	 */
 	private final ReentrantLock reentrantLock = new ReentrantLock();
 
+	/**
+	 * Result of the {@link #getMultipleStatistics()} call currently polling the device, null if none.
+	 * Concurrent callers wait for this result instead of running another poll once the lock is released.
+	 */
+	private final AtomicReference<CompletableFuture<List<Statistics>>> inFlightPoll = new AtomicReference<>();
+
 	/**
 	 * Set of command that response IOException before.
 	 * This is to make sure getMultipleStatistics don't take a lot of time to retrieve statistics for command that had IOException earlier.
@@ -112,12 +167,195 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 */
 	private static final int statisticsTelnetTimeout = 30000;
 
+	/**
+	 * Default maximum age of the statistics served on startup, in milliseconds
+	 */
+	private static final long warmStartDefaultMaxAge = 3600000;
+
+	/**
+	 * Interval between two summaries of repeated polling errors, in milliseconds
+	 */
+	private static final long errorSummaryInterval = 600000;
+
+	/**
+	 * Options of the Action drop-down of StreamingFromDeviceToExternal, shared by every poll
+	 */
+	private static final String[] streamModes = { VIAConnectProConstant.START, VIAConnectProConstant.STOP, VIAConnectProConstant.RESTART, VIAConnectProConstant.CHANGE };
+
+	/**
+	 * Controls of StreamingFromExternalToDevice and StreamingFromDeviceToExternal, only their value changes from one poll to the next
+	 */
+	private static final ControlTemplate externalStreamUrlControl = ControlTemplate.text(VIAConnectProConstant.STREAMING_FROM_EXTERNAL_TO_DEVICE, VIAConnectProConstant.EXTERNAL_STREAM_URL);
+	private static final ControlTemplate startStreamingControl = ControlTemplate.button(VIAConnectProConstant.STREAMING_FROM_EXTERNAL_TO_DEVICE, VIAConnectProConstant.START_STREAMING,
+			VIAConnectProConstant.START, "Starting...");
+	private static final ControlTemplate stopStreamingControl = ControlTemplate.button(VIAConnectProConstant.STREAMING_FROM_EXTERNAL_TO_DEVICE, VIAConnectProConstant.STOP_STREAMING,
+			VIAConnectProConstant.STOP, "Stopping...");
+	private static final ControlTemplate streamingModeControl = ControlTemplate.toggle(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.STREAMING_MODE,
+			VIAConnectProConstant.DEACTIVATE, VIAConnectProConstant.ACTIVATE);
+	private static final ControlTemplate streamingUrlControl = ControlTemplate.text(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.URL);
+	private static final ControlTemplate streamingActionControl = ControlTemplate.dropdown(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.ACTION, streamModes);
+	private static final ControlTemplate streamingApplyControl = ControlTemplate.button(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.APPLY,
+			VIAConnectProConstant.APPLY, "Applying the stream...");
+	private static final ControlTemplate newUrlControl = ControlTemplate.text(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.NEW_URL);
+	private static final ControlTemplate newUrlOneControl = ControlTemplate.text(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.NEW_URL_1);
+	private static final ControlTemplate newUrlTwoControl = ControlTemplate.text(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.NEW_URL_2);
+
+	/**
+	 * Volume slider of DeviceSettings, only its value changes from one poll to the next
+	 */
+	private static final ControlTemplate volumeControl = ControlTemplate.slider(VIAConnectProConstant.DEVICE_SETTINGS, VIAConnectProConstant.VOLUME, "0%", "100%", 0f, 100f);
+
 	/**
 	 * Adapter property: role of a user -
 	 *  Adapter will base on this role to display/hide statistics for a specific role.
 	 */
 	private String configManagement;
 
+	/**
+	 * Parsed value of {@link #configManagement}, evaluated once when the property is set
+	 */
+	private volatile boolean configManagementEnabled;
+
+	/**
+	 * Executor of the precompiled {@link PollPlan}, keeps track of the device state class between polls
+	 */
+	private final PollPlanExecutor pollPlanExecutor = new PollPlanExecutor();
+
+	/**
+	 * Sends the commands of the poll plan through the telnet session
+	 */
+	private final PollStepHandler pollStepHandler = new TelnetPollStepHandler();
+
+	/**
+	 * Input stream of the current telnet session, captured in {@link #read(String, InputStream)} to read pipelined responses
+	 */
+	private volatile InputStream telnetInputStream;
+
+	/**
+	 * Splits the byte stream of the telnet session into responses, reset with the session
+	 */
+	private final FramedResponseReader framedResponseReader = new FramedResponseReader(getBufferLength());
+
+	/**
+	 * Requests of the current session still waiting for their reply, so that late replies are recognized as stale.
+	 * No reply is expected after the longest read timeout.
+	 */
+	private final OutstandingReplies outstandingReplies = new OutstandingReplies(statisticsTelnetTimeout);
+
+	/**
+	 * Login and the start of the requests built for it, see {@link #getRequestCredentials()}
+	 */
+	private volatile String[] requestCredentials;
+
+	/**
+	 * Transport used to reach the device, the telnet session of this communicator by default
+	 */
+	private volatile VIAConnectProTransport transport = new TelnetTransport();
+
+	/**
+	 * Adapter property: true to report per-command latencies, retries, timeouts, error codes and poll durations
+	 * as AdapterMetadata statistics. False (default) keeps them internal.
+	 */
+	private String commandMetrics;
+
+	/**
+	 * Parsed value of {@link #commandMetrics}
+	 */
+	private volatile boolean commandMetricsEnabled;
+
+	/**
+	 * Per-command metrics of the telnet session, always recorded
+	 */
+	private final AdapterMetrics adapterMetrics = new AdapterMetrics();
+
+	/**
+	 * Adapter property: destination of the spans of each getMultipleStatistics() cycle, one of log or ring.
+	 * Empty (default) disables tracing. JFR events of commands, sessions and controls are recorded regardless, see {@link FlightRecorderEvents}.
+	 */
+	private String traceSink;
+
+	/**
+	 * Errors of the polling path, logged in full once then summarized every {@link #errorSummaryInterval} ms
+	 */
+	private final AggregatedErrorLogger errorLogger = new AggregatedErrorLogger(logger, errorSummaryInterval);
+
+	/**
+	 * Times the phases of getMultipleStatistics() when {@link #traceSink} is set
+	 */
+	private final Tracer tracer = new Tracer();
+
+	/**
+	 * Adapter property: path of a file to append every request/response exchanged with the device to, with timestamps.
+	 * Empty (default) does not capture. Captures can be replayed offline with {@link ReplayingTransport}.
+	 */
+	private String captureFile;
+
+	/**
+	 * Adapter property: maximum number of independent monitoring commands written to the telnet session
+	 * before reading their responses. 1 (default) sends commands one after another.
+	 */
+	private String maxPipelinedCommands;
+
+	/**
+	 * Adapter property: maximum age in milliseconds of the last known device state for a control to be recognized as a no-op.
+	 * Vol|Set and Streaming|Set are not sent if the requested value already matches a state confirmed within this age.
+	 * Empty or invalid (default) always sends the command.
+	 */
+	private String noOpControlMaxAge;
+
+	/**
+	 * Parsed value of {@link #noOpControlMaxAge}, 0 if no-op controls are not suppressed
+	 */
+	private volatile long noOpControlMaxAgeMillis;
+
+	/**
+	 * Adapter property: maximum age in milliseconds of the last completed poll for {@link #getMultipleStatistics()} to return it without polling the device,
+	 * so that several consumers of the same room don't each trigger a poll. Empty or invalid (default) always polls.
+	 */
+	private String statisticsFreshness;
+
+	/**
+	 * Parsed value of {@link #statisticsFreshness}, 0 if every call polls the device
+	 */
+	private volatile long statisticsFreshnessMillis;
+
+	/**
+	 * Adapter property: directory of the node where the statistics of the last poll of every device are kept, one file per device.
+	 * On startup they are served until the first poll completes in the background. Empty (default) keeps nothing on disk.
+	 */
+	private String warmStartDirectory;
+
+	/**
+	 * Snapshot file of this device in {@link #warmStartDirectory}, resolved in {@link #internalInit()}, null if disabled
+	 */
+	private volatile Path warmStartFile;
+
+	/**
+	 * Adapter property: maximum age in milliseconds of the statistics of {@link #warmStartFile} for them to be served on startup.
+	 * Empty or invalid (default) uses {@link #warmStartDefaultMaxAge}.
+	 */
+	private String warmStartMaxAge;
+
+	/**
+	 * Parsed value of {@link #warmStartMaxAge}
+	 */
+	private volatile long warmStartMaxAgeMillis = warmStartDefaultMaxAge;
+
+	/**
+	 * Statistics loaded from {@link #warmStartFile}, served until the first poll after startup completes, null afterwards
+	 */
+	private final AtomicReference<StatisticsSnapshot> warmStartSnapshot = new AtomicReference<>();
+
+	/**
+	 * Background poll started by {@link #refreshWarmStart(StatisticsSnapshot)}, stopped by {@link #internalDestroy()}
+	 */
+	private volatile Thread warmStartRefresh;
+
+	/**
+	 * Statistics and state class last written to {@link #warmStartFile} and the time of the write, guarded by itself
+	 */
+	private final WarmStartSave lastWarmStartSave = new WarmStartSave();
+
 	/**
 	 * Retrieves {@code {@link #configManagement }}
 	 *
@@ -134,6 +372,235 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 */
 	public void setConfigManagement(String configManagement) {
 		this.configManagement = configManagement;
+		// If configManagement is null or empty => treat it as Moderator
+		this.configManagementEnabled = !StringUtils.isNullOrEmpty(configManagement)
+				&& configManagement.toLowerCase(Locale.ROOT).trim().equals(VIAConnectProConstant.TRUE);
+	}
+
+	/**
+	 * Retrieves {@code {@link #maxPipelinedCommands}}
+	 *
+	 * @return value of {@link #maxPipelinedCommands}
+	 */
+	public String getMaxPipelinedCommands() {
+		return maxPipelinedCommands;
+	}
+
+	/**
+	 * Sets {@code maxPipelinedCommands}
+	 *
+	 * @param maxPipelinedCommands the {@code java.lang.String} field
+	 */
+	public void setMaxPipelinedCommands(String maxPipelinedCommands) {
+		this.maxPipelinedCommands = maxPipelinedCommands;
+		int maxInFlight = 1;
+		if (!StringUtils.isNullOrEmpty(maxPipelinedCommands)) {
+			try {
+				maxInFlight = Integer.parseInt(maxPipelinedCommands.trim());
+			} catch (NumberFormatException e) {
+				logger.warn(String.format("Invalid maxPipelinedCommands value %s, commands will be sent one after another", maxPipelinedCommands));
+			}
+		}
+		pollPlanExecutor.setMaxInFlight(maxInFlight);
+	}
+
+	/**
+	 * Retrieves {@code {@link #noOpControlMaxAge}}
+	 *
+	 * @return value of {@link #noOpControlMaxAge}
+	 */
+	public String getNoOpControlMaxAge() {
+		return noOpControlMaxAge;
+	}
+
+	/**
+	 * Sets {@code noOpControlMaxAge}
+	 *
+	 * @param noOpControlMaxAge the {@code java.lang.String} field
+	 */
+	public void setNoOpControlMaxAge(String noOpControlMaxAge) {
+		this.noOpControlMaxAge = noOpControlMaxAge;
+		long maxAgeMillis = 0;
+		if (!StringUtils.isNullOrEmpty(noOpControlMaxAge)) {
+			try {
+				maxAgeMillis = Math.max(0, Long.parseLong(noOpControlMaxAge.trim()));
+			} catch (NumberFormatException e) {
+				logger.warn(String.format("Invalid noOpControlMaxAge value %s, controls will always be sent", noOpControlMaxAge));
+			}
+		}
+		this.noOpControlMaxAgeMillis = maxAgeMillis;
+	}
+
+	/**
+	 * Retrieves {@code {@link #statisticsFreshness}}
+	 *
+	 * @return value of {@link #statisticsFreshness}
+	 */
+	public String getStatisticsFreshness() {
+		return statisticsFreshness;
+	}
+
+	/**
+	 * Sets {@code statisticsFreshness}
+	 *
+	 * @param statisticsFreshness the {@code java.lang.String} field
+	 */
+	public void setStatisticsFreshness(String statisticsFreshness) {
+		this.statisticsFreshness = statisticsFreshness;
+		long freshnessMillis = 0;
+		if (!StringUtils.isNullOrEmpty(statisticsFreshness)) {
+			try {
+				freshnessMillis = Math.max(0, Long.parseLong(statisticsFreshness.trim()));
+			} catch (NumberFormatException e) {
+				logger.warn(String.format("Invalid statisticsFreshness value %s, statistics will be polled on every request", statisticsFreshness));
+			}
+		}
+		this.statisticsFreshnessMillis = freshnessMillis;
+	}
+
+	/**
+	 * Retrieves {@code {@link #warmStartDirectory}}
+	 *
+	 * @return value of {@link #warmStartDirectory}
+	 */
+	public String getWarmStartDirectory() {
+		return warmStartDirectory;
+	}
+
+	/**
+	 * Sets {@code warmStartDirectory}
+	 *
+	 * @param warmStartDirectory the {@code java.lang.String} field
+	 */
+	public void setWarmStartDirectory(String warmStartDirectory) {
+		this.warmStartDirectory = warmStartDirectory;
+	}
+
+	/**
+	 * Retrieves {@code {@link #warmStartMaxAge}}
+	 *
+	 * @return value of {@link #warmStartMaxAge}
+	 */
+	public String getWarmStartMaxAge() {
+		return warmStartMaxAge;
+	}
+
+	/**
+	 * Sets {@code warmStartMaxAge}
+	 *
+	 * @param warmStartMaxAge the {@code java.lang.String} field
+	 */
+	public void setWarmStartMaxAge(String warmStartMaxAge) {
+		this.warmStartMaxAge = warmStartMaxAge;
+		long maxAgeMillis = warmStartDefaultMaxAge;
+		if (!StringUtils.isNullOrEmpty(warmStartMaxAge)) {
+			try {
+				maxAgeMillis = Math.max(0, Long.parseLong(warmStartMaxAge.trim()));
+			} catch (NumberFormatException e) {
+				logger.warn(String.format("Invalid warmStartMaxAge value %s, statistics older than %d ms are not served on startup", warmStartMaxAge, warmStartDefaultMaxAge));
+			}
+		}
+		this.warmStartMaxAgeMillis = maxAgeMillis;
+	}
+
+	/**
+	 * Retrieves {@code {@link #commandMetrics}}
+	 *
+	 * @return value of {@link #commandMetrics}
+	 */
+	public String getCommandMetrics() {
+		return commandMetrics;
+	}
+
+	/**
+	 * Sets {@code commandMetrics}
+	 *
+	 * @param commandMetrics the {@code java.lang.String} field
+	 */
+	public void setCommandMetrics(String commandMetrics) {
+		this.commandMetrics = commandMetrics;
+		this.commandMetricsEnabled = !StringUtils.isNullOrEmpty(commandMetrics)
+				&& commandMetrics.toLowerCase(Locale.ROOT).trim().equals(VIAConnectProConstant.TRUE);
+	}
+
+	/**
+	 * Retrieves {@code {@link #adapterMetrics}}
+	 *
+	 * @return value of {@link #adapterMetrics}
+	 */
+	AdapterMetrics getAdapterMetrics() {
+		return adapterMetrics;
+	}
+
+	/**
+	 * Retrieves {@code {@link #traceSink}}
+	 *
+	 * @return value of {@link #traceSink}
+	 */
+	public String getTraceSink() {
+		return traceSink;
+	}
+
+	/**
+	 * Sets {@code traceSink}
+	 *
+	 * @param traceSink the {@code java.lang.String} field
+	 */
+	public void setTraceSink(String traceSink) {
+		this.traceSink = traceSink;
+		TraceSink sink = null;
+		if (!StringUtils.isNullOrEmpty(traceSink)) {
+			sink = TraceSinks.create(traceSink);
+			if (sink == null) {
+				logger.warn(String.format("Invalid or unavailable traceSink value %s, tracing is disabled", traceSink));
+			}
+		}
+		tracer.setSink(sink);
+	}
+
+	/**
+	 * Retrieves {@code {@link #tracer}}
+	 *
+	 * @return value of {@link #tracer}
+	 */
+	Tracer getTracer() {
+		return tracer;
+	}
+
+	/**
+	 * Retrieves {@code {@link #captureFile}}
+	 *
+	 * @return value of {@link #captureFile}
+	 */
+	public String getCaptureFile() {
+		return captureFile;
+	}
+
+	/**
+	 * Sets {@code captureFile}
+	 *
+	 * @param captureFile the {@code java.lang.String} field
+	 */
+	public void setCaptureFile(String captureFile) {
+		this.captureFile = captureFile;
+	}
+
+	/**
+	 * Retrieves {@code {@link #transport}}
+	 *
+	 * @return value of {@link #transport}
+	 */
+	VIAConnectProTransport getTransport() {
+		return transport;
+	}
+
+	/**
+	 * Sets {@code transport}, replaces the telnet session for tests, benchmarks and replays
+	 *
+	 * @param transport the {@code VIAConnectProTransport} field
+	 */
+	void setTransport(VIAConnectProTransport transport) {
+		this.transport = transport;
 	}
 
 	/**
@@ -146,10 +613,6 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 				Collections.singletonList(VIAConnectProConstant.END_COMMAND));
 		this.setCommandErrorList(Collections.singletonList("A"));
 		this.setLoginSuccessList(Collections.singletonList("Login\r\nLogin Successful.\nNow Please send a command:\r\n"));
-		// Instantiate cachedLocalExtendedStatistics
-		cachedLocalExtendedStatistics = new ExtendedStatistics();
-		cachedLocalExtendedStatistics.setStatistics(new HashMap<>());
-		cachedLocalExtendedStatistics.setControllableProperties(new ArrayList<>());
 	}
 
 	/**
@@ -158,15 +621,151 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	@Override
 	protected void internalInit() throws Exception {
 		super.internalInit();
+		startCapture();
+		warmStartSnapshot.set(null);
+		lastWarmStartSave.reset();
 		if (logger.isDebugEnabled()) {
 			logger.debug("VIAConnectProCommunicator-internalInit(): Creating telnet session");
 		}
 		// Check if device is reachable, then close the telnet session
-		this.createChannel();
+		transport.connect();
 		if (logger.isDebugEnabled()) {
 			logger.debug("VIAConnectProCommunicator-internalInit(): Closing telnet session");
 		}
-		this.destroyChannel();
+		disconnectTransport();
+		// Only serve the last statistics once the device is known to be reachable
+		StatisticsSnapshot snapshot = loadWarmStart();
+		if (snapshot != null) {
+			refreshWarmStart(snapshot);
+		}
+	}
+
+	/**
+	 * Resolve {@link #warmStartFile} and publish the statistics it holds as {@link #warmStartSnapshot}, with no controls until the first poll.
+	 * Statistics older than {@link #warmStartMaxAgeMillis} are not served.
+	 *
+	 * @return published snapshot, null if there is none
+	 */
+	private StatisticsSnapshot loadWarmStart() {
+		warmStartFile = null;
+		if (StringUtils.isNullOrEmpty(warmStartDirectory)) {
+			return null;
+		}
+		String deviceKey = getDeviceKey();
+		try {
+			Path file = Paths.get(warmStartDirectory.trim()).resolve("viaconnectpro-" + deviceKey.replaceAll("[^A-Za-z0-9.-]", "_") + ".snapshot");
+			warmStartFile = file;
+			WarmStartSnapshot stored = WarmStartSnapshot.read(file, deviceKey);
+			if (stored == null) {
+				return null;
+			}
+			long age = System.currentTimeMillis() - stored.getPolledAt();
+			if (age < 0 || age > warmStartMaxAgeMillis) {
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("VIAConnectProCommunicator-loadWarmStart(): Ignoring statistics polled %d ms ago from %s", age, file));
+				}
+				return null;
+			}
+			try {
+				pollPlanExecutor.setStateClass(PollStateClass.valueOf(stored.getStateClass()));
+			} catch (IllegalArgumentException e) {
+				pollPlanExecutor.reset();
+			}
+			StatisticsSnapshot snapshot = new StatisticsSnapshot(stored.getStatistics(), Collections.emptyList(), stored.getPolledAt(), Collections.emptyMap());
+			localSnapshot.set(snapshot);
+			warmStartSnapshot.set(snapshot);
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("VIAConnectProCommunicator-loadWarmStart(): Loaded %d statistics polled at %d from %s", stored.getStatistics().size(), stored.getPolledAt(), file));
+			}
+			return snapshot;
+		} catch (IOException | InvalidPathException e) {
+			logger.warn(String.format("Unable to load warm start snapshot from %s, the first poll starts empty", warmStartDirectory), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Run the first poll after startup in the background, {@link #warmStartSnapshot} is served until it completes.
+	 * If it fails the warm start statistics are dropped so that the failure is reported by the next call as usual.
+	 * The poll only clears the snapshot it was started for, not one loaded by a later {@link #internalInit()}.
+	 *
+	 * @param snapshot snapshot loaded from {@link #warmStartFile}
+	 */
+	private void refreshWarmStart(StatisticsSnapshot snapshot) {
+		Thread refresh = new Thread(() -> {
+			try {
+				pollOnce();
+			} catch (Exception exception) {
+				localSnapshot.compareAndSet(snapshot, null);
+				if (!Thread.currentThread().isInterrupted()) {
+					errorLogger.error("WarmStartRefresh", exception);
+				}
+			} finally {
+				warmStartSnapshot.compareAndSet(snapshot, null);
+			}
+		}, "VIAConnectPro warm start " + host);
+		refresh.setDaemon(true);
+		warmStartRefresh = refresh;
+		refresh.start();
+	}
+
+	/**
+	 * Cancel the background poll started by {@link #refreshWarmStart(StatisticsSnapshot)} and wait for it to end.
+	 * The poll is interrupted and its session closed, a cancelled poll publishes nothing.
+	 */
+	private void stopWarmStartRefresh() {
+		Thread refresh = warmStartRefresh;
+		warmStartRefresh = null;
+		if (refresh == null) {
+			return;
+		}
+		refresh.interrupt();
+		disconnectTransport();
+		try {
+			refresh.join(statisticsTelnetTimeout);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (refresh.isAlive()) {
+			logger.warn("VIAConnectProCommunicator: Warm start poll did not stop within the telnet timeout");
+		}
+	}
+
+	/**
+	 * Identity of the device in {@link #warmStartFile}
+	 *
+	 * @return host and port of the device
+	 */
+	private String getDeviceKey() {
+		return host + ":" + getPort();
+	}
+
+	/**
+	 * Keep the statistics of a poll in {@link #warmStartFile}, AdapterMetadata statistics are not kept since they describe this run only.
+	 * Called after {@link #reentrantLock} is released. The file is only rewritten when the statistics or the state class changed,
+	 * or when the saved ones are older than half of {@link #warmStartMaxAgeMillis}, so that an idle room stays servable on restart.
+	 *
+	 * @param snapshot snapshot of the poll
+	 */
+	private void saveWarmStart(StatisticsSnapshot snapshot) {
+		Path file = warmStartFile;
+		if (file == null) {
+			return;
+		}
+		Map<String, String> statistics = new LinkedHashMap<>(snapshot.getStatistics());
+		statistics.keySet().removeIf(property -> property.startsWith(AdapterMetrics.GROUP_NAME + VIAConnectProConstant.HASH));
+		String stateClass = pollPlanExecutor.getStateClass().name();
+		synchronized (lastWarmStartSave) {
+			if (!lastWarmStartSave.isStale(statistics, stateClass, snapshot.getPolledAt(), warmStartMaxAgeMillis / 2)) {
+				return;
+			}
+			try {
+				new WarmStartSnapshot(getDeviceKey(), snapshot.getPolledAt(), stateClass, statistics).write(file);
+				lastWarmStartSave.saved(statistics, stateClass, snapshot.getPolledAt());
+			} catch (IOException e) {
+				errorLogger.error("WarmStartSave", e);
+			}
+		}
 	}
 
 	/**
@@ -174,13 +773,63 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 */
 	@Override
 	protected void internalDestroy() {
-		cachedLocalExtendedStatistics.getStatistics().clear();
-		cachedLocalExtendedStatistics.getControllableProperties().clear();
+		stopWarmStartRefresh();
+		warmStartSnapshot.set(null);
+		warmStartFile = null;
+		cachedProperties.clear();
 		ioExceptionCommands.clear();
-		this.destroyChannel();
+		participantTable.clear();
+		userDropdownControl = null;
+		adapterMetrics.reset();
+		errorLogger.reset();
+		pollPlanExecutor.reset();
+		streamingStateMachine.reset();
+		disconnectTransport();
+		stopCapture();
 		super.internalDestroy();
 	}
 
+	/**
+	 * Close the session of the transport, replies of its outstanding requests cannot arrive on the next one
+	 */
+	private void disconnectTransport() {
+		outstandingReplies.clear();
+		transport.disconnect();
+	}
+
+	/**
+	 * Wrap the transport in a {@link CapturingTransport} if {@link #captureFile} is set
+	 */
+	private void startCapture() {
+		if (StringUtils.isNullOrEmpty(captureFile) || transport instanceof CapturingTransport) {
+			return;
+		}
+		try {
+			transport = new CapturingTransport(transport, Paths.get(captureFile.trim()));
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("VIAConnectProCommunicator-startCapture(): Capturing telnet exchanges to %s", captureFile));
+			}
+		} catch (IOException | InvalidPathException e) {
+			logger.warn(String.format("Unable to open capture file %s, telnet exchanges are not captured", captureFile), e);
+		}
+	}
+
+	/**
+	 * Close the capture file and restore the captured transport
+	 */
+	private void stopCapture() {
+		if (!(transport instanceof CapturingTransport)) {
+			return;
+		}
+		CapturingTransport capturingTransport = (CapturingTransport) transport;
+		transport = capturingTransport.getDelegate();
+		try {
+			capturingTransport.close();
+		} catch (IOException e) {
+			logger.warn(String.format("Capture to %s failed, the capture file may be incomplete", captureFile), e);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -192,10 +841,13 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 			logger.debug(String.format("Perform control operation with property: %s and value: %s", property, propertyValue));
 		}
 
+		Object controlEvent = FlightRecorderEvents.beginControl();
+		String controlResult = TraceSpan.ERROR;
 		reentrantLock.lock();
 		try {
 			this.timeout = controlTelnetTimeout;
 			if(!isLogin()){
+				controlResult = "NotLoggedIn";
 				return;
 			}
 			String groupName = property.substring(0, property.indexOf(VIAConnectProConstant.HASH));
@@ -225,37 +877,152 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 					}
 					throw new IllegalArgumentException(String.format("Operation %s with value %s is not supported.", property, propertyValue));
 			}
+			controlResult = FlightRecorderEvents.OK;
+		} catch (Exception exception) {
+			controlResult = Tracer.outcomeOf(exception);
+			throw exception;
 		} finally {
 			this.timeout = statisticsTelnetTimeout;
 			reentrantLock.unlock();
+			FlightRecorderEvents.commitControl(controlEvent, host, property, propertyValue, controlResult);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> list) throws Exception {
+		if (CollectionUtils.isEmpty(list)) {
+			throw new IllegalArgumentException("Controllable properties cannot be null or empty");
 		}
+		for (ControllableProperty controllableProperty : list) {
+			controlProperty(controllableProperty);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void login() throws Exception {
+		long loginSpan = tracer.start();
+		Object loginEvent = FlightRecorderEvents.beginSession();
+		String outcome = TraceSpan.ERROR;
+		try {
+			List<String> param = new ArrayList<>();
+			this.write(buildTelnetRequest(VIAConnectProControllingMetric.LOGIN.getCommand(), param, true));
+			super.login();
+			outcome = TraceSpan.OK;
+		} catch (Exception exception) {
+			outcome = Tracer.outcomeOf(exception);
+			throw exception;
+		} finally {
+			tracer.end(SpanKind.LOGIN, null, loginSpan, outcome);
+			FlightRecorderEvents.commitSession(loginEvent, host, FlightRecorderEvents.LOGIN, outcome);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Keep a reference to the input stream of the session so that pipelined responses can be read.
+	 * Responses of commands are read by {@link #framedResponseReader}, login prompts (null command) don't end with \r\n and are read as usual.
+	 */
+	@Override
+	protected String read(String command, InputStream in) throws Exception {
+		if (this.telnetInputStream != in) {
+			framedResponseReader.reset();
+			this.telnetInputStream = in;
+		}
+		if (command == null) {
+			return super.read(null, in);
+		}
+		return framedResponseReader.readResponses(in, this.timeout, command);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void destroyChannel() {
+		this.telnetInputStream = null;
+		framedResponseReader.reset();
+		super.destroyChannel();
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * Single-flight: a caller arriving while another one polls the device gets the result of that poll,
+	 * and a caller arriving within {@link #statisticsFreshnessMillis} of the last completed poll gets its snapshot.
+	 * Right after startup, {@link #warmStartSnapshot} is returned while the first poll runs in the background.
 	 */
 	@Override
-	public void controlProperties(List<ControllableProperty> list) throws Exception {
-		if (CollectionUtils.isEmpty(list)) {
-			throw new IllegalArgumentException("Controllable properties cannot be null or empty");
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		StatisticsSnapshot warmSnapshot = warmStartSnapshot.get();
+		if (warmSnapshot != null) {
+			return Collections.singletonList(warmSnapshot.getExtendedStatistics());
 		}
-		for (ControllableProperty controllableProperty : list) {
-			controlProperty(controllableProperty);
+		StatisticsSnapshot snapshot = localSnapshot.get();
+		long freshnessMillis = statisticsFreshnessMillis;
+		if (freshnessMillis > 0 && snapshot != null && !isCachedControlling && System.currentTimeMillis() - snapshot.getPolledAt() < freshnessMillis) {
+			adapterMetrics.recordFreshSnapshotRequest();
+			return Collections.singletonList(snapshot.getExtendedStatistics());
 		}
+		return pollOnce();
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Poll the device, or wait for the result of the poll another caller has in flight
+	 *
+	 * @return List of statistics
+	 * @throws Exception if the device cannot be polled
 	 */
-	@Override
-	protected void login() throws Exception {
-		List<String> param = new ArrayList<>();
-		this.write(buildTelnetRequest(VIAConnectProControllingMetric.LOGIN.getCommand(), param, true));
-		super.login();
+	private List<Statistics> pollOnce() throws Exception {
+		CompletableFuture<List<Statistics>> poll = new CompletableFuture<>();
+		CompletableFuture<List<Statistics>> currentPoll;
+		while ((currentPoll = inFlightPoll.get()) != null || !inFlightPoll.compareAndSet(null, poll)) {
+			if (currentPoll != null) {
+				adapterMetrics.recordCoalescedRequest();
+				return awaitPoll(currentPoll);
+			}
+		}
+		try {
+			List<Statistics> statistics = pollStatistics();
+			poll.complete(statistics);
+			return statistics;
+		} catch (Exception exception) {
+			poll.completeExceptionally(exception);
+			throw exception;
+		} finally {
+			inFlightPoll.compareAndSet(poll, null);
+		}
 	}
 
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
+	/**
+	 * Wait for the poll of another caller
+	 *
+	 * @param poll result of the poll in flight
+	 * @return statistics of the poll
+	 * @throws Exception the failure of the poll
+	 */
+	private List<Statistics> awaitPoll(CompletableFuture<List<Statistics>> poll) throws Exception {
+		try {
+			return poll.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Poll the device, or merge cached controls into the last snapshot right after {@link #controlProperty(ControllableProperty)}
+	 *
+	 * @return List of statistics
+	 * @throws Exception if the device cannot be polled
+	 */
+	private List<Statistics> pollStatistics() throws Exception {
 		if (logger.isDebugEnabled()) {
 			if (isCachedControlling) {
 				logger.debug("VIAConnectProCommunicator: Perform getMultipleStatistics() after controlProperty()");
@@ -263,60 +1030,80 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 				logger.debug("VIAConnectProCommunicator: Perform getMultipleStatistics()");
 			}
 		}
-		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-		reentrantLock.lock();
+		StatisticsSnapshot polledSnapshot;
+		long lockWaitSpan = tracer.start();
+		reentrantLock.lockInterruptibly();
+		long pollSpan = tracer.startTrace();
+		tracer.end(SpanKind.LOCK_WAIT, null, lockWaitSpan, TraceSpan.OK);
+		String pollOutcome = TraceSpan.ERROR;
 		try {
 			// Populate statistics after controlProperty with cached statistics
-			if (isCachedControlling && cachedLocalExtendedStatistics != null && localExtendedStatistics != null) {
-				Map<String, String> cachedStats = cachedLocalExtendedStatistics.getStatistics();
-				List<AdvancedControllableProperty> cachedControls = cachedLocalExtendedStatistics.getControllableProperties();
-				Map<String, String> currentStats = localExtendedStatistics.getStatistics();
-				List<AdvancedControllableProperty> currentControls = localExtendedStatistics.getControllableProperties();
-				if (isStreamingControl) {
-					isStreamingControl = false;
-					populateCachedStreamingControl(currentStats, currentControls, cachedControls);
-				}
-				currentStats.putAll(cachedStats);
-				populateCachedControlProperties(currentControls, cachedControls);
+			StatisticsSnapshot snapshot = localSnapshot.get();
+			if (isCachedControlling && snapshot != null) {
+				Map<String, String> currentStats = snapshot.copyStatistics();
+				List<AdvancedControllableProperty> currentControls = new ArrayList<>(snapshot.getControllableProperties());
+				populateCachedStreamingControl(currentStats, currentControls);
+				cachedProperties.mergeInto(currentStats, currentControls);
+				StatisticsSnapshot mergedSnapshot = snapshot.withStatistics(currentStats, currentControls);
+				localSnapshot.set(mergedSnapshot);
 				isCachedControlling = false;
-				return Collections.singletonList(localExtendedStatistics);
+				pollOutcome = TraceSpan.OK;
+				return Collections.singletonList(mergedSnapshot.getExtendedStatistics());
 			}
-			if(!isLogin()){
-				throw new RuntimeException("Unable to establish a telnet communication session");
+			long pollStart = System.nanoTime();
+			PollResult pollResult;
+			try {
+				if(!isLogin()){
+					throw new RuntimeException("Unable to establish a telnet communication session");
+				}
+				// Populate new statistics
+				pollResult = pollPlanExecutor.execute(isConfigManagement(), pollStepHandler);
+			} catch (Exception exception) {
+				adapterMetrics.recordFailedPoll();
+				pollOutcome = Tracer.outcomeOf(exception);
+				throw exception;
 			}
-			// Populate new statistics
-			Map<String, String> newStats = new HashMap<>();
+			streamingStateMachine.onPollResult(pollResult);
+			ParticipantListDTO participantListDTO = getListParticipant(pollResult);
+			Map<String, String> newStats = new StatisticsMap();
 			List<AdvancedControllableProperty> newControls = new ArrayList<>();
-			populateStatistics(newStats, newControls);
-			extendedStatistics.setStatistics(newStats);
-			extendedStatistics.setControllableProperties(newControls);
+			populateStatistics(newStats, newControls, pollResult, participantListDTO);
+			adapterMetrics.recordPoll(System.nanoTime() - pollStart);
+			if (commandMetricsEnabled) {
+				adapterMetrics.populateStatistics(newStats);
+			}
 			// Populate cached stats and controls to new statistics
 			// This cached stats and controls will be removed if internalDestroy() is called -
 			// or button is clicked.
-			if (cachedLocalExtendedStatistics != null) {
-				Map<String, String> cachedStats = cachedLocalExtendedStatistics.getStatistics();
-				List<AdvancedControllableProperty> cachedControls = cachedLocalExtendedStatistics.getControllableProperties();
-				if (getListParticipant().getUserAndStatusMap().size() == 0) {
-					removeCachedStatisticAndControl(cachedStats, cachedControls, VIAConnectProMonitoringMetric.PLIST_CNT.getGroupName());
-					removeCachedStatisticAndControl(cachedStats, cachedControls, VIAConnectProControllingMetric.STREAMING_START.getGroupName());
-				}
-				populateCachedStreamingControl(newStats, newControls, cachedControls);
-				newStats.putAll(cachedStats);
-				populateCachedControlProperties(newControls, cachedControls);
+			if (participantListDTO.getUserAndStatusMap().size() == 0) {
+				cachedProperties.removeGroup(VIAConnectProMonitoringMetric.PLIST_CNT.getGroupName());
+				cachedProperties.removeGroup(VIAConnectProControllingMetric.STREAMING_START.getGroupName());
+			}
+			populateCachedStreamingControl(newStats, newControls);
+			cachedProperties.mergeInto(newStats, newControls);
+			polledSnapshot = new StatisticsSnapshot(newStats, newControls, System.currentTimeMillis(), Collections.emptyMap());
+			if (Thread.currentThread().isInterrupted()) {
+				// Cancelled by internalDestroy(), see stopWarmStartRefresh()
+				throw new InterruptedException("Poll cancelled, statistics are not published");
 			}
+			localSnapshot.set(polledSnapshot);
+			pollOutcome = TraceSpan.OK;
 		} finally {
 			try{
 				if (logger.isDebugEnabled()) {
 					logger.debug("VIAConnectProCommunicator: Closing session");
 				}
-				this.destroyChannel();
+				disconnectTransport();
 			}
 			finally {
+				errorLogger.flushIfDue();
+				tracer.end(SpanKind.POLL, null, pollSpan, pollOutcome);
 				reentrantLock.unlock();
 			}
 		}
-		localExtendedStatistics = extendedStatistics;
-		return Collections.singletonList(localExtendedStatistics);
+		// Disk I/O is kept out of reentrantLock, controls don't wait for it
+		saveWarmStart(polledSnapshot);
+		return Collections.singletonList(polledSnapshot.getExtendedStatistics());
 	}
 
 	/**
@@ -324,54 +1111,57 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 *
 	 * @param statistics Map of statistics
 	 * @param controls List of AdvancedControllableProperty
+	 * @param pollResult Responses of the poll plan
+	 * @param participantListDTO DTO of participant list
 	 */
-	private void populateStatistics(Map<String, String> statistics, List<AdvancedControllableProperty> controls) {
+	private void populateStatistics(Map<String, String> statistics, List<AdvancedControllableProperty> controls, PollResult pollResult, ParticipantListDTO participantListDTO) {
 		List<String> noneValueStatistics = new ArrayList<>();
-		populateNonGroupProperties(statistics, noneValueStatistics);
-		populateDeviceSettingsGroup(statistics, controls, noneValueStatistics);
-		populateDeviceSettingsModeratorGroup(statistics, noneValueStatistics);
-		populateDeviceSettingsRoomOverlayGroup(statistics, noneValueStatistics);
-		populateParticipantGroup(statistics, controls);
-		populateUserModeration(statistics, controls);
+		// Each group handles its own failures, spans only time them
+		long span = tracer.start();
+		populateNonGroupProperties(statistics, noneValueStatistics, pollResult);
+		tracer.end(SpanKind.POPULATE, "NonGroupProperties", span, TraceSpan.OK);
+		span = tracer.start();
+		populateDeviceSettingsGroup(statistics, controls, noneValueStatistics, pollResult);
+		tracer.end(SpanKind.POPULATE, "DeviceSettings", span, TraceSpan.OK);
+		span = tracer.start();
+		populateDeviceSettingsModeratorGroup(statistics, noneValueStatistics, pollResult);
+		tracer.end(SpanKind.POPULATE, "DeviceSettingsModerator", span, TraceSpan.OK);
+		span = tracer.start();
+		populateDeviceSettingsRoomOverlayGroup(statistics, noneValueStatistics, pollResult);
+		tracer.end(SpanKind.POPULATE, "DeviceSettingsRoomOverlay", span, TraceSpan.OK);
+		span = tracer.start();
+		populateParticipantGroup(statistics, controls, participantListDTO);
+		tracer.end(SpanKind.POPULATE, "Participant", span, TraceSpan.OK);
+		span = tracer.start();
+		populateUserModeration(statistics, controls, pollResult, participantListDTO);
+		tracer.end(SpanKind.POPULATE, "UserModeration", span, TraceSpan.OK);
+		span = tracer.start();
 		populateStreamingFromExternalToDevice(statistics, controls);
-		populateStreamingFromDeviceToExternal(statistics, controls);
+		tracer.end(SpanKind.POPULATE, "StreamingFromExternalToDevice", span, TraceSpan.OK);
+		span = tracer.start();
+		populateStreamingFromDeviceToExternal(statistics, controls, pollResult);
+		tracer.end(SpanKind.POPULATE, "StreamingFromDeviceToExternal", span, TraceSpan.OK);
+		span = tracer.start();
 		populateNoneProperties(statistics, noneValueStatistics);
+		tracer.end(SpanKind.POPULATE, "NoneProperties", span, TraceSpan.OK);
 	}
 
 	/**
 	 * Get list of participant (number of logged-in user, username-status)
-	 * This command might be used multiple time to make sure the list of usernames is always up-to-date
+	 * The participant list is retrieved once per poll and shared by every group that needs it.
 	 *
+	 * @param pollResult Responses of the poll plan
 	 * @return ParticipantListDTO DTO of participant list
 	 */
-	private ParticipantListDTO getListParticipant() {
+	ParticipantListDTO getListParticipant(PollResult pollResult) {
 		ParticipantListDTO participantListDTO = new ParticipantListDTO();
-		List<String> param2 = Arrays.asList(VIAConnectProMonitoringMetric.PLIST_All_STATUS.getParam().split(VIAConnectProConstant.COMMA));
-		String rawUserNames = sendTelnetCommand(VIAConnectProMonitoringMetric.PLIST_All_STATUS.getCommand(), param2, false);
+		String rawUserNames = pollResult.getResponse(VIAConnectProMonitoringMetric.PLIST_All_STATUS);
 		String[] rawUsernameAndStatus = rawUserNames.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
 		String rawResponse = rawUsernameAndStatus[rawUsernameAndStatus.length - 1];
-		if (rawResponse.equals(VIAConnectProErrorMetric.ERROR_14.getErrorCode())) {
-			participantListDTO.setLoggedInUsers(0);
-			participantListDTO.setUserAndStatusMap(new HashMap<>());
-			return participantListDTO;
-		}
-		String[] usernamesAndStatus = rawResponse.split(VIAConnectProConstant.HASH);
-		int numberOfUsers = usernamesAndStatus.length;
-		participantListDTO.setLoggedInUsers(numberOfUsers);
-		if (numberOfUsers == 0) {
-			participantListDTO.setUserAndStatusMap(new HashMap<>());
-			return participantListDTO;
-		}
-		Map<String, String> userNameAndStatusMap = new HashMap<>();
-		for (String usernameAndStatus : usernamesAndStatus) {
-			if (usernameAndStatus.contains(VIAConnectProConstant.UNDER_SCORE)) {
-				String username = usernameAndStatus.substring(0, usernameAndStatus.lastIndexOf(VIAConnectProConstant.UNDER_SCORE));
-				String status = usernameAndStatus.substring(usernameAndStatus.lastIndexOf(VIAConnectProConstant.UNDER_SCORE) + 1);
-				userNameAndStatusMap.put(username, status);
-			}
-		}
-
-		participantListDTO.setUserAndStatusMap(userNameAndStatusMap);
+		// The table skips parsing if the list is the same as the one of the previous call
+		participantTable.update(rawResponse.equals(VIAConnectProErrorMetric.ERROR_14.getErrorCode()) ? null : rawResponse);
+		participantListDTO.setLoggedInUsers(participantTable.getParticipantCount());
+		participantListDTO.setUserAndStatusMap(participantTable.getUserAndStatusMap());
 		return participantListDTO;
 	}
 
@@ -395,13 +1185,14 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 *
 	 * @param statistics Map of statistics
 	 * @param noneValueStatistics List of properties that contain exception
+	 * @param pollResult Responses of the poll plan
 	 */
-	private void populateNonGroupProperties(Map<String, String> statistics, List<String> noneValueStatistics) {
+	void populateNonGroupProperties(Map<String, String> statistics, List<String> noneValueStatistics, PollResult pollResult) {
 		// IP Information
 		try {
-			String rawIpInformation = sendTelnetCommand(VIAConnectProMonitoringMetric.IP_INFORMATION.getCommand(), Collections.singletonList(VIAConnectProMonitoringMetric.IP_INFORMATION.getParam()), false);
+			String rawIpInformation = pollResult.getResponse(VIAConnectProMonitoringMetric.IP_INFORMATION);
 			String[] ipInformation = rawIpInformation.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
-			if (ipInformation.length != 5) {
+			if (ipInformation.length != VIAConnectProMonitoringMetric.IP_INFORMATION.getDescriptor().getFieldCount()) {
 				throw new ResourceNotReachableException("Error while getting ip information, the response doesn't contain the expected length");
 			}
 			statistics.put(VIAConnectProConstant.IP_ADDRESS, ipInformation[0].split(VIAConnectProConstant.COLON)[1]);
@@ -415,62 +1206,63 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 			noneValueStatistics.add(VIAConnectProConstant.DEFAULT_GATEWAY);
 			noneValueStatistics.add(VIAConnectProConstant.DNS_SERVER);
 			noneValueStatistics.add(VIAConnectProConstant.HOST_NAME);
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(VIAConnectProConstant.IP_ADDRESS, exception);
 		}
 		// Room code
 		try {
-			String rawRoomCode = sendTelnetCommand(VIAConnectProMonitoringMetric.ROOM_CODE.getCommand(), Arrays.asList(VIAConnectProMonitoringMetric.ROOM_CODE.getParam().split(VIAConnectProConstant.COMMA)), false);
-			if (rawRoomCode.contains(VIAConnectProErrorMetric.ERROR_21.getErrorCode())) {
-				throw new ResourceNotReachableException(String.format("Populate failed - Response error code: %s, error description: %s", VIAConnectProErrorMetric.ERROR_21.getErrorCode(), VIAConnectProErrorMetric.ERROR_21.getErrorDescription()));
+			DeviceReply roomCodeReply = pollResult.getReply(VIAConnectProMonitoringMetric.ROOM_CODE);
+			VIAConnectProErrorMetric error = VIAConnectProMonitoringMetric.ROOM_CODE.getDescriptor().errorOf(roomCodeReply.getRaw());
+			if (error != null) {
+				throw new ResourceNotReachableException(String.format("Populate failed - Response error code: %s, error description: %s", error.getErrorCode(), error.getErrorDescription()));
 			} else {
-				String roomCode = rawResponseHandling(rawRoomCode);
+				String roomCode = roomCodeReply.getValue();
 				statistics.put(VIAConnectProConstant.ROOM_CODE, roomCode);
 			}
 		} catch (Exception exception) {
 			noneValueStatistics.add(VIAConnectProConstant.ROOM_CODE);
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(VIAConnectProConstant.ROOM_CODE, exception);
 		}
 		// Version
-		List<String> param = Collections.singletonList(VIAConnectProMonitoringMetric.VERSION_GET.getParam());
 		try {
-			String rawGatewayVersion = sendTelnetCommand(VIAConnectProMonitoringMetric.VERSION_GET.getCommand(), param, false);
-			if (rawGatewayVersion.contains(VIAConnectProErrorMetric.ERROR_703.getErrorCode())) {
-				throw new ResourceNotReachableException(String.format("Populate failed - Response error code: %s, error description: %s", VIAConnectProErrorMetric.ERROR_703.getErrorCode(), VIAConnectProErrorMetric.ERROR_703.getErrorDescription()));
+			DeviceReply gatewayVersionReply = pollResult.getReply(VIAConnectProMonitoringMetric.VERSION_GET);
+			VIAConnectProErrorMetric error = VIAConnectProMonitoringMetric.VERSION_GET.getDescriptor().errorOf(gatewayVersionReply.getRaw());
+			if (error != null) {
+				throw new ResourceNotReachableException(String.format("Populate failed - Response error code: %s, error description: %s", error.getErrorCode(), error.getErrorDescription()));
 			} else {
-				String gatewayVersion = rawResponseHandling(rawGatewayVersion);
+				String gatewayVersion = gatewayVersionReply.getValue();
 				statistics.put(VIAConnectProConstant.VERSION, gatewayVersion);
 			}
 		} catch (Exception exception) {
 			noneValueStatistics.add(VIAConnectProConstant.VERSION);
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(VIAConnectProConstant.VERSION, exception);
 		}
 		// MacAddress
 		try {
-			param = Collections.singletonList(VIAConnectProMonitoringMetric.MAC_ADDRESS_GET.getParam());
-			String rawGatewayMacAddress = sendTelnetCommand(VIAConnectProMonitoringMetric.MAC_ADDRESS_GET.getCommand(), param, false);
-			if (rawGatewayMacAddress.contains(VIAConnectProErrorMetric.ERROR_702.getErrorCode())) {
-				throw new ResourceNotReachableException(String.format("Populate failed - Response error code: %s, error description: %s", VIAConnectProErrorMetric.ERROR_702.getErrorCode(), VIAConnectProErrorMetric.ERROR_702.getErrorDescription()));
+			DeviceReply gatewayMacAddressReply = pollResult.getReply(VIAConnectProMonitoringMetric.MAC_ADDRESS_GET);
+			VIAConnectProErrorMetric error = VIAConnectProMonitoringMetric.MAC_ADDRESS_GET.getDescriptor().errorOf(gatewayMacAddressReply.getRaw());
+			if (error != null) {
+				throw new ResourceNotReachableException(String.format("Populate failed - Response error code: %s, error description: %s", error.getErrorCode(), error.getErrorDescription()));
 			} else {
-				String gatewayMacAddress = rawResponseHandling(rawGatewayMacAddress);
+				String gatewayMacAddress = gatewayMacAddressReply.getValue();
 				statistics.put(VIAConnectProConstant.MAC_ADDRESS, gatewayMacAddress);
 			}
 		} catch (Exception exception) {
 			noneValueStatistics.add(VIAConnectProConstant.MAC_ADDRESS);
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(VIAConnectProConstant.MAC_ADDRESS, exception);
 		}
 		// Serial number
 		try {
-			param = Collections.singletonList(VIAConnectProMonitoringMetric.SERIAL_NUMBER_GET.getParam());
-			String rawGatewaySerialNumber = sendTelnetCommand(VIAConnectProMonitoringMetric.SERIAL_NUMBER_GET.getCommand(), param, false);
-			if (rawGatewaySerialNumber.contains(VIAConnectProErrorMetric.ERROR_701.getErrorCode())) {
-				throw new ResourceNotReachableException(String.format("Populate failed - Response error code: %s, error description: %s", VIAConnectProErrorMetric.ERROR_701.getErrorCode(), VIAConnectProErrorMetric.ERROR_701.getErrorDescription()));
+			DeviceReply gatewaySerialNumberReply = pollResult.getReply(VIAConnectProMonitoringMetric.SERIAL_NUMBER_GET);
+			VIAConnectProErrorMetric error = VIAConnectProMonitoringMetric.SERIAL_NUMBER_GET.getDescriptor().errorOf(gatewaySerialNumberReply.getRaw());
+			if (error != null) {
+				throw new ResourceNotReachableException(String.format("Populate failed - Response error code: %s, error description: %s", error.getErrorCode(), error.getErrorDescription()));
 			} else {
-				String gatewaySerialNumber = rawResponseHandling(rawGatewaySerialNumber);
+				String gatewaySerialNumber = gatewaySerialNumberReply.getValue();
 				statistics.put(VIAConnectProConstant.SERIAL_NUMBER, gatewaySerialNumber);
 			}
 		} catch (Exception exception) {
 			noneValueStatistics.add(VIAConnectProConstant.SERIAL_NUMBER);
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(VIAConnectProConstant.SERIAL_NUMBER, exception);
 		}
 	}
 
@@ -480,97 +1272,101 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 * @param statistics Map of statistics
 	 * @param controls List of AdvancedControllableProperty
 	 * @param noneValueStatistics List of properties that contain exception
+	 * @param pollResult Responses of the poll plan
 	 */
-	private void populateDeviceSettingsGroup(Map<String, String> statistics, List<AdvancedControllableProperty> controls, List<String> noneValueStatistics) {
+	private void populateDeviceSettingsGroup(Map<String, String> statistics, List<AdvancedControllableProperty> controls, List<String> noneValueStatistics, PollResult pollResult) {
 		if (!isConfigManagement()) {
 			return;
 		}
 		// Activate system log
 		String groupName = VIAConnectProMonitoringMetric.ACTIVE_SYSTEM_LOG_GET.getGroupName();
-
-		List<String> param = Collections.singletonList(VIAConnectProMonitoringMetric.ACTIVE_SYSTEM_LOG_GET.getParam());
 		try {
-			String rawLogModeStatus = sendTelnetCommand(VIAConnectProMonitoringMetric.ACTIVE_SYSTEM_LOG_GET.getCommand(), param, false);
-			String logModeStatus = rawResponseHandling(rawLogModeStatus);
+			DeviceReply logModeStatusReply = pollResult.getReply(VIAConnectProMonitoringMetric.ACTIVE_SYSTEM_LOG_GET);
+			String logModeStatus = logModeStatusReply.getValue();
 			String logModeString = VIAConnectProConstant.ZERO.equals(logModeStatus) ? VIAConnectProConstant.DISABLED : VIAConnectProConstant.ENABLED;
 			statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.ACTIVATE_SYSTEM_LOG), logModeString);
 		} catch (Exception exception) {
 			noneValueStatistics.add(String.format("%s#%s", groupName, VIAConnectProConstant.ACTIVATE_SYSTEM_LOG));
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(String.format("%s#%s", groupName, VIAConnectProConstant.ACTIVATE_SYSTEM_LOG), exception);
 		}
 		// Chrome join through browser
 		try {
-			param = Collections.singletonList(VIAConnectProMonitoringMetric.CHROME_JOIN_THROUGH_BROWSER_GET.getParam());
-			String rawChromeStatus = sendTelnetCommand(VIAConnectProMonitoringMetric.CHROME_JOIN_THROUGH_BROWSER_GET.getCommand(), param, false);
-			String chromeStatus = rawResponseHandling(rawChromeStatus);
+			DeviceReply chromeStatusReply = pollResult.getReply(VIAConnectProMonitoringMetric.CHROME_JOIN_THROUGH_BROWSER_GET);
+			String chromeStatus = chromeStatusReply.getValue();
 			String chromeStatusString = VIAConnectProConstant.ZERO.equals(chromeStatus) ? VIAConnectProConstant.DISABLED : VIAConnectProConstant.ENABLED;
 			statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.JOIN_THROUGH_BROWSER), chromeStatusString);
 		} catch (Exception exception) {
 			noneValueStatistics.add(String.format("%s#%s", groupName, VIAConnectProConstant.JOIN_THROUGH_BROWSER));
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(String.format("%s#%s", groupName, VIAConnectProConstant.JOIN_THROUGH_BROWSER), exception);
 		}
 		// Chrome API Mode
 		try {
-			param = Collections.singletonList(VIAConnectProMonitoringMetric.CHROME_API_MODE_GET.getParam());
-			String rawChromeAPIModeStatus = sendTelnetCommand(VIAConnectProMonitoringMetric.CHROME_API_MODE_GET.getCommand(), param, false);
-			String chromeAPIModeStatus = rawResponseHandling(rawChromeAPIModeStatus);
+			DeviceReply chromeAPIModeStatusReply = pollResult.getReply(VIAConnectProMonitoringMetric.CHROME_API_MODE_GET);
+			String chromeAPIModeStatus = chromeAPIModeStatusReply.getValue();
 			String chromeAPIModeStatusString = VIAConnectProConstant.ZERO.equals(chromeAPIModeStatus) ? VIAConnectProConstant.NON_SECURE : VIAConnectProConstant.SECURE;
 			statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.API_SETTINGS_COMMAND), chromeAPIModeStatusString);
 		} catch (Exception exception) {
 			noneValueStatistics.add(String.format("%s#%s", groupName, VIAConnectProConstant.API_SETTINGS_COMMAND));
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(String.format("%s#%s", groupName, VIAConnectProConstant.API_SETTINGS_COMMAND), exception);
 		}
 		// Quick client access
 		try {
-			param = Collections.singletonList(VIAConnectProMonitoringMetric.QUICK_CLIENT_ACCESS_GET.getParam());
-			String rawQuickClientAccessStatus = sendTelnetCommand(VIAConnectProMonitoringMetric.QUICK_CLIENT_ACCESS_GET.getCommand(), param, false);
-			String quickClientAccessStatusInt = rawResponseHandling(rawQuickClientAccessStatus);
+			DeviceReply quickClientAccessStatusReply = pollResult.getReply(VIAConnectProMonitoringMetric.QUICK_CLIENT_ACCESS_GET);
+			String quickClientAccessStatusInt = quickClientAccessStatusReply.getValue();
 			String quickClientAccessStatus = VIAConnectProConstant.ONE.equals(quickClientAccessStatusInt) ? VIAConnectProConstant.ENABLED : VIAConnectProConstant.DISABLED;
 			statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.QUICK_CLIENT_ACCESS), quickClientAccessStatus);
 		} catch (Exception exception) {
 			noneValueStatistics.add(String.format("%s#%s", groupName, VIAConnectProConstant.QUICK_CLIENT_ACCESS));
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(String.format("%s#%s", groupName, VIAConnectProConstant.QUICK_CLIENT_ACCESS), exception);
 		}
 		// Volume
 		try {
-			String rawVolume = sendTelnetCommand(VIAConnectProMonitoringMetric.VOLUME.getCommand(), Collections.singletonList(VIAConnectProMonitoringMetric.VOLUME.getParam()), false);
-			String[] splitVolume = rawVolume.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
-			String volume = splitVolume[2];
-			statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.VOLUME), volume);
-			controls.add(createSlider(String.format("%s#%s", groupName, VIAConnectProConstant.VOLUME), "0%", "100%", 0f, 100f, Float.valueOf(volume)));
+			DeviceReply volumeReply = pollResult.getReply(VIAConnectProMonitoringMetric.VOLUME);
+			populateVolume(statistics, controls, volumeReply.getField(2));
 		} catch (Exception exception) {
 			noneValueStatistics.add(String.format("%s#%s", groupName, VIAConnectProConstant.VOLUME));
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(String.format("%s#%s", groupName, VIAConnectProConstant.VOLUME), exception);
 		}
 	}
 
+	/**
+	 * Populate volume statistic and slider
+	 *
+	 * @param statistics Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @param volume value of volume
+	 */
+	private void populateVolume(Map<String, String> statistics, List<AdvancedControllableProperty> controls, String volume) {
+		statistics.put(volumeControl.getName(), volume);
+		controls.add(volumeControl.create(new Date(), Float.valueOf(volume)));
+	}
+
 	/**
 	 * Populate statistics and controls for DeviceSettings-Moderator group
 	 *
 	 * @param statistics Map of statistics
 	 * @param noneValueStatistics List of properties that contain exception
+	 * @param pollResult Responses of the poll plan
 	 */
-	private void populateDeviceSettingsModeratorGroup(Map<String, String> statistics, List<String> noneValueStatistics) {
+	private void populateDeviceSettingsModeratorGroup(Map<String, String> statistics, List<String> noneValueStatistics, PollResult pollResult) {
 		if (!isConfigManagement()) {
 			return;
 		}
 		String groupName = VIAConnectProMonitoringMetric.PART_PRESENT_CONFIRM_GET.getGroupName();
 		// Moderator-Status
-		List<String> param = Collections.singletonList(VIAConnectProMonitoringMetric.MODERATOR_MODE_STATUS_GET.getParam());
 		try {
-			String rawPresentationModeStatus = sendTelnetCommand(VIAConnectProMonitoringMetric.MODERATOR_MODE_STATUS_GET.getCommand(), param, false);
-			String presentationModeStatus = rawResponseHandling(rawPresentationModeStatus);
+			DeviceReply presentationModeStatusReply = pollResult.getReply(VIAConnectProMonitoringMetric.MODERATOR_MODE_STATUS_GET);
+			String presentationModeStatus = presentationModeStatusReply.getValue();
 			String presentationModeStatusString = VIAConnectProConstant.ZERO.equals(presentationModeStatus) ? VIAConnectProConstant.DISABLED : VIAConnectProConstant.ENABLED;
 			statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.MODERATOR_MODE_STATUS), presentationModeStatusString);
 		} catch (Exception exception) {
 			noneValueStatistics.add(String.format("%s#%s", groupName, VIAConnectProConstant.MODERATOR_MODE_STATUS));
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(String.format("%s#%s", groupName, VIAConnectProConstant.MODERATOR_MODE_STATUS), exception);
 		}
 		// Moderator-ParticipantPresentConfirm
 		try {
-			param = Collections.singletonList(VIAConnectProMonitoringMetric.PART_PRESENT_CONFIRM_GET.getParam());
-			String rawPartPresentConfirm = sendTelnetCommand(VIAConnectProMonitoringMetric.PART_PRESENT_CONFIRM_GET.getCommand(), param, false);
-			String partPresentConfirm = rawResponseHandling(rawPartPresentConfirm);
+			DeviceReply partPresentConfirmReply = pollResult.getReply(VIAConnectProMonitoringMetric.PART_PRESENT_CONFIRM_GET);
+			String partPresentConfirm = partPresentConfirmReply.getValue();
 			String partPresentConfirmString = VIAConnectProConstant.ZERO.equals(partPresentConfirm) ? VIAConnectProConstant.DISABLED : VIAConnectProConstant.ENABLED;
 			if (partPresentConfirm.equals(VIAConnectProConstant.ERROR_1008)) {
 				return;
@@ -578,7 +1374,7 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 			statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.PARTICIPANT_PRESENTATION_START_CONFIRM), partPresentConfirmString);
 		} catch (Exception exception) {
 			noneValueStatistics.add(String.format("%s#%s", groupName, VIAConnectProConstant.PARTICIPANT_PRESENTATION_START_CONFIRM));
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(String.format("%s#%s", groupName, VIAConnectProConstant.PARTICIPANT_PRESENTATION_START_CONFIRM), exception);
 		}
 	}
 
@@ -587,25 +1383,27 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 *
 	 * @param statistics Map of statistics
 	 * @param noneValueStatistics List of properties that contain exception
+	 * @param pollResult Responses of the poll plan
 	 */
-	private void populateDeviceSettingsRoomOverlayGroup(Map<String, String> statistics, List<String> noneValueStatistics) {
+	private void populateDeviceSettingsRoomOverlayGroup(Map<String, String> statistics, List<String> noneValueStatistics, PollResult pollResult) {
 		if (!isConfigManagement()) {
 			return;
 		}
 		String groupName = VIAConnectProMonitoringMetric.ROOM_OVERLAY_STATUS_GET.getGroupName();
 		try {
-			List<String> param = Collections.singletonList(VIAConnectProMonitoringMetric.ROOM_OVERLAY_STATUS_GET.getParam());
-			String rawRoomOverlayStatus = sendTelnetCommand(VIAConnectProMonitoringMetric.ROOM_OVERLAY_STATUS_GET.getCommand(), param, false);
-			String[] roomOverlayResponse = rawRoomOverlayStatus.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
-			String roomOverlayStatus = roomOverlayResponse[2];
+			DeviceReply roomOverlayStatusReply = pollResult.getReply(VIAConnectProMonitoringMetric.ROOM_OVERLAY_STATUS_GET);
+			String roomOverlayStatus = roomOverlayStatusReply.getField(2);
+			if (roomOverlayStatus == null) {
+				throw new ResourceNotReachableException("Invalid response of room overlay status: " + roomOverlayStatusReply.getRaw());
+			}
 			String roomOverlayStatusString = VIAConnectProConstant.ZERO.equals(roomOverlayStatus) ? VIAConnectProConstant.DISABLED : VIAConnectProConstant.ENABLED;
 			statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.ROOM_OVERLAY_ACTIVE_STATUS), roomOverlayStatusString);
 			if (VIAConnectProConstant.ONE.equals(roomOverlayStatus)) {
-				statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.AUTO_HIDE_TIME), roomOverlayResponse[3]);
+				statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.AUTO_HIDE_TIME), roomOverlayStatusReply.getField(3));
 			}
 		} catch (Exception exception) {
 			noneValueStatistics.add(String.format("%s#%s", groupName, VIAConnectProConstant.ROOM_OVERLAY_ACTIVE_STATUS));
-			logger.error(exception.getMessage(), exception);
+			errorLogger.error(String.format("%s#%s", groupName, VIAConnectProConstant.ROOM_OVERLAY_ACTIVE_STATUS), exception);
 		}
 	}
 
@@ -613,28 +1411,34 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 * Populate ParticipantList group
 	 *
 	 * @param statistics Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @param participantListDTO DTO of participant list
 	 */
-	private void populateParticipantGroup(Map<String, String> statistics, List<AdvancedControllableProperty> controls) {
+	private void populateParticipantGroup(Map<String, String> statistics, List<AdvancedControllableProperty> controls, ParticipantListDTO participantListDTO) {
 		String groupName = VIAConnectProMonitoringMetric.PLIST_All_STATUS.getGroupName();
-		List<String> usernames = new ArrayList<>();
-		if (!isValidUsernameListAndPopulateList(statistics, controls, groupName, usernames, true, null)) {
+		if (!isValidUsernameListAndPopulateList(statistics, controls, groupName, true, null, participantListDTO)) {
 			return;
 		}
-		ParticipantListDTO participantListDTO = getListParticipant();
 		statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.CURRENT_LOGGED_IN_USERS), String.valueOf(participantListDTO.getLoggedInUsers()));
-		int i = 0;
-		for (Map.Entry<String, String> entry : participantListDTO.getUserAndStatusMap().entrySet()) {
-			statistics.put(String.format("%s#%s%s", groupName, VIAConnectProConstant.PARTICIPANT, (i + 1)), entry.getKey());
+		// ParticipantN is the slot of the user, it doesn't change while the user stays logged in
+		for (int slot = 0; slot < participantTable.getSlotCount(); slot++) {
+			String username = participantTable.getUsername(slot);
+			if (username == null) {
+				continue;
+			}
+			statistics.put(String.format("%s#%s%s", groupName, VIAConnectProConstant.PARTICIPANT, (slot + 1)), username);
 			String plistStatus;
-			if (VIAConnectProConstant.ZERO.equals(entry.getValue())) {
-				plistStatus = VIAConnectProConstant.NOT_PRESENTING;
-			} else if (VIAConnectProConstant.ONE.equals(entry.getValue())) {
-				plistStatus = VIAConnectProConstant.PRESENTING;
-			} else {
-				plistStatus = VIAConnectProConstant.WAITING_FOR_PERMISSION;
+			switch (participantTable.getStatus(slot)) {
+				case ParticipantTable.NOT_PRESENTING:
+					plistStatus = VIAConnectProConstant.NOT_PRESENTING;
+					break;
+				case ParticipantTable.PRESENTING:
+					plistStatus = VIAConnectProConstant.PRESENTING;
+					break;
+				default:
+					plistStatus = VIAConnectProConstant.WAITING_FOR_PERMISSION;
 			}
-			statistics.put(String.format("%s#Participant%sStatus", groupName, (i + 1)), plistStatus);
-			i++;
+			statistics.put(String.format("%s#Participant%sStatus", groupName, (slot + 1)), plistStatus);
 		}
 	}
 
@@ -642,26 +1446,33 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 * Populate UserModeration group
 	 *
 	 * @param statistics Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @param pollResult Responses of the poll plan
+	 * @param participantListDTO DTO of participant list
 	 */
-	private void populateUserModeration(Map<String, String> statistics, List<AdvancedControllableProperty> controls) {
+	private void populateUserModeration(Map<String, String> statistics, List<AdvancedControllableProperty> controls, PollResult pollResult, ParticipantListDTO participantListDTO) {
 		if (!isConfigManagement()) {
 			return;
 		}
 		String groupName = VIAConnectProConstant.USER_MODERATION;
-		List<String> usernames = new ArrayList<>();
-		if (!isValidUsernameListAndPopulateList(statistics, controls, groupName, usernames, false, previousUserName)) {
+		if (!isValidUsernameListAndPopulateList(statistics, controls, groupName, false, previousUserName, participantListDTO)) {
 			return;
 		}
-		// DISPLAY STATUS
-		List<String> param = new ArrayList<>();
-		param.add(VIAConnectProMonitoringMetric.DISPLAY_STATUS_GET.getParam());
-		if (previousUserName == null || !usernames.contains(previousUserName)) {
-			previousUserName = usernames.get(0);
-		}
-		param.add(previousUserName);
+		// DISPLAY STATUS, requested for previousUserName (see TelnetPollStepHandler#execute)
 		// the output should be: DisplayStatus|Get|Presenting/NotPresenting/Waiting
-		String rawDisplayStatus = sendTelnetCommand(VIAConnectProMonitoringMetric.DISPLAY_STATUS_GET.getCommand(), param, false);
-		String displayStatus = rawResponseHandling(rawDisplayStatus);
+		populateUserDisplayStatus(statistics, controls, groupName, pollResult.getReply(VIAConnectProMonitoringMetric.DISPLAY_STATUS_GET));
+	}
+
+	/**
+	 * Populate display status of the selected user and the Start/Stop presentation button
+	 *
+	 * @param statistics Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @param groupName Group name
+	 * @param displayStatusReply reply of DisplayStatus|Get
+	 */
+	private void populateUserDisplayStatus(Map<String, String> statistics, List<AdvancedControllableProperty> controls, String groupName, DeviceReply displayStatusReply) {
+		String displayStatus = displayStatusReply.getValue();
 		if (VIAConnectProConstant.WAITING.equals(displayStatus)) {
 			displayStatus = VIAConnectProConstant.NOT_PRESENTING;
 		}
@@ -682,37 +1493,30 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 *
 	 * @param statistics Map of statistics
 	 * @param controls List of AdvancedControllableProperty
+	 * @param pollResult Responses of the poll plan
 	 */
-	private void populateStreamingFromDeviceToExternal(Map<String, String> statistics, List<AdvancedControllableProperty> controls) {
+	private void populateStreamingFromDeviceToExternal(Map<String, String> statistics, List<AdvancedControllableProperty> controls, PollResult pollResult) {
 		if (!isConfigManagement()) {
 			return;
 		}
 		// Check if streaming is activated
 		String groupName = VIAConnectProControllingMetric.STREAMING_START.getGroupName();
-		List<String> param = Collections.singletonList(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET.getParam());
-		String rawStreamingGetResponse = sendTelnetCommand(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET.getCommand(), param, false);
-		String[] streamingGetResponse = rawStreamingGetResponse.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
-		String streamingStatus = streamingGetResponse[2];
-		statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.STREAMING_MODE), streamingStatus);
-		controls.add(createSwitch(String.format("%s#%s", groupName, VIAConnectProConstant.STREAMING_MODE), Integer.parseInt(streamingStatus),
-				VIAConnectProConstant.DEACTIVATE,
-				VIAConnectProConstant.ACTIVATE));
+		DeviceReply streamingGetReply = pollResult.getReply(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET);
+		String streamingStatus = streamingGetReply.getField(2);
+		Date timestamp = new Date();
+		statistics.put(streamingModeControl.getName(), streamingStatus);
+		controls.add(streamingModeControl.create(timestamp, Integer.parseInt(streamingStatus)));
 		if (VIAConnectProConstant.ZERO.equals(streamingStatus)) {
-			statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.URL), VIAConnectProConstant.UDP);
-			controls.add(createText(String.format("%s#%s", groupName, VIAConnectProConstant.URL), VIAConnectProConstant.UDP));
+			statistics.put(streamingUrlControl.getName(), VIAConnectProConstant.UDP);
+			controls.add(streamingUrlControl.create(timestamp, VIAConnectProConstant.UDP));
 			return;
 		}
-		populateStreamingFromDeviceToExternalStatus(statistics, groupName, streamingGetResponse);
-		statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.ACTION), VIAConnectProConstant.START);
-		List<String> streamModes = new ArrayList<>();
-		streamModes.add(VIAConnectProConstant.START);
-		streamModes.add(VIAConnectProConstant.STOP);
-		streamModes.add(VIAConnectProConstant.RESTART);
-		streamModes.add(VIAConnectProConstant.CHANGE);
-		controls.add(createDropdown(String.format("%s#%s", groupName, VIAConnectProConstant.ACTION), streamModes, VIAConnectProConstant.START));
+		populateStreamingFromDeviceToExternalStatus(statistics, groupName, streamingGetReply, pollResult.getReply(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET));
+		statistics.put(streamingActionControl.getName(), VIAConnectProConstant.START);
+		controls.add(streamingActionControl.create(timestamp, VIAConnectProConstant.START));
 
-		statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.APPLY), VIAConnectProConstant.EMPTY);
-		controls.add(createButton(String.format("%s#%s", groupName, VIAConnectProConstant.APPLY), VIAConnectProConstant.APPLY, "Applying the stream..."));
+		statistics.put(streamingApplyControl.getName(), VIAConnectProConstant.EMPTY);
+		controls.add(streamingApplyControl.create(timestamp, VIAConnectProConstant.EMPTY));
 	}
 
 	/**
@@ -720,13 +1524,14 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 *
 	 * @param statistics Map of statistics
 	 * @param groupName Group name
-	 * @param streamingGetResponse Array of responses from the device
+	 * @param streamingGetReply reply of Streaming|Get
+	 * @param sStatusReply reply of Streaming|SStatus, null if streaming is deactivated
 	 */
-	private void populateStreamingFromDeviceToExternalStatus(Map<String, String> statistics, String groupName, String[] streamingGetResponse) {
-		String rawSStatus = sendTelnetCommand(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET.getCommand(), Collections.singletonList(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET.getParam()), false);
-		String[] splitRawSStatus = rawSStatus.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
-		String sstatus = splitRawSStatus[1];
-		int intStreamingGetResponse = Integer.parseInt(sstatus);
+	private void populateStreamingFromDeviceToExternalStatus(Map<String, String> statistics, String groupName, DeviceReply streamingGetReply, DeviceReply sStatusReply) {
+		int intStreamingGetResponse = 0;
+		if (sStatusReply != null) {
+			intStreamingGetResponse = Integer.parseInt(sStatusReply.getField(1));
+		}
 		String statusValue;
 		switch (intStreamingGetResponse) {
 			case 0:
@@ -742,16 +1547,16 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 				statusValue = VIAConnectProConstant.EMPTY;
 		}
 		statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.STATUS), statusValue);
-		if (VIAConnectProConstant.ZERO.equals(streamingGetResponse[2])) {
+		if (VIAConnectProConstant.ZERO.equals(streamingGetReply.getField(2))) {
 			statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.URL), VIAConnectProConstant.NO_URL);
 		} else {
-			if (streamingGetResponse.length == 4) {
+			if (streamingGetReply.getFieldCount() == 4) {
 				// Single display
-				statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.URL), streamingGetResponse[3]);
-			} else if (streamingGetResponse.length == 5) {
+				statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.URL), streamingGetReply.getField(3));
+			} else if (streamingGetReply.getFieldCount() == 5) {
 				// Dual display
-				statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.URL_1), streamingGetResponse[3]);
-				statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.URL_2), streamingGetResponse[4]);
+				statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.URL_1), streamingGetReply.getField(3));
+				statistics.put(String.format("%s#%s", groupName, VIAConnectProConstant.URL_2), streamingGetReply.getField(4));
 			}
 		}
 	}
@@ -763,27 +1568,28 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 * @param controls List of AdvancedControllableProperty
 	 */
 	private void populateStreamingFromExternalToDevice(Map<String, String> stats, List<AdvancedControllableProperty> controls) {
-		String groupName = VIAConnectProControllingMetric.STREAMING_URL.getGroupName();
-		stats.put(String.format("%s#%s", groupName, VIAConnectProConstant.EXTERNAL_STREAM_URL), VIAConnectProConstant.RTSP);
-		controls.add(createText(String.format("%s#%s", groupName, VIAConnectProConstant.EXTERNAL_STREAM_URL), VIAConnectProConstant.RTSP));
+		Date timestamp = new Date();
+		stats.put(externalStreamUrlControl.getName(), VIAConnectProConstant.RTSP);
+		controls.add(externalStreamUrlControl.create(timestamp, VIAConnectProConstant.RTSP));
 
-		stats.put(String.format("%s#%s", groupName, VIAConnectProConstant.START_STREAMING), VIAConnectProConstant.EMPTY);
-		controls.add(createButton(String.format("%s#%s", groupName, VIAConnectProConstant.START_STREAMING), VIAConnectProConstant.START, "Starting..."));
+		stats.put(startStreamingControl.getName(), VIAConnectProConstant.EMPTY);
+		controls.add(startStreamingControl.create(timestamp, VIAConnectProConstant.EMPTY));
 
-		stats.put(String.format("%s#%s", groupName, VIAConnectProConstant.STOP_STREAMING), VIAConnectProConstant.EMPTY);
-		controls.add(createButton(String.format("%s#%s", groupName, VIAConnectProConstant.STOP_STREAMING), VIAConnectProConstant.STOP, "Stopping..."));
+		stats.put(stopStreamingControl.getName(), VIAConnectProConstant.EMPTY);
+		controls.add(stopStreamingControl.create(timestamp, VIAConnectProConstant.EMPTY));
 	}
 
 	/**
-	 * Check if it is a dual display or not
+	 * Check if it is a dual display or not, Streaming|Get is only sent if the streaming state is unknown or transitioning
 	 *
 	 * @return true if it is dual display and vice versa.
 	 */
 	private boolean isDualDisplayStreaming() {
-		List<String> param = Collections.singletonList(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET.getParam());
-		String rawStreamingGetResponse = sendTelnetCommand(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET.getCommand(), param, false);
-		String[] streamingGetResponse = rawStreamingGetResponse.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
-		return streamingGetResponse.length == 5;
+		if (streamingStateMachine.getState() == StreamingState.TRANSITIONING || streamingStateMachine.getStreamingGetResponse() == null) {
+			List<String> param = Collections.singletonList(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET.getParam());
+			streamingStateMachine.onStreamingStatus(new DeviceReply(sendTelnetCommand(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET.getCommand(), param, false)));
+		}
+		return streamingStateMachine.isDualDisplay();
 	}
 
 	/**
@@ -804,55 +1610,42 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 				break;
 			}
 		}
+		long start = System.nanoTime();
+		long commandSpan = tracer.start();
+		String outcome = TraceSpan.ERROR;
 		try {
-			String response = this.internalSend(fullTelnetRequest);
-			String inputCommand = command;
-			// Handle special cases
-			if (inputCommand.equals(VIAConnectProControllingMetric.STREAMING_START.getCommand()) && isControlCommand) {
-				if (params.get(0).equals(VIAConnectProControllingMetric.STREAMING_START.getParam())) {
-					inputCommand = VIAConnectProConstant.SSTART_SPECIAL_CASE;
-				} else if (params.get(0).equals(VIAConnectProControllingMetric.STREAMING_STOP.getParam())) {
-					inputCommand = VIAConnectProConstant.SSTOP_SPECIAL_CASE;
-				} else if (params.get(0).equals(VIAConnectProControllingMetric.STREAMING_RESTART.getParam())) {
-					inputCommand = VIAConnectProConstant.SRESTART_SPECIAL_CASE;
-				} else if (params.get(0).equals(VIAConnectProControllingMetric.STREAMING_CHANGE.getParam())) {
-					inputCommand = VIAConnectProConstant.SCHANGE_SPECIAL_CASE;
-				}
-			} else if (params.get(0).equals(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET.getParam())) {
-				inputCommand = VIAConnectProConstant.RSSTATUS_SPECIAL_CASE;
-			}
-			else if (inputCommand.equals(VIAConnectProMonitoringMetric.IP_INFORMATION.getCommand())) {
-				inputCommand = VIAConnectProConstant.IP_SPECIAL_CASE;
-			}
-			// Resend the command one more time only for get commands
-			if (!response.contains(inputCommand) && !isControlCommand) {
-				// retry one more time. This is because if user control the device (properly change some properties) -
-				//  so we request one more time to make sure we get the correct response. If it's failed again => It's an error.
-				response = this.internalSend(buildTelnetRequest(command, params, false));
-				if (!response.contains(inputCommand)) {
+			String inputCommand = getExpectedResponseToken(command, params, isControlCommand);
+			OutstandingReply expectedReply = outstandingReplies.add(inputCommand);
+			String rawResponse = sendRequest(command, fullTelnetRequest);
+			String response = resync(command, fullTelnetRequest, rawResponse, expectedReply, !isControlCommand);
+			if (response == null && !isControlCommand) {
+				// Resend one more time only for get commands, once nothing matching the request is outstanding anymore
+				adapterMetrics.getCommand(command).recordRetry();
+				outstandingReplies.remove(expectedReply);
+				expectedReply = outstandingReplies.add(inputCommand);
+				response = resync(command, fullTelnetRequest, sendRequest(command, fullTelnetRequest), expectedReply, true);
+				if (response == null) {
+					outstandingReplies.remove(expectedReply);
 					throw new ResourceNotReachableException("Fail to monitor properties for command " + command);
 				}
 			}
-			String[] strings = response.split(VIAConnectProConstant.END_COMMAND);
-			// Handle case where response contains more than 2 responses (where one of them is not correct, other is correct)
-			if (strings.length > 1) {
-				for (String string : strings) {
-					if (string.contains(inputCommand)) {
-						response = string;
-						break;
-					}
-				}
-			} else {
-				response = strings[0];
+			if (response == null) {
+				// Control replies that cannot be matched are taken as they are
+				outstandingReplies.remove(expectedReply);
+				response = selectResponse(rawResponse, inputCommand);
 			}
+			adapterMetrics.recordResponse(command, System.nanoTime() - start, response);
 			// Set back to initial timeout value to make sure it not conflicts anything.
 			this.timeout = initialTimeout;
 			// Remove command from ioExceptionCommands set if it receives response.
 			ioExceptionCommands.removeIf(ioExceptionCommand -> ioExceptionCommand.equals(fullTelnetRequest));
+			outcome = TraceSpan.OK;
 			return response;
 		} catch (Exception exception) {
 			// Set back to initial timeout value to make sure it not conflicts anything.
 			this.timeout = initialTimeout;
+			adapterMetrics.recordFailure(command, exception);
+			outcome = Tracer.outcomeOf(exception);
 			if (isControlCommand) {
 				throw new CommandFailureException(this.getAddress(), command, "Fail to send control command", exception);
 			} else {
@@ -861,109 +1654,229 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 				}
 				throw new ResourceNotReachableException("Fail to monitor properties for command " + command, exception);
 			}
+		} finally {
+			tracer.end(SpanKind.COMMAND, command, commandSpan, outcome);
 		}
 	}
 
 	/**
-	 * Build telnet request before sending it to the device
-	 * Example request: <P><UN>su</UN><Pwd>supass</Pwd><Cmd>Login</Cmd></P>
+	 * Pick the reply of a request out of a raw response, discarding the stale replies of earlier requests and unsolicited replies.
+	 * While the reply is still outstanding behind stale replies, further replies are read from the session until it arrives,
+	 * so that a late reply doesn't cause a resend that would shift every following response.
 	 *
-	 * @param command Name of the command
-	 * @param params List of params
-	 * @param isLoginCommand is login command
-	 * @return String of built telnet request
+	 * @param command name of the command
+	 * @param request full telnet request
+	 * @param response raw response read after sending the request
+	 * @param expectedReply outstanding reply of the request
+	 * @param awaitUnexplained true to read further replies even if no discarded reply was stale
+	 * @return reply without its trailing \r\n, null if it is not received in time
 	 */
-	private String buildTelnetRequest(String command, List<String> params, boolean isLoginCommand) {
-		StringBuilder stringBuilder = new StringBuilder();
-		stringBuilder.append("<P>");
-		stringBuilder.append(String.format("<UN>%s</UN>", this.getLogin()));
-		if (isLoginCommand) {
-			stringBuilder.append(String.format("<Pwd>%s</Pwd>", this.getPassword()));
-		} else {
-			stringBuilder.append("<Pwd></Pwd>");
+	private String resync(String command, String request, String response, OutstandingReply expectedReply, boolean awaitUnexplained) {
+		ReplyMatcher matcher = new ReplyMatcher(command, expectedReply);
+		int length = VIAConnectProConstant.END_COMMAND.length();
+		int start = 0;
+		while (start < response.length()) {
+			int end = endOfReply(response, start);
+			if (matcher.test(response.substring(start, end))) {
+				break;
+			}
+			start = end + length;
+		}
+		if (matcher.reply == null && (matcher.staleReplies > 0 || awaitUnexplained)) {
+			int initialTimeout = this.timeout;
+			// Once a late reply carrying the token is in hand, only wait briefly for a better match
+			if (matcher.fallbackReply != null || matcher.staleReplies == 0) {
+				this.timeout = Math.min(initialTimeout, controlTelnetTimeout);
+			}
+			try {
+				transport.readResponses(request, matcher);
+			} catch (Exception exception) {
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("VIAConnectProCommunicator: No reply to %s after %s discarded replies", command, matcher.staleReplies), exception);
+				}
+			} finally {
+				this.timeout = initialTimeout;
+			}
 		}
-		stringBuilder.append(String.format("<Cmd>%s</Cmd>", command));
-		for (int i = 0; i < params.size(); i++) {
-			stringBuilder.append(String.format("<P%s>%s</P%s>", i + 1, params.get(i), i + 1));
+		if (matcher.reply == null && matcher.fallbackReply != null) {
+			// The earlier request carrying the same token has never been answered, its reply was this one
+			outstandingReplies.remove(expectedReply);
+			return matcher.fallbackReply;
 		}
-		stringBuilder.append("</P>");
-		return String.valueOf(stringBuilder);
+		return matcher.reply;
 	}
 
 	/**
-	 * Update value of cached stats and controls
-	 *  @param property Group name
-	 * @param propertyValue new value to be set
-	 * @param cachedStats Map of statistics
-	 * @param cachedControls List of cached AdvancedControllableProperty
-	 * @param localControls List of {@link VIAConnectProCommunicator#localExtendedStatistics#controlProperty(ControllableProperty)}
+	 * Get the end of the reply starting at an index of a raw response
+	 *
+	 * @param response raw response
+	 * @param start start of the reply
+	 * @return index of its \r\n, or the length of the response
 	 */
-	private void updateLatestPropertyValue(String property, String propertyValue, Map<String, String> cachedStats, List<AdvancedControllableProperty> cachedControls,
-			List<AdvancedControllableProperty> localControls) {
-		cachedStats.put(property, propertyValue);
-		// Remove duplicate AdvancedControllableProperty out of cachedControls
-		for (AdvancedControllableProperty cachedControl : cachedControls) {
-			if (cachedControl.getName().equals(property)) {
-				cachedControls.remove(cachedControl);
-				break;
+	private static int endOfReply(String response, int start) {
+		int end = response.indexOf(VIAConnectProConstant.END_COMMAND, start);
+		return end < 0 ? response.length() : end;
+	}
+
+	/**
+	 * Send a request through the transport, recording a {@link FlightRecorderEvents#beginCommand() JFR command event}
+	 *
+	 * @param command name of the command
+	 * @param request full telnet request
+	 * @return raw response
+	 * @throws Exception if the request fails
+	 */
+	private String sendRequest(String command, String request) throws Exception {
+		Object commandEvent = FlightRecorderEvents.beginCommand();
+		String response = null;
+		String result = TraceSpan.ERROR;
+		try {
+			response = transport.send(request);
+			String errorCode = AdapterMetrics.errorCodeOf(response);
+			result = errorCode == null ? FlightRecorderEvents.OK : errorCode;
+			return response;
+		} catch (Exception exception) {
+			result = Tracer.outcomeOf(exception);
+			throw exception;
+		} finally {
+			FlightRecorderEvents.commitCommand(commandEvent, host, command, request.length(), response == null ? 0 : response.length(), result);
+		}
+	}
+
+	/**
+	 * Select the response of a command out of a raw response.
+	 * Handle case where response contains more than 2 responses (where one of them is not correct, other is correct)
+	 *
+	 * @param response raw response read from the session
+	 * @param inputCommand token expected in the response, see {@link #getExpectedResponseToken(String, List, boolean)}
+	 * @return String of response
+	 */
+	String selectResponse(String response, String inputCommand) {
+		int length = VIAConnectProConstant.END_COMMAND.length();
+		int firstEnd = response.indexOf(VIAConnectProConstant.END_COMMAND);
+		if (firstEnd < 0 || firstEnd + length == response.length()) {
+			return firstEnd < 0 ? response : response.substring(0, firstEnd);
+		}
+		// Walk the responses in place, jumping to the one holding the next occurrence of the token
+		int start = 0;
+		int tokenIndex = response.indexOf(inputCommand);
+		while (tokenIndex >= 0) {
+			int end = response.indexOf(VIAConnectProConstant.END_COMMAND, start);
+			if (end < 0) {
+				end = response.length();
+			}
+			if (tokenIndex + inputCommand.length() <= end) {
+				return response.substring(start, end);
+			}
+			start = end + length;
+			if (tokenIndex < start) {
+				tokenIndex = response.indexOf(inputCommand, start);
 			}
 		}
+		return response;
+	}
 
-		// Populate new cached AdvancedControllableProperty
-		for (AdvancedControllableProperty control : localControls) {
-			if (control.getName().equals(property)) {
-					AdvancedControllableProperty newControl = new AdvancedControllableProperty();
-					newControl.setName(control.getName());
-					newControl.setValue(propertyValue);
-					newControl.setTimestamp(control.getTimestamp());
-					newControl.setType(control.getType());
-					cachedControls.add(newControl);
-				break;
+	/**
+	 * Send independent monitoring commands without waiting for each response, then match the responses to the requests.
+	 * Responses that cannot be matched in time are left null so that the caller can resend the command on its own.
+	 *
+	 * @param commands name of the command of each request
+	 * @param requests full telnet requests
+	 * @param expectedTokens token expected in the response of each request, see {@link #getExpectedResponseToken(String, List, boolean)}
+	 * @return array of raw responses, in the order of the requests
+	 * @throws Exception if the requests cannot be written to the session
+	 */
+	private String[] sendPipelinedTelnetCommands(List<String> commands, List<String> requests, List<String> expectedTokens) throws Exception {
+		String[] responses = new String[requests.size()];
+		if (!transport.isConnected()) {
+			return responses;
+		}
+		long start = System.nanoTime();
+		long pipelineSpan = tracer.start();
+		Object commandEvent = FlightRecorderEvents.beginCommand();
+		long requestBytes = 0;
+		OutstandingReply[] expectedReplies = new OutstandingReply[requests.size()];
+		for (int i = 0; i < requests.size(); i++) {
+			expectedReplies[i] = outstandingReplies.add(expectedTokens.get(i));
+			transport.write(requests.get(i));
+			requestBytes += requests.get(i).length();
+		}
+		int[] matchedResponses = new int[1];
+		long[] responseBytes = new long[1];
+		try {
+			transport.readResponses(requests.get(requests.size() - 1), frame -> {
+				responseBytes[0] += frame.length() + VIAConnectProConstant.END_COMMAND.length();
+				OutstandingReply claimedReply = outstandingReplies.claim(frame);
+				for (int i = 0; i < responses.length; i++) {
+					if (responses[i] == null && (claimedReply == null ? CommandDescriptor.matches(frame, expectedTokens.get(i)) : claimedReply == expectedReplies[i])) {
+						responses[i] = frame;
+						// Latency of a pipelined response includes the time spent waiting behind the previous responses
+						adapterMetrics.recordResponse(commands.get(i), System.nanoTime() - start, frame);
+						tracer.end(SpanKind.COMMAND, commands.get(i), pipelineSpan, TraceSpan.OK);
+						matchedResponses[0]++;
+						break;
+					}
+				}
+				return matchedResponses[0] == responses.length;
+			});
+		} catch (Exception exception) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("VIAConnectProCommunicator: %s of %s pipelined responses received", matchedResponses[0], responses.length), exception);
 			}
 		}
+		// One event for the whole pipeline, unmatched responses are resent and recorded on their own
+		FlightRecorderEvents.commitCommand(commandEvent, host, String.join(VIAConnectProConstant.COMMA, commands), requestBytes, responseBytes[0],
+				matchedResponses[0] == responses.length ? FlightRecorderEvents.OK : String.format("%s/%s", matchedResponses[0], responses.length));
+		return responses;
 	}
 
 	/**
-	 * Handle response from the device
+	 * Get the token the device echoes in the response of a command
 	 *
-	 * @param rawResponse raw response from the device
-	 * @return proper value
+	 * @param command Name of the command
+	 * @param params Params of the command
+	 * @param isControlCommand Check if is control command
+	 * @return String expected in the response
 	 */
-	private String rawResponseHandling(String rawResponse) {
-		String[] rawResponseArray = rawResponse.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
-		return rawResponseArray[rawResponseArray.length - 1];
+	private String getExpectedResponseToken(String command, List<String> params, boolean isControlCommand) {
+		CommandDescriptor descriptor = CommandDescriptor.find(command, params.isEmpty() ? null : params.get(0), isControlCommand);
+		return descriptor == null ? command : descriptor.getReplyToken();
 	}
 
 	/**
-	 * Remove cached statistics and controls
+	 * Build telnet request before sending it to the device
+	 * Example request: <P><UN>su</UN><Pwd>supass</Pwd><Cmd>Login</Cmd></P>
 	 *
-	 * @param cachedStats Map of cached statistics
-	 * @param cachedControls List of cached controls
-	 * @param metricName Name of the metric to be removed
+	 * @param command Name of the command
+	 * @param params List of params
+	 * @param isLoginCommand is login command
+	 * @return String of built telnet request
 	 */
-	private void removeCachedStatisticAndControl(Map<String, String> cachedStats, List<AdvancedControllableProperty> cachedControls, String metricName) {
-		List<String> listStatsRemove = new ArrayList<>();
-		List<AdvancedControllableProperty> listControlsRemove = new ArrayList<>();
-		for (Map.Entry<String, String> entry : cachedStats.entrySet()) {
-			String propertyName = entry.getKey();
-			String[] groupNames = propertyName.split(VIAConnectProConstant.HASH);
-			if (groupNames[0].equals(metricName)) {
-				listStatsRemove.add(propertyName);
-			}
-		}
-		for (String s : listStatsRemove) {
-			cachedStats.remove(s);
-		}
-		for (AdvancedControllableProperty control : cachedControls) {
-			String propertyName = control.getName();
-			String[] groupNames = propertyName.split(VIAConnectProConstant.HASH);
-			if (groupNames[0].equals(metricName)) {
-				listControlsRemove.add(control);
-			}
+	String buildTelnetRequest(String command, List<String> params, boolean isLoginCommand) {
+		if (isLoginCommand) {
+			return CommandDescriptor.encodeRequest(CommandDescriptor.encodeCredentials(this.getLogin(), this.getPassword()), command, params);
 		}
-		for (AdvancedControllableProperty advancedControllableProperty : listControlsRemove) {
-			cachedControls.remove(advancedControllableProperty);
+		String requestCredentials = getRequestCredentials();
+		CommandDescriptor descriptor = CommandDescriptor.find(command, params.isEmpty() ? null : params.get(0), false);
+		if (descriptor != null && descriptor.getParams().equals(params)) {
+			return descriptor.encodeRequest(requestCredentials);
 		}
+		return CommandDescriptor.encodeRequest(requestCredentials, command, params);
+	}
+
+	/**
+	 * Get the start of every request but Login, built once per login
+	 *
+	 * @return start of the request
+	 */
+	private String getRequestCredentials() {
+		String login = this.getLogin();
+		String[] credentials = requestCredentials;
+		if (credentials == null || !credentials[0].equals(login)) {
+			credentials = new String[] { login, CommandDescriptor.encodeCredentials(login, null) };
+			requestCredentials = credentials;
+		}
+		return credentials[1];
 	}
 
 	/**
@@ -973,12 +1886,13 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 * @param stats Map of statistics
 	 * @param controls List of AdvancedControllableProperty
 	 * @param groupName Name of the group
-	 * @param usernames List of usernames
 	 * @param onlyValidate Only validate if user is logged in, not populate stats and controls
+	 * @param defaultValue default selected username
+	 * @param participantListDTO DTO of participant list
 	 * @return boolean
 	 */
-	private boolean isValidUsernameListAndPopulateList(Map<String, String> stats, List<AdvancedControllableProperty> controls, String groupName, List<String> usernames, boolean onlyValidate, String defaultValue) {
-		ParticipantListDTO participantListDTO = getListParticipant();
+	private boolean isValidUsernameListAndPopulateList(Map<String, String> stats, List<AdvancedControllableProperty> controls, String groupName, boolean onlyValidate,
+			String defaultValue, ParticipantListDTO participantListDTO) {
 		if (participantListDTO.getUserAndStatusMap().size() == 0) {
 			stats.put(String.format("%s#%s", groupName, VIAConnectProConstant.USER), "No one is logged in.");
 			return false;
@@ -986,38 +1900,17 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 		if (onlyValidate) {
 			return true;
 		}
-		for (Map.Entry<String, String> entry : participantListDTO.getUserAndStatusMap().entrySet()) {
-			usernames.add(entry.getKey());
-		}
+		String[] usernames = participantTable.getUsernames();
 		if (defaultValue == null) {
-			defaultValue = usernames.get(0);
+			defaultValue = usernames[0];
 		}
-		stats.put(String.format("%s#%s", groupName, VIAConnectProConstant.USER), defaultValue);
-		controls.add(createDropdown(String.format("%s#%s", groupName, VIAConnectProConstant.USER), usernames, defaultValue));
-		return true;
-	}
-
-	/**
-	 * Populate cached AdvancedControllableProperty to current AdvancedControllableProperty
-	 *
-	 * @param currentControls List of current AdvancedControllableProperty
-	 * @param cachedControls List of cached AdvancedControllableProperty
-	 */
-	private void populateCachedControlProperties(List<AdvancedControllableProperty> currentControls, List<AdvancedControllableProperty> cachedControls) {
-		if (cachedControls.size() == 0) {
-			return;
+		if (userDropdownControl == null || userDropdownVersion != participantTable.getMembershipVersion()) {
+			userDropdownControl = ControlTemplate.dropdown(groupName, VIAConnectProConstant.USER, usernames);
+			userDropdownVersion = participantTable.getMembershipVersion();
 		}
-		List<AdvancedControllableProperty> listControlToBeRemoved = new ArrayList<>();
-		Map<String, Object> nameToValue = cachedControls.stream()
-				.collect(Collectors.toMap(AdvancedControllableProperty::getName, AdvancedControllableProperty::getValue));
-			for (AdvancedControllableProperty currentControl : currentControls) {
-				Object currentCachedControlValue = nameToValue.get(currentControl.getName());
-				if (currentCachedControlValue != null) {
-					listControlToBeRemoved.add(currentControl);
-				}
-			}
-		currentControls.removeAll(listControlToBeRemoved);
-		currentControls.addAll(cachedControls);
+		stats.put(userDropdownControl.getName(), defaultValue);
+		controls.add(userDropdownControl.create(new Date(), defaultValue));
+		return true;
 	}
 
 	/**
@@ -1025,41 +1918,44 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 *
 	 * @param currentStats Map of current statistics
 	 * @param currentControls List of current AdvancedControllableProperty
-	 * @param cachedControls List of cached AdvancedControllableProperty
 	 */
-	private void populateCachedStreamingControl(Map<String, String> currentStats, List<AdvancedControllableProperty> currentControls, List<AdvancedControllableProperty> cachedControls) {
+	private void populateCachedStreamingControl(Map<String, String> currentStats, List<AdvancedControllableProperty> currentControls) {
 		String groupName = VIAConnectProControllingMetric.STREAMING_START.getGroupName();
 		String actionProperty = String.format("%s#%s", groupName, VIAConnectProConstant.ACTION);
 		if (currentStats.get(actionProperty) == null) {
 			return;
 		}
-		for (AdvancedControllableProperty cachedControl : cachedControls) {
-			if (cachedControl.getName().equals(actionProperty)) {
-				String cachedControlValue = (String) cachedControl.getValue();
-				currentControls.removeIf(advancedControllableProperty -> advancedControllableProperty.getName().equals(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL)));
-				currentControls.removeIf(advancedControllableProperty -> advancedControllableProperty.getName().equals(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL_1)));
-				currentControls.removeIf(advancedControllableProperty -> advancedControllableProperty.getName().equals(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL_2)));
-				List<String> param = Collections.singletonList(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET.getParam());
-				String rawStreamingGetResponse = sendTelnetCommand(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET.getCommand(), param, false);
-				String[] streamingGetResponse = rawStreamingGetResponse.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
-				// Populate new status≡
-				populateStreamingFromDeviceToExternalStatus(currentStats, groupName, streamingGetResponse);
-				if (VIAConnectProConstant.START.equals(cachedControlValue) || VIAConnectProConstant.STOP.equals(cachedControlValue)) {
-					currentStats.remove(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL));
-					currentStats.remove(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL_1));
-					currentStats.remove(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL_2));
-				} else {
-					if (streamingGetResponse.length == 5) {
-						currentStats.put(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL_1), streamingGetResponse[3]);
-						currentControls.add(createText(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL_1), streamingGetResponse[3]));
-						currentStats.put(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL_2), streamingGetResponse[4]);
-						currentControls.add(createText(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL_2), streamingGetResponse[4]));
-					} else {
-						currentStats.put(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL), streamingGetResponse[3]);
-						currentControls.add(createText(String.format("%s#%s", groupName, VIAConnectProConstant.NEW_URL), streamingGetResponse[3]));
-					}
-				}
-				break;
+		AdvancedControllableProperty cachedControl = cachedProperties.getControl(actionProperty);
+		if (cachedControl == null) {
+			return;
+		}
+		String cachedControlValue = (String) cachedControl.getValue();
+		String newUrl = newUrlControl.getName();
+		String newUrlOne = newUrlOneControl.getName();
+		String newUrlTwo = newUrlTwoControl.getName();
+		currentControls.removeIf(control -> control.getName().equals(newUrl) || control.getName().equals(newUrlOne) || control.getName().equals(newUrlTwo));
+		if (!streamingStateMachine.hasFreshStatus()) {
+			PollResult streamingResult = pollPlanExecutor.execute(PollPlan.streamingRefresh(), pollStepHandler);
+			// Throw the failure of Streaming|Get if any
+			streamingResult.getResponse(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET);
+			streamingStateMachine.onPollResult(streamingResult);
+		}
+		DeviceReply streamingGetReply = streamingStateMachine.getStreamingGetResponse();
+		// Populate new status
+		populateStreamingFromDeviceToExternalStatus(currentStats, groupName, streamingGetReply, streamingStateMachine.getSStatusResponse());
+		if (VIAConnectProConstant.START.equals(cachedControlValue) || VIAConnectProConstant.STOP.equals(cachedControlValue)) {
+			currentStats.remove(newUrl);
+			currentStats.remove(newUrlOne);
+			currentStats.remove(newUrlTwo);
+		} else {
+			if (streamingGetReply.getFieldCount() == 5) {
+				currentStats.put(newUrlOne, streamingGetReply.getField(3));
+				currentControls.add(newUrlOneControl.create(new Date(), streamingGetReply.getField(3)));
+				currentStats.put(newUrlTwo, streamingGetReply.getField(4));
+				currentControls.add(newUrlTwoControl.create(new Date(), streamingGetReply.getField(4)));
+			} else {
+				currentStats.put(newUrl, streamingGetReply.getField(3));
+				currentControls.add(newUrlControl.create(new Date(), streamingGetReply.getField(3)));
 			}
 		}
 	}
@@ -1108,19 +2004,15 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 */
 	private void cachedControlProperties(VIAConnectProControllingMetric viaConnectProControllingMetric, String propertyName, String propertyValue, String property, String groupName) {
 		isCachedControlling = true;
-		if (localExtendedStatistics == null || cachedLocalExtendedStatistics == null) {
+		StatisticsSnapshot snapshot = localSnapshot.get();
+		if (snapshot == null) {
 			return;
 		}
-		Map<String, String> cachedStats = cachedLocalExtendedStatistics.getStatistics();
-		List<AdvancedControllableProperty> cachedControls = cachedLocalExtendedStatistics.getControllableProperties();
-
-		Map<String, String> localStats = localExtendedStatistics.getStatistics();
-		List<AdvancedControllableProperty> localControls = localExtendedStatistics.getControllableProperties();
+		Map<String, String> localStats = snapshot.getStatistics();
 		List<String> param = new ArrayList<>();
 
 		switch (viaConnectProControllingMetric) {
 			case STREAMING_START:
-				isStreamingControl = true;
 				switch (propertyName) {
 					case VIAConnectProConstant.ACTION:
 						switch (propertyValue) {
@@ -1128,7 +2020,7 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 							case VIAConnectProConstant.STOP:
 							case VIAConnectProConstant.RESTART:
 							case VIAConnectProConstant.CHANGE:
-								updateLatestPropertyValue(property, propertyValue, cachedStats, cachedControls, localControls);
+								cachedProperties.upsert(property, propertyValue, snapshot.getControl(property));
 								break;
 							default:
 								throw new IllegalArgumentException("Unexpected value: " + propertyName);
@@ -1140,7 +2032,7 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 					case VIAConnectProConstant.NEW_URL:
 					case VIAConnectProConstant.NEW_URL_1:
 					case VIAConnectProConstant.NEW_URL_2:
-						updateLatestPropertyValue(property, propertyValue, cachedStats, cachedControls, localControls);
+						cachedProperties.upsert(property, propertyValue, snapshot.getControl(property));
 						break;
 					default:
 						throw new IllegalArgumentException("Unexpected value: " + propertyName);
@@ -1149,7 +2041,7 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 			case STREAMING_URL:
 				switch (propertyName) {
 					case VIAConnectProConstant.EXTERNAL_STREAM_URL:
-						updateLatestPropertyValue(property, propertyValue, cachedStats, cachedControls, localControls);
+						cachedProperties.upsert(property, propertyValue, snapshot.getControl(property));
 						break;
 					case VIAConnectProConstant.START_STREAMING:
 						String newStreamURL = localStats.get(String.format("%s#%s", groupName, VIAConnectProConstant.EXTERNAL_STREAM_URL));
@@ -1159,19 +2051,18 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 						}
 						param.add(VIAConnectProControllingMetric.STREAMING_URL.getParam());
 						param.add(newStreamURL);
-						String rawNewStream = sendTelnetCommand(VIAConnectProControllingMetric.STREAMING_URL.getCommand(), param, true);
-						String[] splitRawNewStream = rawNewStream.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
-						if (splitRawNewStream[splitRawNewStream.length - 1].equals(VIAConnectProConstant.ERROR_504)) {
+						DeviceReply newStreamReply = new DeviceReply(sendTelnetCommand(VIAConnectProControllingMetric.STREAMING_URL.getCommand(), param, true));
+						if (VIAConnectProConstant.ERROR_504.equals(newStreamReply.getErrorCode())) {
 							logger.error("VIAConnectProCommunicator: Stream already start");
 							// Cannot get status of streamingURL so suppress this error.
 							break;
 						}
 						// Example response: : StreamingURL|1|1. 1 is start streaming successfully.
-						if (!VIAConnectProConstant.ONE.equals(splitRawNewStream[splitRawNewStream.length - 1])) {
+						if (!newStreamReply.isSuccess(newStreamReply.getFieldCount() - 1)) {
 							throw new CommandFailureException(this.getAddress(), VIAConnectProControllingMetric.STREAMING_URL.getCommand(),
 									String.format("Fail to start new stream with URL: %s", newStreamURL));
 						}
-						removeCachedStatisticAndControl(cachedStats, cachedControls, groupName);
+						cachedProperties.removeGroup(groupName);
 						break;
 					case VIAConnectProConstant.STOP_STREAMING:
 						String stopStreamURL = localStats.get(String.format("%s#%s", groupName, VIAConnectProConstant.EXTERNAL_STREAM_URL));
@@ -1181,19 +2072,18 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 						}
 						param.add(VIAConnectProConstant.ZERO);
 						param.add(stopStreamURL);
-						String rawStopStream = sendTelnetCommand(VIAConnectProControllingMetric.STREAMING_URL.getCommand(), param, true);
-						String[] splitRawStopStream = rawStopStream.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
-						if (splitRawStopStream[splitRawStopStream.length - 1].equals(VIAConnectProConstant.ERROR_504)) {
+						DeviceReply stopStreamReply = new DeviceReply(sendTelnetCommand(VIAConnectProControllingMetric.STREAMING_URL.getCommand(), param, true));
+						if (VIAConnectProConstant.ERROR_504.equals(stopStreamReply.getErrorCode())) {
 							logger.error("VIAConnectProCommunicator: Stream already stop");
 							// Cannot get status of streamingURL so suppress this error.
 							break;
 						}
 						// Example response: : StreamingURL|0|1. 1 is stop streaming successfully.
-						if (!VIAConnectProConstant.ONE.equals(splitRawStopStream[splitRawStopStream.length - 1])) {
+						if (!stopStreamReply.isSuccess(stopStreamReply.getFieldCount() - 1)) {
 							throw new CommandFailureException(this.getAddress(), VIAConnectProControllingMetric.STREAMING_URL.getCommand(),
 									String.format("Fail to stop stream with URL: %s", stopStreamURL));
 						}
-						removeCachedStatisticAndControl(cachedStats, cachedControls, groupName);
+						cachedProperties.removeGroup(groupName);
 						break;
 					default:
 						throw new IllegalArgumentException("Unexpected value: " + propertyName);
@@ -1220,24 +2110,26 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 				if (VIAConnectProConstant.ZERO.equals(stringVolume)) {
 					break;
 				}
+				if (isNoOpControl(String.format("%s#%s", VIAConnectProControllingMetric.VOLUME_SET.getGroupName(), VIAConnectProConstant.VOLUME), stringVolume)) {
+					break;
+				}
 				volumeParams.add(stringVolume); // param must have type integer.
-				String rawVolumeSet = sendTelnetCommand(VIAConnectProControllingMetric.VOLUME_SET.getCommand(), volumeParams, true);
-				String[] rawVolumeSetResponse = rawVolumeSet.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
+				DeviceReply volumeSetReply = new DeviceReply(sendTelnetCommand(VIAConnectProControllingMetric.VOLUME_SET.getCommand(), volumeParams, true));
 				// Expect response is Vol|Get|<value of Volume>|0
-				String volumeResponse = rawVolumeSetResponse[2];
-				if (!volumeResponse.equals(stringVolume)) {
+				String volumeResponse = volumeSetReply.getField(2);
+				if (!stringVolume.equals(volumeResponse)) {
 					throw new CommandFailureException(this.getAddress(), VIAConnectProControllingMetric.VOLUME_SET.getCommand(),
 							String.format("Fail to set volume to %s", propertyValue));
 				}
+				readBackAfterControl(VIAConnectProControllingMetric.VOLUME_SET, volumeResponse);
 				break;
 			case DISPLAY_STATUS_SET:
 				String groupName = VIAConnectProConstant.USER_MODERATION;
-				if (localExtendedStatistics == null || cachedLocalExtendedStatistics == null ) {
+				StatisticsSnapshot snapshot = localSnapshot.get();
+				if (snapshot == null) {
 					break;
 				}
-				Map<String, String> localStats = localExtendedStatistics.getStatistics();
-				Map<String, String> cachedStats = cachedLocalExtendedStatistics.getStatistics();
-				List<AdvancedControllableProperty> cachedControls = cachedLocalExtendedStatistics.getControllableProperties();
+				Map<String, String> localStats = snapshot.getStatistics();
 				List<String> displayStatusParams = new ArrayList<>();
 				switch (propertyName) {
 					case VIAConnectProConstant.USER_PRESENTATION:
@@ -1253,22 +2145,24 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 						displayStatusParams.add(VIAConnectProControllingMetric.DISPLAY_STATUS_SET.getParam());
 						displayStatusParams.add(userName);
 						displayStatusParams.add(displayStatusMode);
-						String rawApplyDisplayStatus = sendTelnetCommand(VIAConnectProControllingMetric.DISPLAY_STATUS_SET.getCommand(), displayStatusParams, true);
-						String applyDisplayStatus = rawResponseHandling(rawApplyDisplayStatus);
+						DeviceReply applyDisplayStatusReply = new DeviceReply(sendTelnetCommand(VIAConnectProControllingMetric.DISPLAY_STATUS_SET.getCommand(), displayStatusParams, true));
+						String applyDisplayStatus = applyDisplayStatusReply.getValue();
 						if (VIAConnectProConstant.USR_NOT_EXIST.equals(applyDisplayStatus)) {
 							throw new CommandFailureException(this.getAddress(), VIAConnectProControllingMetric.DISPLAY_STATUS_SET.getCommand(),
 									String.format("User %s is not exist/online at the moment.", userName));
 						}
-						removeCachedStatisticAndControl(cachedStats, cachedControls, groupName);
+						cachedProperties.removeGroup(groupName);
+						readBackAfterControl(VIAConnectProControllingMetric.DISPLAY_STATUS_SET, userName);
 						break;
 					default:
 						throw new IllegalArgumentException("Unexpected value: " + propertyName);
 				}
 				break;
 			case STREAMING_STATUS_SET:
-				Map<String, String> localStats1 = localExtendedStatistics.getStatistics();
-				Map<String, String> cachedStats1 = cachedLocalExtendedStatistics.getStatistics();
-				List<AdvancedControllableProperty> cachedControls1 = cachedLocalExtendedStatistics.getControllableProperties();
+				Map<String, String> localStats1 = localSnapshot.get().getStatistics();
+				if (isNoOpControl(String.format("%s#%s", VIAConnectProControllingMetric.STREAMING_STATUS_SET.getGroupName(), VIAConnectProConstant.STREAMING_MODE), propertyValue)) {
+					break;
+				}
 				List<String> streamingStatusSetParams = new ArrayList<>();
 				streamingStatusSetParams.add(VIAConnectProControllingMetric.STREAMING_STATUS_SET.getParam());
 				streamingStatusSetParams.add(propertyValue);
@@ -1281,28 +2175,25 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 					streamingStatusSetParams.add(urlOne);
 					streamingStatusSetParams.add(urlTwo);
 				}
-				String rawSetStreamingMode = sendTelnetCommand(VIAConnectProControllingMetric.STREAMING_STATUS_SET.getCommand(), streamingStatusSetParams, true);
-				String[] splitRawSetStreamingMode = rawSetStreamingMode.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
+				DeviceReply setStreamingModeReply = new DeviceReply(sendTelnetCommand(VIAConnectProControllingMetric.STREAMING_STATUS_SET.getCommand(), streamingStatusSetParams, true));
 				// Example response: Streaming|Set|P2|0/1. 0 is fail, 1 is success
-				if (!VIAConnectProConstant.ONE.equals(splitRawSetStreamingMode[splitRawSetStreamingMode.length - 1])) {
+				if (!setStreamingModeReply.isSuccess(setStreamingModeReply.getFieldCount() - 1)) {
 					String errorStatus = propertyValue.equals(VIAConnectProConstant.ONE) ? VIAConnectProConstant.ACTIVATE : VIAConnectProConstant.DEACTIVATE;
 					String errorMessage = String.format("Fail to set streaming mode to %s.", errorStatus);
-					if (rawSetStreamingMode.contains(VIAConnectProConstant.ERROR)) {
-						VIAConnectProErrorMetric viaConnectProErrorMetric = VIAConnectProErrorMetric.getByCode(splitRawSetStreamingMode[splitRawSetStreamingMode.length - 1]);
-						if (viaConnectProErrorMetric != null) {
-							errorMessage += String.format("Error code: %s, description: %s", viaConnectProErrorMetric.getErrorCode(), viaConnectProErrorMetric.getErrorDescription());
-						}
+					VIAConnectProErrorMetric viaConnectProErrorMetric = setStreamingModeReply.getError();
+					if (viaConnectProErrorMetric != null) {
+						errorMessage += String.format("Error code: %s, description: %s", viaConnectProErrorMetric.getErrorCode(), viaConnectProErrorMetric.getErrorDescription());
 					}
 					throw new CommandFailureException(this.getAddress(), VIAConnectProControllingMetric.STREAMING_STATUS_SET.getCommand(),
 							errorMessage);
 				}
-				removeCachedStatisticAndControl(cachedStats1, cachedControls1, VIAConnectProControllingMetric.STREAMING_STATUS_SET.getGroupName());
+				streamingStateMachine.onControlApplied();
+				cachedProperties.removeGroup(VIAConnectProControllingMetric.STREAMING_STATUS_SET.getGroupName());
+				readBackAfterControl(VIAConnectProControllingMetric.STREAMING_STATUS_SET, propertyValue);
 				break;
 			case STREAMING_START:
 				String streamGroupName = VIAConnectProControllingMetric.STREAMING_START.getGroupName();
-				Map<String, String> localStats2 = localExtendedStatistics.getStatistics();
-				Map<String, String> cachedStats2 = cachedLocalExtendedStatistics.getStatistics();
-				List<AdvancedControllableProperty> cachedControls2 = cachedLocalExtendedStatistics.getControllableProperties();
+				Map<String, String> localStats2 = localSnapshot.get().getStatistics();
 				String currentAction = localStats2.get(String.format("%s#%s", streamGroupName, VIAConnectProConstant.ACTION));
 				List<String> param = new ArrayList<>();
 				if (currentAction.equals(VIAConnectProConstant.START) || currentAction.equals(VIAConnectProConstant.STOP)) {
@@ -1310,11 +2201,10 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 					String firstParam = currentAction.equals(VIAConnectProConstant.START) ? VIAConnectProControllingMetric.STREAMING_START.getParam() : VIAConnectProControllingMetric.STREAMING_STOP.getParam();
 					param.add(firstParam);
 					param.add(this.getLogin());
-					String rawStartOrStopStream = sendTelnetCommand(command, param, true);
-					String[] splitRawStartOrStopStream = rawStartOrStopStream.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
+					DeviceReply startOrStopStreamReply = new DeviceReply(sendTelnetCommand(command, param, true));
 					// Example response: SStart/SStop|0/1|ID. 0 is fail, 1 is success
-					if (!VIAConnectProConstant.ONE.equals(splitRawStartOrStopStream[1])) {
-						populateErrorMessageForStreaming(currentAction, this.getLogin(), command, rawStartOrStopStream, splitRawStartOrStopStream);
+					if (!startOrStopStreamReply.isSuccess(1)) {
+						populateErrorMessageForStreaming(currentAction, this.getLogin(), command, startOrStopStreamReply);
 					}
 				} else {
 					String command = currentAction.equals(VIAConnectProConstant.RESTART) ? VIAConnectProControllingMetric.STREAMING_RESTART.getCommand() : VIAConnectProControllingMetric.STREAMING_CHANGE.getCommand();
@@ -1337,37 +2227,117 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 						String urlName2 = localStats2.get(String.format("%s#%s", streamGroupName, VIAConnectProConstant.NEW_URL_2));
 						param.add(urlName2);
 					}
-					String rawRestartOrChangeStream = sendTelnetCommand(command, param, true);
-					String[] splitRawRestartOrChangeStream = rawRestartOrChangeStream.split(VIAConnectProConstant.REGEX_VERTICAL_LINE);
+					DeviceReply restartOrChangeStreamReply = new DeviceReply(sendTelnetCommand(command, param, true));
 					// Example response: Streaming|SRestart/SChange|0/1. 0 is fail, 1 is success
-					if (!VIAConnectProConstant.ONE.equals(splitRawRestartOrChangeStream[2])) {
-						populateErrorMessageForStreaming(currentAction, this.getLogin(), command, rawRestartOrChangeStream, splitRawRestartOrChangeStream);
+					if (!restartOrChangeStreamReply.isSuccess(2)) {
+						populateErrorMessageForStreaming(currentAction, this.getLogin(), command, restartOrChangeStreamReply);
 						return;
 					}
 				}
-				removeCachedStatisticAndControl(cachedStats2, cachedControls2, streamGroupName);
+				streamingStateMachine.onControlApplied();
+				cachedProperties.removeGroup(streamGroupName);
+				readBackAfterControl(VIAConnectProControllingMetric.STREAMING_START, currentAction);
 				break;
 			default:
 				throw new IllegalArgumentException("Unexpected value: " + propertyName);
 		}
 	}
 
+	/**
+	 * Re-query only the metrics affected by a successful control and publish a copy of {@link #localSnapshot} patched with the confirmed state,
+	 * so that the next {@link #getMultipleStatistics()} serves it without running a full poll.
+	 * A failed read-back is only logged by {@link #errorLogger}, so that repeated failures are counted instead of printed:
+	 * the control itself has already succeeded and the next full poll will catch up.
+	 *
+	 * @param viaConnectProMetric Control metric that has just been applied
+	 * @param controlValue confirmed volume for Vol|Set (already echoed by the device), user name for DisplayStatus|Set
+	 */
+	private void readBackAfterControl(VIAConnectProControllingMetric viaConnectProMetric, String controlValue) {
+		if (localSnapshot.get() == null) {
+			return;
+		}
+		String groupName = viaConnectProMetric.getGroupName();
+		Map<String, String> readBackStats = new HashMap<>();
+		List<AdvancedControllableProperty> readBackControls = new ArrayList<>();
+		try {
+			switch (viaConnectProMetric) {
+				case VOLUME_SET:
+					// The response of Vol|Set is Vol|Get|<value of Volume>|0, no need to send Vol|Get again
+					populateVolume(readBackStats, readBackControls, controlValue);
+					patchLocalStatistics(null, readBackStats, readBackControls);
+					break;
+				case DISPLAY_STATUS_SET:
+					List<String> displayStatusParams = Arrays.asList(VIAConnectProMonitoringMetric.DISPLAY_STATUS_GET.getParam(), controlValue);
+					DeviceReply displayStatusReply = new DeviceReply(sendTelnetCommand(VIAConnectProMonitoringMetric.DISPLAY_STATUS_GET.getCommand(), displayStatusParams, false));
+					populateUserDisplayStatus(readBackStats, readBackControls, groupName, displayStatusReply);
+					patchLocalStatistics(null, readBackStats, readBackControls);
+					break;
+				case STREAMING_STATUS_SET:
+				case STREAMING_START:
+					PollResult streamingResult = pollPlanExecutor.execute(PollPlan.streamingRefresh(), pollStepHandler);
+					streamingStateMachine.onPollResult(streamingResult);
+					populateStreamingFromDeviceToExternal(readBackStats, readBackControls, streamingResult);
+					patchLocalStatistics(groupName, readBackStats, readBackControls);
+					break;
+				default:
+					return;
+			}
+			isCachedControlling = true;
+		} catch (Exception exception) {
+			errorLogger.error("ReadBack" + groupName, exception);
+		}
+	}
+
+	/**
+	 * Publish a copy of {@link #localSnapshot} patched with statistics and controls that have just been read back from the device
+	 *
+	 * @param groupName group to be replaced as a whole, null to only overwrite the given properties
+	 * @param stats Map of statistics read back
+	 * @param controls List of AdvancedControllableProperty read back
+	 */
+	private void patchLocalStatistics(String groupName, Map<String, String> stats, List<AdvancedControllableProperty> controls) {
+		localSnapshot.set(localSnapshot.get().withReadBack(groupName, stats, controls, System.currentTimeMillis()));
+	}
+
+	/**
+	 * Check if a control would only re-assert the state the device is already known to be in.
+	 * The known value must have been confirmed by a poll or a read-back within {@link #noOpControlMaxAgeMillis}.
+	 *
+	 * @param property group name and property name (GrName#PropName)
+	 * @param requestedValue value requested by the control
+	 * @return true if the command doesn't need to be sent
+	 */
+	private boolean isNoOpControl(String property, String requestedValue) {
+		long maxAgeMillis = noOpControlMaxAgeMillis;
+		StatisticsSnapshot snapshot = localSnapshot.get();
+		if (maxAgeMillis <= 0 || snapshot == null) {
+			return false;
+		}
+		String knownValue = snapshot.getStatistics().get(property);
+		if (knownValue == null || !knownValue.equals(requestedValue)) {
+			return false;
+		}
+		long confirmedAt = snapshot.getConfirmedAt(property);
+		boolean isNoOp = System.currentTimeMillis() - confirmedAt <= maxAgeMillis;
+		if (isNoOp && logger.isDebugEnabled()) {
+			logger.debug(String.format("VIAConnectProCommunicator: %s is already %s, skip sending the control command", property, requestedValue));
+		}
+		return isNoOp;
+	}
+
 	/**
 	 * Populate error message for StreamingControl
 	 *
 	 * @param currentAction Start/Stop/Change/Restart the stream
 	 * @param userName username
 	 * @param command  Start/Stop/Change/Restart the stream command
-	 * @param rawResponse Raw response
-	 * @param splitResponse Split response
+	 * @param reply Reply of the command
 	 */
-	private void populateErrorMessageForStreaming(String currentAction, String userName, String command, String rawResponse, String[] splitResponse) {
+	private void populateErrorMessageForStreaming(String currentAction, String userName, String command, DeviceReply reply) {
 		String errorMessage = String.format("Fail to %s the stream for username: %s.", currentAction, userName);
-		if (rawResponse.contains(VIAConnectProConstant.ERROR)) {
-			VIAConnectProErrorMetric viaConnectProErrorMetric = VIAConnectProErrorMetric.getByCode(splitResponse[splitResponse.length - 1]);
-			if (viaConnectProErrorMetric != null) {
-				errorMessage += String.format("Error code: %s, description: %s", viaConnectProErrorMetric.getErrorCode(), viaConnectProErrorMetric.getErrorDescription());
-			}
+		VIAConnectProErrorMetric viaConnectProErrorMetric = reply.getError();
+		if (viaConnectProErrorMetric != null) {
+			errorMessage += String.format("Error code: %s, description: %s", viaConnectProErrorMetric.getErrorCode(), viaConnectProErrorMetric.getErrorDescription());
 		}
 		throw new CommandFailureException(this.getAddress(), command,
 				errorMessage);
@@ -1379,11 +2349,7 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 * @return boolean value.
 	 */
 	private boolean isConfigManagement() {
-		// If configManagement is null or empty => treat it as Moderator
-		if (StringUtils.isNullOrEmpty(this.getConfigManagement())) {
-			return false;
-		} else
-			return this.getConfigManagement().toLowerCase(Locale.ROOT).trim().equals(VIAConnectProConstant.TRUE);
+		return configManagementEnabled;
 	}
 
 	/**
@@ -1393,95 +2359,301 @@ public class VIAConnectProCommunicator extends TelnetCommunicator implements Mon
 	 * @return boolean is login or not.
 	 */
 	private boolean isLogin() throws Exception {
-		if(!isChannelConnected()){
-			createChannel();
+		if (!transport.isConnected()) {
+			long connectSpan = tracer.start();
+			String outcome = TraceSpan.ERROR;
+			try {
+				transport.connect();
+				outcome = TraceSpan.OK;
+			} finally {
+				tracer.end(SpanKind.CONNECT, host, connectSpan, outcome);
+			}
+		}
+		long probeSpan = tracer.start();
+		String response;
+		try {
+			response = sendRequest(VIAConnectProMonitoringMetric.ROOM_CODE.getCommand(), buildTelnetRequest(VIAConnectProMonitoringMetric.ROOM_CODE.getCommand(),Arrays.asList(VIAConnectProMonitoringMetric.ROOM_CODE.getParam().split(VIAConnectProConstant.COMMA)), false));
+		} catch (Exception exception) {
+			tracer.end(SpanKind.LOGIN_PROBE, null, probeSpan, Tracer.outcomeOf(exception));
+			throw exception;
 		}
-		String response = this.internalSend(buildTelnetRequest(VIAConnectProMonitoringMetric.ROOM_CODE.getCommand(),Arrays.asList(VIAConnectProMonitoringMetric.ROOM_CODE.getParam().split(VIAConnectProConstant.COMMA)), false));
 		boolean isLoginSuccess = response.endsWith(VIAConnectProConstant.END_COMMAND);
+		tracer.end(SpanKind.LOGIN_PROBE, null, probeSpan, isLoginSuccess ? TraceSpan.OK : TraceSpan.ERROR);
 
 		if(!isLoginSuccess){
-			logger.error("VIAConnectProCommunicator: Telnet connection to " + host + " cannot be established");
+			errorLogger.error(VIAConnectProControllingMetric.LOGIN.getCommand(), "VIAConnectProCommunicator: Telnet connection to " + host + " cannot be established");
 		}
 		return isLoginSuccess;
 	}
 
 	/**
-	 * Create switch
+	 * Instantiate Text controllable property
 	 *
-	 * @param name String name of the switch
-	 * @param status status of the switch (On/Off)
-	 * @param labelOff String - Off label
-	 * @param labelOn String - On label
-	 * @return Instance of AdvancedControllableProperty
+	 * @param name name of the property
+	 * @param label default button label
+	 * @return instance of AdvancedControllableProperty with AdvancedControllableProperty.Button as type
 	 */
-	private AdvancedControllableProperty createSwitch(String name, int status, String labelOff, String labelOn) {
-		AdvancedControllableProperty.Switch toggle = new AdvancedControllableProperty.Switch();
-		toggle.setLabelOff(labelOff);
-		toggle.setLabelOn(labelOn);
-
-		return new AdvancedControllableProperty(name, new Date(), toggle, status);
+	private AdvancedControllableProperty createButton(String name, String label, String labelPressed) {
+		AdvancedControllableProperty.Button button = new AdvancedControllableProperty.Button();
+		button.setLabel(label);
+		button.setLabelPressed(labelPressed);
+		button.setGracePeriod(0L);
+		return new AdvancedControllableProperty(name, new Date(), button, VIAConnectProConstant.EMPTY);
 	}
 
 	/**
-	 * Create drop-down
-	 *
-	 * @param name String name of the drop-down
-	 * @param values list of values
-	 * @param initialValue String initial value
-	 * @return Instance of AdvancedControllableProperty
+	 * Default transport: the telnet session of {@link TelnetCommunicator}
 	 */
-	private AdvancedControllableProperty createDropdown(String name, List<String> values, String initialValue) {
-		AdvancedControllableProperty.DropDown dropDown = new AdvancedControllableProperty.DropDown();
-		dropDown.setOptions(values.toArray(new String[0]));
-		dropDown.setLabels(values.toArray(new String[0]));
-		return new AdvancedControllableProperty(name, new Date(), dropDown, initialValue);
+	private class TelnetTransport implements VIAConnectProTransport {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void connect() throws Exception {
+			Object sessionEvent = FlightRecorderEvents.beginSession();
+			String result = TraceSpan.ERROR;
+			try {
+				createChannel();
+				result = FlightRecorderEvents.OK;
+			} catch (Exception exception) {
+				result = Tracer.outcomeOf(exception);
+				throw exception;
+			} finally {
+				FlightRecorderEvents.commitSession(sessionEvent, host, FlightRecorderEvents.CONNECT, result);
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean isConnected() {
+			return isChannelConnected();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String send(String request) throws Exception {
+			return internalSend(request);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void write(String request) throws Exception {
+			VIAConnectProCommunicator.this.write(request);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String read(String request) throws Exception {
+			return VIAConnectProCommunicator.this.read(request, getInputStream());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * Responses are decoded one at a time straight out of the buffer of {@link #framedResponseReader}
+		 */
+		@Override
+		public void readResponses(String request, Predicate<String> consumer) throws Exception {
+			InputStream inputStream = getInputStream();
+			boolean done = false;
+			while (!done) {
+				done = consumer.test(framedResponseReader.readResponse(inputStream, timeout, request));
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void disconnect() {
+			if (!isChannelConnected()) {
+				destroyChannel();
+				return;
+			}
+			Object sessionEvent = FlightRecorderEvents.beginSession();
+			destroyChannel();
+			FlightRecorderEvents.commitSession(sessionEvent, host, FlightRecorderEvents.DESTROY, FlightRecorderEvents.OK);
+		}
+
+		/**
+		 * Get the input stream of the session
+		 *
+		 * @return input stream captured by the first read of the session
+		 * @throws IOException if nothing has been read from the session yet
+		 */
+		private InputStream getInputStream() throws IOException {
+			InputStream inputStream = telnetInputStream;
+			if (inputStream == null) {
+				throw new IOException("Telnet session has not been read yet");
+			}
+			return inputStream;
+		}
 	}
 
 	/**
-	 * Create a controllable property Text
-	 *
-	 * @param name the name of property
-	 * @param stringValue character string
-	 * @return Instance of AdvancedControllableProperty Text instance
+	 * Classifies the replies read while waiting for the reply of a request, see {@link #resync(String, String, String, OutstandingReply, boolean)}
 	 */
-	private AdvancedControllableProperty createText(String name, String stringValue) {
-		AdvancedControllableProperty.Text text = new AdvancedControllableProperty.Text();
-		return new AdvancedControllableProperty(name, new Date(), text, stringValue);
+	private class ReplyMatcher implements Predicate<String> {
+
+		private final String command;
+		private final OutstandingReply expectedReply;
+		private String reply;
+		private String fallbackReply;
+		private int staleReplies;
+
+		/**
+		 * ReplyMatcher with arguments constructor
+		 *
+		 * @param command name of the command
+		 * @param expectedReply outstanding reply of the request
+		 */
+		ReplyMatcher(String command, OutstandingReply expectedReply) {
+			this.command = command;
+			this.expectedReply = expectedReply;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * Keep the reply of the request, discard the others
+		 */
+		@Override
+		public boolean test(String response) {
+			OutstandingReply claimedReply = outstandingReplies.claim(response);
+			// An unclaimed reply carrying the token belongs to the request if it has expired from the outstanding requests
+			if (claimedReply == expectedReply || claimedReply == null && CommandDescriptor.matches(response, expectedReply.getToken())) {
+				outstandingReplies.remove(expectedReply);
+				reply = response;
+				return true;
+			}
+			adapterMetrics.getCommand(command).recordDiscardedReply();
+			if (claimedReply != null) {
+				staleReplies++;
+				if (CommandDescriptor.matches(response, expectedReply.getToken())) {
+					fallbackReply = response;
+				}
+			}
+			return false;
+		}
 	}
 
 	/**
-	 * Instantiate Text controllable property
-	 *
-	 * @param name name of the property
-	 * @param label default button label
-	 * @return instance of AdvancedControllableProperty with AdvancedControllableProperty.Button as type
+	 * Sends the commands of the poll plan through the telnet session
 	 */
-	private AdvancedControllableProperty createButton(String name, String label, String labelPressed) {
-		AdvancedControllableProperty.Button button = new AdvancedControllableProperty.Button();
-		button.setLabel(label);
-		button.setLabelPressed(labelPressed);
-		button.setGracePeriod(0L);
-		return new AdvancedControllableProperty(name, new Date(), button, VIAConnectProConstant.EMPTY);
+	private class TelnetPollStepHandler implements PipelinedPollStepHandler {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String execute(PollStep step, PollResult result) {
+			VIAConnectProMonitoringMetric metric = step.getMetric();
+			return sendTelnetCommand(metric.getCommand(), resolveParams(metric, result), false);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Map<PollStep, String> executePipelined(List<PollStep> steps, PollResult result) throws Exception {
+			List<String> commands = new ArrayList<>(steps.size());
+			List<String> requests = new ArrayList<>(steps.size());
+			List<String> expectedTokens = new ArrayList<>(steps.size());
+			for (PollStep step : steps) {
+				VIAConnectProMonitoringMetric metric = step.getMetric();
+				List<String> params = resolveParams(metric, result);
+				commands.add(metric.getCommand());
+				requests.add(buildTelnetRequest(metric.getCommand(), params, false));
+				expectedTokens.add(getExpectedResponseToken(metric.getCommand(), params, false));
+			}
+			String[] responses = sendPipelinedTelnetCommands(commands, requests, expectedTokens);
+			Map<PollStep, String> stepResponses = new HashMap<>();
+			for (int i = 0; i < responses.length; i++) {
+				if (responses[i] != null) {
+					stepResponses.put(steps.get(i), responses[i]);
+				}
+			}
+			return stepResponses;
+		}
+
+		/**
+		 * Resolve params of a monitoring command, DisplayStatus is requested for the selected user
+		 *
+		 * @param metric monitoring metric
+		 * @param result responses retrieved so far
+		 * @return List of params
+		 */
+		private List<String> resolveParams(VIAConnectProMonitoringMetric metric, PollResult result) {
+			if (metric == VIAConnectProMonitoringMetric.DISPLAY_STATUS_GET) {
+				Map<String, String> users = getListParticipant(result).getUserAndStatusMap();
+				if (previousUserName == null || !users.containsKey(previousUserName)) {
+					previousUserName = participantTable.getUsernames()[0];
+				}
+				return Arrays.asList(metric.getParam(), previousUserName);
+			}
+			return Arrays.asList(metric.getParam().split(VIAConnectProConstant.COMMA));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public PollStateClass resolveStateClass(PollResult result) {
+			boolean participantsLoggedIn = result.isSuccessful(VIAConnectProMonitoringMetric.PLIST_All_STATUS)
+					&& getListParticipant(result).getUserAndStatusMap().size() != 0;
+			boolean streamingActive = false;
+			if (result.isSuccessful(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET)) {
+				DeviceReply streamingGetReply = result.getReply(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET);
+				streamingActive = streamingGetReply.getFieldCount() > 2 && !VIAConnectProConstant.ZERO.equals(streamingGetReply.getField(2));
+			}
+			return PollStateClass.of(participantsLoggedIn, streamingActive);
+		}
 	}
 
 	/**
-	 * Create slider
-	 *
-	 * @param name String Name of the slider
-	 * @param labelStart String start label of the slider
-	 * @param labelEnd String end label of the slider
-	 * @param rangeStart Float range start
-	 * @param rangeEnd Float range end
-	 * @param initialValue Float initial value
-	 * @return Instance of AdvancedControllableProperty
+	 * Content of the last write of {@link #warmStartFile}
 	 */
-	private AdvancedControllableProperty createSlider(String name, String labelStart, String labelEnd, Float rangeStart, Float rangeEnd, Float initialValue) {
-		AdvancedControllableProperty.Slider slider = new AdvancedControllableProperty.Slider();
-		slider.setLabelStart(labelStart);
-		slider.setLabelEnd(labelEnd);
-		slider.setRangeStart(rangeStart);
-		slider.setRangeEnd(rangeEnd);
-
-		return new AdvancedControllableProperty(name, new Date(), slider, initialValue);
+	private static final class WarmStartSave {
+		private Map<String, String> statistics;
+		private String stateClass;
+		private long polledAt;
+
+		/**
+		 * Check if the file has to be written again
+		 *
+		 * @param statistics statistics of the poll
+		 * @param stateClass state class of the poll
+		 * @param polledAt time of the poll
+		 * @param maxAgeMillis age after which unchanged statistics are written again
+		 * @return true if nothing has been saved yet, the content changed or the saved content is too old
+		 */
+		boolean isStale(Map<String, String> statistics, String stateClass, long polledAt, long maxAgeMillis) {
+			return this.statistics == null || !this.statistics.equals(statistics) || !this.stateClass.equals(stateClass) || polledAt - this.polledAt >= maxAgeMillis;
+		}
+
+		/**
+		 * Keep the content that has just been written
+		 */
+		void saved(Map<String, String> statistics, String stateClass, long polledAt) {
+			this.statistics = statistics;
+			this.stateClass = stateClass;
+			this.polledAt = polledAt;
+		}
+
+		/**
+		 * Forget the last write, the next poll writes the file
+		 */
+		synchronized void reset() {
+			statistics = null;
+			stateClass = null;
+			polledAt = 0;
+		}
 	}
-}
\ No newline at end of file
+}
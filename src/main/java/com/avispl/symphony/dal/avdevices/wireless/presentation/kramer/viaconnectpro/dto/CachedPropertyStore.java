@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+
+/**
+ * CachedPropertyStore
+ * Statistics and controls edited by controls that need more than one value before a command is sent to the device.
+ * Entries are indexed by full property name (GrName#PropName) and by group, so that upserts and group-wide evictions don't scan the store.
+ * Not thread-safe, guarded by the lock of the communicator.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CachedPropertyStore {
+
+	private final Map<String, String> statistics = new StatisticsMap();
+	private final Map<String, AdvancedControllableProperty> controls = new LinkedHashMap<>();
+	private final Map<String, Set<String>> groupProperties = new HashMap<>();
+
+	/**
+	 * Store the latest value of a property, and a copy of its control with this value if a control template is given
+	 *
+	 * @param property group name and property name (GrName#PropName)
+	 * @param value new value
+	 * @param template current control of the property, null if the property has no control
+	 */
+	public void upsert(String property, String value, AdvancedControllableProperty template) {
+		statistics.put(property, value);
+		// Re-added controls go to the end, like the controls the device has just confirmed
+		controls.remove(property);
+		if (template != null) {
+			AdvancedControllableProperty control = new AdvancedControllableProperty();
+			control.setName(template.getName());
+			control.setValue(value);
+			control.setTimestamp(template.getTimestamp());
+			control.setType(template.getType());
+			controls.put(property, control);
+		}
+		groupProperties.computeIfAbsent(groupOf(property), group -> new HashSet<>()).add(property);
+	}
+
+	/**
+	 * Remove every statistic and control of a group
+	 *
+	 * @param groupName name of the group
+	 */
+	public void removeGroup(String groupName) {
+		Set<String> properties = groupProperties.remove(groupName);
+		if (properties == null) {
+			return;
+		}
+		for (String property : properties) {
+			statistics.remove(property);
+			controls.remove(property);
+		}
+	}
+
+	/**
+	 * Get the cached control of a property
+	 *
+	 * @param property group name and property name (GrName#PropName)
+	 * @return cached control, null if none
+	 */
+	public AdvancedControllableProperty getControl(String property) {
+		return controls.get(property);
+	}
+
+	/**
+	 * Check if nothing is cached
+	 *
+	 * @return true if the store is empty
+	 */
+	public boolean isEmpty() {
+		return statistics.isEmpty() && controls.isEmpty();
+	}
+
+	/**
+	 * Overwrite statistics and controls of a poll result with the cached ones
+	 *
+	 * @param stats Map of statistics of the poll
+	 * @param pollControls List of AdvancedControllableProperty of the poll
+	 */
+	public void mergeInto(Map<String, String> stats, List<AdvancedControllableProperty> pollControls) {
+		if (isEmpty()) {
+			return;
+		}
+		stats.putAll(statistics);
+		if (!controls.isEmpty()) {
+			pollControls.removeIf(control -> controls.containsKey(control.getName()));
+			pollControls.addAll(controls.values());
+		}
+	}
+
+	/**
+	 * Remove every cached statistic and control
+	 */
+	public void clear() {
+		statistics.clear();
+		controls.clear();
+		groupProperties.clear();
+	}
+
+	/**
+	 * Get group name of a property
+	 *
+	 * @param property group name and property name (GrName#PropName)
+	 * @return group name, the property itself if it is not grouped
+	 */
+	private static String groupOf(String property) {
+		int hashIndex = property.indexOf(VIAConnectProConstant.HASH);
+		return hashIndex < 0 ? property : property.substring(0, hashIndex);
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.util.Date;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty.ControllableType;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+
+/**
+ * ControlTemplate
+ * Name and type of a control whose shape never changes, built once and shared by every poll.
+ * Each poll only creates the AdvancedControllableProperty holding the current value and timestamp,
+ * so that published controls stay immutable while labels, options and property names are not rebuilt.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class ControlTemplate {
+
+	private final String name;
+	private final ControllableType type;
+
+	private ControlTemplate(String name, ControllableType type) {
+		this.name = name;
+		this.type = type;
+	}
+
+	/**
+	 * Template of a text control
+	 *
+	 * @param groupName group name
+	 * @param propertyName property name
+	 * @return template
+	 */
+	public static ControlTemplate text(String groupName, String propertyName) {
+		return new ControlTemplate(property(groupName, propertyName), new AdvancedControllableProperty.Text());
+	}
+
+	/**
+	 * Template of a button
+	 *
+	 * @param groupName group name
+	 * @param propertyName property name
+	 * @param label default button label
+	 * @param labelPressed label while the button is pressed
+	 * @return template
+	 */
+	public static ControlTemplate button(String groupName, String propertyName, String label, String labelPressed) {
+		AdvancedControllableProperty.Button button = new AdvancedControllableProperty.Button();
+		button.setLabel(label);
+		button.setLabelPressed(labelPressed);
+		button.setGracePeriod(0L);
+		return new ControlTemplate(property(groupName, propertyName), button);
+	}
+
+	/**
+	 * Template of a switch
+	 *
+	 * @param groupName group name
+	 * @param propertyName property name
+	 * @param labelOff Off label
+	 * @param labelOn On label
+	 * @return template
+	 */
+	public static ControlTemplate toggle(String groupName, String propertyName, String labelOff, String labelOn) {
+		AdvancedControllableProperty.Switch toggle = new AdvancedControllableProperty.Switch();
+		toggle.setLabelOff(labelOff);
+		toggle.setLabelOn(labelOn);
+		return new ControlTemplate(property(groupName, propertyName), toggle);
+	}
+
+	/**
+	 * Template of a drop-down with fixed options, the array is shared and must not be modified
+	 *
+	 * @param groupName group name
+	 * @param propertyName property name
+	 * @param options options, also used as labels
+	 * @return template
+	 */
+	public static ControlTemplate dropdown(String groupName, String propertyName, String[] options) {
+		AdvancedControllableProperty.DropDown dropDown = new AdvancedControllableProperty.DropDown();
+		dropDown.setOptions(options);
+		dropDown.setLabels(options);
+		return new ControlTemplate(property(groupName, propertyName), dropDown);
+	}
+
+	/**
+	 * Template of a slider
+	 *
+	 * @param groupName group name
+	 * @param propertyName property name
+	 * @param labelStart start label
+	 * @param labelEnd end label
+	 * @param rangeStart range start
+	 * @param rangeEnd range end
+	 * @return template
+	 */
+	public static ControlTemplate slider(String groupName, String propertyName, String labelStart, String labelEnd, Float rangeStart, Float rangeEnd) {
+		AdvancedControllableProperty.Slider slider = new AdvancedControllableProperty.Slider();
+		slider.setLabelStart(labelStart);
+		slider.setLabelEnd(labelEnd);
+		slider.setRangeStart(rangeStart);
+		slider.setRangeEnd(rangeEnd);
+		return new ControlTemplate(property(groupName, propertyName), slider);
+	}
+
+	/**
+	 * Retrieves {@code {@link #name}}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Create a control with the shared name and type
+	 *
+	 * @param timestamp timestamp of the control, usually shared by every control of a poll
+	 * @param value current value
+	 * @return Instance of AdvancedControllableProperty
+	 */
+	public AdvancedControllableProperty create(Date timestamp, Object value) {
+		return new AdvancedControllableProperty(name, timestamp, type, value);
+	}
+
+	/**
+	 * Build a grouped property name
+	 */
+	private static String property(String groupName, String propertyName) {
+		return groupName + VIAConnectProConstant.HASH + propertyName;
+	}
+}
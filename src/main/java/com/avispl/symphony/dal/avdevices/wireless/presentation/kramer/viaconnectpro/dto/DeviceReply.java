@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.util.Arrays;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProErrorMetric;
+
+/**
+ * DeviceReply
+ * One reply of the device, for example Streaming|SRestart|1 or GetVersion|Error703, with its fields separated by |.
+ * The reply is decoded lazily and only once: the field boundaries are found on the first field access, and the error
+ * carried by the last field is looked up by code on the first error access.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class DeviceReply {
+
+	private static final char FIELD_SEPARATOR = '|';
+	private static final String ERROR_CODE_PREFIX = "Error";
+
+	private final String raw;
+	/**
+	 * Index of every field separator, followed by the length of the reply
+	 */
+	private int[] fieldEnds;
+	private boolean errorDecoded;
+	private VIAConnectProErrorMetric error;
+
+	/**
+	 * DeviceReply with arguments constructor
+	 *
+	 * @param raw reply without its trailing \r\n
+	 */
+	public DeviceReply(String raw) {
+		this.raw = raw;
+	}
+
+	/**
+	 * Retrieves {@code {@link #raw}}
+	 *
+	 * @return value of {@link #raw}
+	 */
+	public String getRaw() {
+		return raw;
+	}
+
+	/**
+	 * Retrieves number of fields of the reply
+	 *
+	 * @return number of fields
+	 */
+	public int getFieldCount() {
+		return fieldEnds().length;
+	}
+
+	/**
+	 * Get a field of the reply
+	 *
+	 * @param index index of the field, 0 for the command echoed by the device
+	 * @return field, null if the reply has fewer fields
+	 */
+	public String getField(int index) {
+		int[] ends = fieldEnds();
+		if (index < 0 || index >= ends.length) {
+			return null;
+		}
+		return raw.substring(index == 0 ? 0 : ends[index - 1] + 1, ends[index]);
+	}
+
+	/**
+	 * Get the last field of the reply, where the device puts the value or the error code
+	 *
+	 * @return last field
+	 */
+	public String getValue() {
+		return getField(getFieldCount() - 1);
+	}
+
+	/**
+	 * Check if a field of the reply is the success status 1
+	 *
+	 * @param index index of the status field
+	 * @return true if the field is 1
+	 */
+	public boolean isSuccess(int index) {
+		return VIAConnectProConstant.ONE.equals(getField(index));
+	}
+
+	/**
+	 * Get the error code carried by the last field of the reply
+	 *
+	 * @return error code, for example Error14, null if the reply carries none
+	 */
+	public String getErrorCode() {
+		String value = getValue();
+		return value.startsWith(ERROR_CODE_PREFIX) ? value : null;
+	}
+
+	/**
+	 * Get the error carried by the last field of the reply
+	 *
+	 * @return error, null if the reply carries no error or an error code that isn't documented
+	 */
+	public VIAConnectProErrorMetric getError() {
+		if (!errorDecoded) {
+			String errorCode = getErrorCode();
+			error = errorCode == null ? null : VIAConnectProErrorMetric.getByCode(errorCode);
+			errorDecoded = true;
+		}
+		return error;
+	}
+
+	/**
+	 * Check if the reply carries an error code
+	 *
+	 * @return true if the last field is an error code
+	 */
+	public boolean isError() {
+		return getErrorCode() != null;
+	}
+
+	/**
+	 * Find the field boundaries on first use
+	 */
+	private int[] fieldEnds() {
+		if (fieldEnds == null) {
+			int[] ends = new int[8];
+			int count = 0;
+			for (int i = raw.indexOf(FIELD_SEPARATOR); i >= 0; i = raw.indexOf(FIELD_SEPARATOR, i + 1)) {
+				if (count == ends.length - 1) {
+					ends = Arrays.copyOf(ends, ends.length * 2);
+				}
+				ends[count++] = i;
+			}
+			ends[count++] = raw.length();
+			fieldEnds = Arrays.copyOf(ends, count);
+		}
+		return fieldEnds;
+	}
+
+	@Override
+	public String toString() {
+		return raw;
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+
+/**
+ * ParticipantTable
+ * Participants logged in to the device, kept across polls.
+ * Every user keeps the slot it got when it joined until it leaves, so that ParticipantN doesn't reshuffle between polls,
+ * usernames are interned by the table and statuses are stored as codes.
+ * The username array and the username-status view are only rebuilt when membership or a status changes. Not thread-safe.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ParticipantTable {
+
+	/**
+	 * Status codes of PList|all, anything else is waiting for permission
+	 */
+	public static final byte NOT_PRESENTING = 0;
+	public static final byte PRESENTING = 1;
+	public static final byte WAITING_FOR_PERMISSION = 2;
+
+	private static final String[] statusValues = { VIAConnectProConstant.ZERO, VIAConnectProConstant.ONE, "2" };
+
+	private final List<String> slots = new ArrayList<>();
+	private byte[] statuses = new byte[8];
+	private final Map<String, Integer> slotByUsername = new HashMap<>();
+	private int participantCount;
+	private int membershipVersion;
+	private String lastParticipants;
+	private String[] usernames = new String[0];
+	private Map<String, String> userAndStatusMap = Collections.emptyMap();
+
+	/**
+	 * Update the table with the participant list of PList|all
+	 *
+	 * @param participants list of username_status separated by #, null if no one is logged in
+	 * @return true if membership has changed
+	 */
+	public boolean update(String participants) {
+		if (participants == null ? lastParticipants == null && participantCount == 0 : participants.equals(lastParticipants)) {
+			return false;
+		}
+		lastParticipants = participants;
+		Set<String> present = new HashSet<>();
+		boolean membershipChanged = false;
+		boolean statusChanged = false;
+		if (participants != null) {
+			int start = 0;
+			while (start <= participants.length()) {
+				int end = participants.indexOf(VIAConnectProConstant.HASH, start);
+				if (end < 0) {
+					end = participants.length();
+				}
+				int separator = participants.lastIndexOf(VIAConnectProConstant.UNDER_SCORE, end - 1);
+				if (separator >= start) {
+					String username = participants.substring(start, separator);
+					byte status = toStatusCode(participants, separator + 1, end);
+					Integer slot = slotByUsername.get(username);
+					if (slot == null) {
+						slot = join(username);
+						membershipChanged = true;
+					}
+					if (statuses[slot] != status) {
+						statuses[slot] = status;
+						statusChanged = true;
+					}
+					present.add(slots.get(slot));
+				}
+				start = end + 1;
+			}
+		}
+		if (present.size() != participantCount) {
+			for (int slot = 0; slot < slots.size(); slot++) {
+				String username = slots.get(slot);
+				if (username != null && !present.contains(username)) {
+					slots.set(slot, null);
+					slotByUsername.remove(username);
+					participantCount--;
+					membershipChanged = true;
+				}
+			}
+		}
+		if (membershipChanged) {
+			membershipVersion++;
+			usernames = buildUsernames();
+		}
+		if (membershipChanged || statusChanged) {
+			userAndStatusMap = buildUserAndStatusMap();
+		}
+		return membershipChanged;
+	}
+
+	/**
+	 * Retrieves number of logged-in participants
+	 *
+	 * @return number of participants
+	 */
+	public int getParticipantCount() {
+		return participantCount;
+	}
+
+	/**
+	 * Retrieves number of slots, vacant slots included
+	 *
+	 * @return number of slots
+	 */
+	public int getSlotCount() {
+		return slots.size();
+	}
+
+	/**
+	 * Get username of a slot
+	 *
+	 * @param slot slot index
+	 * @return username, null if the slot is vacant
+	 */
+	public String getUsername(int slot) {
+		return slots.get(slot);
+	}
+
+	/**
+	 * Get status code of a slot
+	 *
+	 * @param slot slot index
+	 * @return one of {@link #NOT_PRESENTING}, {@link #PRESENTING}, {@link #WAITING_FOR_PERMISSION}
+	 */
+	public byte getStatus(int slot) {
+		return statuses[slot];
+	}
+
+	/**
+	 * Retrieves {@code {@link #membershipVersion}}, incremented every time a participant joins or leaves
+	 *
+	 * @return value of {@link #membershipVersion}
+	 */
+	public int getMembershipVersion() {
+		return membershipVersion;
+	}
+
+	/**
+	 * Retrieves usernames in slot order, the array is shared and must not be modified
+	 *
+	 * @return array of usernames
+	 */
+	public String[] getUsernames() {
+		return usernames;
+	}
+
+	/**
+	 * Retrieves unmodifiable username-status code (0/1/2) view in slot order
+	 *
+	 * @return Map of username and status
+	 */
+	public Map<String, String> getUserAndStatusMap() {
+		return userAndStatusMap;
+	}
+
+	/**
+	 * Remove every participant
+	 */
+	public void clear() {
+		update(null);
+	}
+
+	/**
+	 * Give a joining user the first vacant slot
+	 */
+	private int join(String username) {
+		int slot = slots.indexOf(null);
+		if (slot < 0) {
+			slot = slots.size();
+			slots.add(username);
+			if (slot >= statuses.length) {
+				statuses = Arrays.copyOf(statuses, statuses.length * 2);
+			}
+		} else {
+			slots.set(slot, username);
+		}
+		// Force the status to be set by the caller
+		statuses[slot] = -1;
+		slotByUsername.put(username, slot);
+		participantCount++;
+		return slot;
+	}
+
+	/**
+	 * Status code of the raw status between start and end
+	 */
+	private static byte toStatusCode(String participants, int start, int end) {
+		if (end - start == 1) {
+			char status = participants.charAt(start);
+			if (status == '0') {
+				return NOT_PRESENTING;
+			}
+			if (status == '1') {
+				return PRESENTING;
+			}
+		}
+		return WAITING_FOR_PERMISSION;
+	}
+
+	private String[] buildUsernames() {
+		String[] newUsernames = new String[participantCount];
+		int i = 0;
+		for (String username : slots) {
+			if (username != null) {
+				newUsernames[i++] = username;
+			}
+		}
+		return newUsernames;
+	}
+
+	private Map<String, String> buildUserAndStatusMap() {
+		if (participantCount == 0) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> newUserAndStatusMap = new LinkedHashMap<>();
+		for (int slot = 0; slot < slots.size(); slot++) {
+			String username = slots.get(slot);
+			if (username != null) {
+				newUserAndStatusMap.put(username, statusValues[statuses[slot]]);
+			}
+		}
+		return Collections.unmodifiableMap(newUserAndStatusMap);
+	}
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * StatisticsMap
+ * Map of statistics tailored to the properties of the adapter: every property of {@link #SCHEMA} has a fixed slot in an array,
+ * dynamic properties (ParticipantN, AdapterMetadata) overflow to a {@link HashMap} created on first use.
+ * A poll then allocates two arrays instead of one node per statistic. Not thread-safe.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class StatisticsMap extends AbstractMap<String, String> {
+
+	/**
+	 * Properties reported by every poll, at most 64 so that the presence of each slot fits in a long
+	 */
+	private static final String[] SCHEMA = {
+			VIAConnectProConstant.IP_ADDRESS,
+			VIAConnectProConstant.SUBNET_MASK,
+			VIAConnectProConstant.DEFAULT_GATEWAY,
+			VIAConnectProConstant.DNS_SERVER,
+			VIAConnectProConstant.HOST_NAME,
+			VIAConnectProConstant.ROOM_CODE,
+			VIAConnectProConstant.VERSION,
+			VIAConnectProConstant.MAC_ADDRESS,
+			VIAConnectProConstant.SERIAL_NUMBER,
+			property(VIAConnectProConstant.DEVICE_SETTINGS, VIAConnectProConstant.API_SETTINGS_COMMAND),
+			property(VIAConnectProConstant.DEVICE_SETTINGS, VIAConnectProConstant.ACTIVATE_SYSTEM_LOG),
+			property(VIAConnectProConstant.DEVICE_SETTINGS, VIAConnectProConstant.JOIN_THROUGH_BROWSER),
+			property(VIAConnectProConstant.DEVICE_SETTINGS, VIAConnectProConstant.QUICK_CLIENT_ACCESS),
+			property(VIAConnectProConstant.DEVICE_SETTINGS, VIAConnectProConstant.VOLUME),
+			property(VIAConnectProMonitoringMetric.MODERATOR_MODE_STATUS_GET.getGroupName(), VIAConnectProConstant.MODERATOR_MODE_STATUS),
+			property(VIAConnectProMonitoringMetric.MODERATOR_MODE_STATUS_GET.getGroupName(), VIAConnectProConstant.PARTICIPANT_PRESENTATION_START_CONFIRM),
+			property(VIAConnectProMonitoringMetric.ROOM_OVERLAY_STATUS_GET.getGroupName(), VIAConnectProConstant.AUTO_HIDE_TIME),
+			property(VIAConnectProMonitoringMetric.ROOM_OVERLAY_STATUS_GET.getGroupName(), VIAConnectProConstant.ROOM_OVERLAY_ACTIVE_STATUS),
+			property(VIAConnectProMonitoringMetric.PLIST_CNT.getGroupName(), VIAConnectProConstant.CURRENT_LOGGED_IN_USERS),
+			property(VIAConnectProConstant.USER_MODERATION, VIAConnectProConstant.USER),
+			property(VIAConnectProConstant.USER_MODERATION, VIAConnectProConstant.USER_DISPLAY_STATUS),
+			property(VIAConnectProConstant.USER_MODERATION, VIAConnectProConstant.USER_PRESENTATION),
+			property(VIAConnectProConstant.STREAMING_FROM_EXTERNAL_TO_DEVICE, VIAConnectProConstant.EXTERNAL_STREAM_URL),
+			property(VIAConnectProConstant.STREAMING_FROM_EXTERNAL_TO_DEVICE, VIAConnectProConstant.START_STREAMING),
+			property(VIAConnectProConstant.STREAMING_FROM_EXTERNAL_TO_DEVICE, VIAConnectProConstant.STOP_STREAMING),
+			property(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.STREAMING_MODE),
+			property(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.STATUS),
+			property(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.ACTION),
+			property(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.APPLY),
+			property(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.URL),
+			property(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.URL_1),
+			property(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.URL_2),
+			property(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.NEW_URL),
+			property(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.NEW_URL_1),
+			property(VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.NEW_URL_2)
+	};
+
+	private static final Map<String, Integer> SLOTS = new HashMap<>();
+
+	static {
+		for (int i = 0; i < SCHEMA.length; i++) {
+			SLOTS.put(SCHEMA[i], i);
+		}
+	}
+
+	private final String[] values = new String[SCHEMA.length];
+	private long present;
+	private int fixedSize;
+	private Map<String, String> overflow;
+	private int modCount;
+
+	/**
+	 * StatisticsMap no arg constructor
+	 */
+	public StatisticsMap() {
+		// Slots are allocated eagerly, overflow on first dynamic property
+	}
+
+	/**
+	 * StatisticsMap with arguments constructor
+	 *
+	 * @param statistics statistics to be copied
+	 */
+	public StatisticsMap(Map<String, String> statistics) {
+		putAll(statistics);
+	}
+
+	@Override
+	public int size() {
+		return fixedSize + (overflow == null ? 0 : overflow.size());
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		Integer slot = SLOTS.get(key);
+		if (slot != null) {
+			return isPresent(slot);
+		}
+		return overflow != null && overflow.containsKey(key);
+	}
+
+	@Override
+	public String get(Object key) {
+		Integer slot = SLOTS.get(key);
+		if (slot != null) {
+			return values[slot];
+		}
+		return overflow == null ? null : overflow.get(key);
+	}
+
+	@Override
+	public String put(String key, String value) {
+		Integer slot = SLOTS.get(key);
+		if (slot == null) {
+			if (overflow == null) {
+				overflow = new HashMap<>();
+			}
+			// Like HashMap, replacing the value of an existing key is not a structural modification
+			if (!overflow.containsKey(key)) {
+				modCount++;
+			}
+			return overflow.put(key, value);
+		}
+		String previous = values[slot];
+		if (!isPresent(slot)) {
+			present |= 1L << slot;
+			fixedSize++;
+			modCount++;
+		}
+		values[slot] = value;
+		return previous;
+	}
+
+	@Override
+	public String remove(Object key) {
+		Integer slot = SLOTS.get(key);
+		if (slot == null) {
+			if (overflow == null || !overflow.containsKey(key)) {
+				return null;
+			}
+			modCount++;
+			return overflow.remove(key);
+		}
+		String previous = values[slot];
+		clearSlot(slot);
+		return previous;
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends String> statistics) {
+		if (statistics instanceof StatisticsMap) {
+			StatisticsMap other = (StatisticsMap) statistics;
+			long otherPresent = other.present;
+			while (otherPresent != 0) {
+				int slot = Long.numberOfTrailingZeros(otherPresent);
+				otherPresent &= otherPresent - 1;
+				put(SCHEMA[slot], other.values[slot]);
+			}
+			if (other.overflow != null && !other.overflow.isEmpty()) {
+				int overflowSize = overflow == null ? 0 : overflow.size();
+				if (overflow == null) {
+					overflow = new HashMap<>(other.overflow);
+				} else {
+					overflow.putAll(other.overflow);
+				}
+				if (overflow.size() != overflowSize) {
+					modCount++;
+				}
+			}
+			return;
+		}
+		super.putAll(statistics);
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(values, null);
+		present = 0;
+		fixedSize = 0;
+		overflow = null;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * Build a grouped property name
+	 */
+	private static String property(String groupName, String propertyName) {
+		return groupName + VIAConnectProConstant.HASH + propertyName;
+	}
+
+	private boolean isPresent(int slot) {
+		return (present & (1L << slot)) != 0;
+	}
+
+	private void clearSlot(int slot) {
+		if (isPresent(slot)) {
+			present &= ~(1L << slot);
+			values[slot] = null;
+			fixedSize--;
+			modCount++;
+		}
+	}
+
+	/**
+	 * Entries of the fixed slots followed by the overflow entries
+	 */
+	private final class EntrySet extends AbstractSet<Entry<String, String>> {
+
+		@Override
+		public int size() {
+			return StatisticsMap.this.size();
+		}
+
+		@Override
+		public Iterator<Entry<String, String>> iterator() {
+			return new EntryIterator();
+		}
+	}
+
+	/**
+	 * Iterator over fixed slots then overflow, supports {@link Iterator#remove()}
+	 */
+	private final class EntryIterator implements Iterator<Entry<String, String>> {
+
+		private long remaining = present;
+		private int currentSlot = -1;
+		private Iterator<Entry<String, String>> overflowIterator;
+		private boolean inOverflow;
+		private int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			if (remaining != 0) {
+				return true;
+			}
+			return overflow != null && overflowIterator().hasNext();
+		}
+
+		@Override
+		public Entry<String, String> next() {
+			if (expectedModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (remaining != 0) {
+				int slot = Long.numberOfTrailingZeros(remaining);
+				remaining &= remaining - 1;
+				currentSlot = slot;
+				inOverflow = false;
+				return new SlotEntry(slot);
+			}
+			if (overflow == null) {
+				throw new NoSuchElementException();
+			}
+			inOverflow = true;
+			return overflowIterator().next();
+		}
+
+		@Override
+		public void remove() {
+			if (inOverflow) {
+				overflowIterator.remove();
+			} else {
+				if (currentSlot < 0) {
+					throw new IllegalStateException();
+				}
+				clearSlot(currentSlot);
+				currentSlot = -1;
+			}
+			modCount++;
+			expectedModCount = modCount;
+		}
+
+		private Iterator<Entry<String, String>> overflowIterator() {
+			if (overflowIterator == null) {
+				overflowIterator = overflow.entrySet().iterator();
+			}
+			return overflowIterator;
+		}
+	}
+
+	/**
+	 * Entry of a fixed slot, writes through to the map
+	 */
+	private final class SlotEntry implements Entry<String, String> {
+
+		private final int slot;
+
+		private SlotEntry(int slot) {
+			this.slot = slot;
+		}
+
+		@Override
+		public String getKey() {
+			return SCHEMA[slot];
+		}
+
+		@Override
+		public String getValue() {
+			return values[slot];
+		}
+
+		@Override
+		public String setValue(String value) {
+			String previous = values[slot];
+			values[slot] = value;
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			Entry<?, ?> entry = (Entry<?, ?>) o;
+			Object value = values[slot];
+			return getKey().equals(entry.getKey()) && (value == null ? entry.getValue() == null : value.equals(entry.getValue()));
+		}
+
+		@Override
+		public int hashCode() {
+			String value = values[slot];
+			return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + values[slot];
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+
+/**
+ * StatisticsSnapshot
+ * Immutable statistics and controls of one completed poll, patched copies are published after read-backs.
+ * Statistics and controls are unmodifiable so that a published snapshot can be read without any lock,
+ * every caller of {@link #getExtendedStatistics()} gets its own modifiable copy.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class StatisticsSnapshot {
+
+	private final StatisticsMap statistics;
+	private final Map<String, String> unmodifiableStatistics;
+	private final List<AdvancedControllableProperty> controls;
+	private final Map<String, AdvancedControllableProperty> controlsByName;
+	private final long polledAt;
+	private final Map<String, Long> confirmedAt;
+
+	/**
+	 * StatisticsSnapshot with arguments constructor, statistics and controls are copied
+	 *
+	 * @param statistics Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @param polledAt time at which the statistics were retrieved by a full poll
+	 * @param confirmedAt time at which properties were confirmed by a read-back after a control
+	 */
+	public StatisticsSnapshot(Map<String, String> statistics, List<AdvancedControllableProperty> controls, long polledAt, Map<String, Long> confirmedAt) {
+		this.statistics = new StatisticsMap(statistics);
+		this.unmodifiableStatistics = Collections.unmodifiableMap(this.statistics);
+		this.controls = Collections.unmodifiableList(new ArrayList<>(controls));
+		this.controlsByName = new HashMap<>(controls.size() * 2);
+		for (AdvancedControllableProperty control : controls) {
+			controlsByName.put(control.getName(), control);
+		}
+		this.polledAt = polledAt;
+		this.confirmedAt = confirmedAt.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(confirmedAt));
+	}
+
+	/**
+	 * Build the statistics returned to a caller of getMultipleStatistics(), with copies of the statistics and controls
+	 * that the caller may modify without affecting the snapshot or other callers
+	 *
+	 * @return new ExtendedStatistics
+	 */
+	public ExtendedStatistics getExtendedStatistics() {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(copyStatistics());
+		extendedStatistics.setControllableProperties(new ArrayList<>(controls));
+		return extendedStatistics;
+	}
+
+	/**
+	 * Retrieves unmodifiable statistics of the snapshot
+	 *
+	 * @return Map of statistics
+	 */
+	public Map<String, String> getStatistics() {
+		return unmodifiableStatistics;
+	}
+
+	/**
+	 * Retrieves unmodifiable controls of the snapshot
+	 *
+	 * @return List of AdvancedControllableProperty
+	 */
+	public List<AdvancedControllableProperty> getControllableProperties() {
+		return controls;
+	}
+
+	/**
+	 * Copy statistics of the snapshot to a modifiable map
+	 *
+	 * @return Map of statistics
+	 */
+	public Map<String, String> copyStatistics() {
+		return new StatisticsMap(statistics);
+	}
+
+	/**
+	 * Get the control of a property
+	 *
+	 * @param property group name and property name (GrName#PropName)
+	 * @return control, null if the property has no control
+	 */
+	public AdvancedControllableProperty getControl(String property) {
+		return controlsByName.get(property);
+	}
+
+	/**
+	 * Retrieves {@code {@link #polledAt}}
+	 *
+	 * @return value of {@link #polledAt}
+	 */
+	public long getPolledAt() {
+		return polledAt;
+	}
+
+	/**
+	 * Retrieves the latest time at which a property was confirmed, by the full poll or by a read-back
+	 *
+	 * @param property group name and property name (GrName#PropName)
+	 * @return time in milliseconds
+	 */
+	public long getConfirmedAt(String property) {
+		return Math.max(polledAt, confirmedAt.getOrDefault(property, 0L));
+	}
+
+	/**
+	 * Copy this snapshot with other statistics and controls, keeping the time of the poll and of every read-back
+	 *
+	 * @param stats Map of statistics
+	 * @param controls List of AdvancedControllableProperty
+	 * @return new snapshot
+	 */
+	public StatisticsSnapshot withStatistics(Map<String, String> stats, List<AdvancedControllableProperty> controls) {
+		return new StatisticsSnapshot(stats, controls, polledAt, confirmedAt);
+	}
+
+	/**
+	 * Copy this snapshot and patch it with statistics and controls that have just been read back from the device
+	 *
+	 * @param groupName group to be replaced as a whole, null to only overwrite the given properties
+	 * @param stats Map of statistics read back
+	 * @param controls List of AdvancedControllableProperty read back
+	 * @param now time of the read-back
+	 * @return patched snapshot
+	 */
+	public StatisticsSnapshot withReadBack(String groupName, Map<String, String> stats, List<AdvancedControllableProperty> controls, long now) {
+		Map<String, String> newStats = copyStatistics();
+		List<AdvancedControllableProperty> newControls = new ArrayList<>(getControllableProperties());
+		if (groupName != null) {
+			String groupPrefix = groupName + VIAConnectProConstant.HASH;
+			newStats.keySet().removeIf(property -> property.startsWith(groupPrefix));
+			newControls.removeIf(control -> control.getName().startsWith(groupPrefix));
+		}
+		newStats.putAll(stats);
+		for (AdvancedControllableProperty control : controls) {
+			newControls.removeIf(localControl -> localControl.getName().equals(control.getName()));
+		}
+		newControls.addAll(controls);
+		Map<String, Long> newConfirmedAt = new HashMap<>(confirmedAt);
+		for (String property : stats.keySet()) {
+			newConfirmedAt.put(property, now);
+		}
+		return new StatisticsSnapshot(newStats, newControls, polledAt, newConfirmedAt);
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * WarmStartSnapshot
+ * Last known statistics of a device and the state class of its last poll, kept on disk so that an adapter restarted on the same node
+ * can serve them while its first poll is running.
+ * Binary format: magic, version, device key, poll time, state class, number of statistics, then every property and its value.
+ * The file is replaced atomically, a reader never sees a partially written snapshot.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class WarmStartSnapshot {
+
+	private static final int MAGIC = 0x56434150;
+	private static final byte VERSION = 1;
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	private final String deviceKey;
+	private final long polledAt;
+	private final String stateClass;
+	private final Map<String, String> statistics;
+
+	/**
+	 * WarmStartSnapshot with arguments constructor
+	 *
+	 * @param deviceKey identity of the device the statistics belong to, host and port
+	 * @param polledAt time at which the statistics were retrieved
+	 * @param stateClass name of the state class of the poll
+	 * @param statistics Map of statistics
+	 */
+	public WarmStartSnapshot(String deviceKey, long polledAt, String stateClass, Map<String, String> statistics) {
+		this.deviceKey = deviceKey;
+		this.polledAt = polledAt;
+		this.stateClass = stateClass;
+		this.statistics = Collections.unmodifiableMap(new LinkedHashMap<>(statistics));
+	}
+
+	/**
+	 * Retrieves {@code {@link #deviceKey}}
+	 *
+	 * @return value of {@link #deviceKey}
+	 */
+	public String getDeviceKey() {
+		return deviceKey;
+	}
+
+	/**
+	 * Retrieves {@code {@link #polledAt}}
+	 *
+	 * @return value of {@link #polledAt}
+	 */
+	public long getPolledAt() {
+		return polledAt;
+	}
+
+	/**
+	 * Retrieves {@code {@link #stateClass}}
+	 *
+	 * @return value of {@link #stateClass}
+	 */
+	public String getStateClass() {
+		return stateClass;
+	}
+
+	/**
+	 * Retrieves {@code {@link #statistics}}
+	 *
+	 * @return value of {@link #statistics}
+	 */
+	public Map<String, String> getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Write the snapshot to a temporary file next to the target, then move it over the target
+	 *
+	 * @param file snapshot file
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void write(Path file) throws IOException {
+		Path tempFile = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeUTF(deviceKey);
+			out.writeLong(polledAt);
+			out.writeUTF(stateClass);
+			out.writeInt(statistics.size());
+			for (Map.Entry<String, String> statistic : statistics.entrySet()) {
+				out.writeUTF(statistic.getKey());
+				out.writeUTF(statistic.getValue() == null ? "" : statistic.getValue());
+			}
+		}
+		try {
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Read the snapshot of a device
+	 *
+	 * @param file snapshot file
+	 * @param deviceKey identity of the device, host and port
+	 * @return snapshot, null if the file doesn't exist or belongs to another device
+	 * @throws IOException if the file cannot be read or is not a snapshot
+	 */
+	public static WarmStartSnapshot read(Path file, String deviceKey) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+				throw new IOException("Invalid warm start snapshot: " + file);
+			}
+			String fileDeviceKey = in.readUTF();
+			if (!fileDeviceKey.equals(deviceKey)) {
+				return null;
+			}
+			long polledAt = in.readLong();
+			String stateClass = in.readUTF();
+			int count = in.readInt();
+			if (count < 0) {
+				throw new IOException("Invalid warm start snapshot: " + file);
+			}
+			Map<String, String> statistics = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++) {
+				statistics.put(in.readUTF(), in.readUTF());
+			}
+			return new WarmStartSnapshot(fileDeviceKey, polledAt, stateClass, statistics);
+		} catch (NoSuchFileException e) {
+			return null;
+		}
+	}
+}
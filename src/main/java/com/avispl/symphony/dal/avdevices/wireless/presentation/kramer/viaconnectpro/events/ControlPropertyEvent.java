@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * ControlPropertyEvent
+ * JFR event of a controlProperty() execution, lock wait included
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Name("com.avispl.viaconnectpro.ControlProperty")
+@Label("VIA Connect PRO Control Property")
+@Category({ "Symphony", "VIA Connect PRO" })
+@Description("Control of a VIA Connect PRO device property")
+@StackTrace(false)
+class ControlPropertyEvent extends jdk.jfr.Event {
+
+	@Label("Host")
+	String host;
+
+	@Label("Property")
+	String property;
+
+	@Label("Value")
+	String value;
+
+	@Label("Result")
+	String result;
+}
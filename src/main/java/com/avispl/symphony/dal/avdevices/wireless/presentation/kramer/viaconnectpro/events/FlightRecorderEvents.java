@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.events;
+
+/**
+ * FlightRecorderEvents
+ * Emits JFR events for telnet commands, telnet sessions and controls, always on and cheap when no recording enables them.
+ * Each operation is started with a begin method and finished with the matching commit method.
+ * The returned handle is null when JFR is not available in the JVM or the event is disabled, committing a null handle does nothing.
+ * <pre>
+ * Object event = FlightRecorderEvents.beginCommand();
+ * ...
+ * FlightRecorderEvents.commitCommand(event, host, "PList", requestBytes, responseBytes, FlightRecorderEvents.OK);
+ * </pre>
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class FlightRecorderEvents {
+
+	/**
+	 * Result of a successful operation
+	 */
+	public static final String OK = "OK";
+
+	/**
+	 * Session actions
+	 */
+	public static final String CONNECT = "Connect";
+	public static final String LOGIN = "Login";
+	public static final String DESTROY = "Destroy";
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	private FlightRecorderEvents() {
+	}
+
+	/**
+	 * Check if the JVM provides the JFR event API, Java 8 builds older than 8u262 do not
+	 *
+	 * @return true if JFR events can be committed
+	 */
+	public static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.FlightRecorder", false, FlightRecorderEvents.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Start a telnet command event
+	 *
+	 * @return event handle, null if not recorded
+	 */
+	public static Object beginCommand() {
+		return AVAILABLE ? JfrEvents.beginCommand() : null;
+	}
+
+	/**
+	 * Finish a telnet command event
+	 *
+	 * @param handle value returned by {@link #beginCommand()}
+	 * @param host host of the device
+	 * @param command name of the command, for example PList
+	 * @param requestBytes size of the request
+	 * @param responseBytes size of the response, 0 if there was none
+	 * @param result {@link #OK}, device error code or failure
+	 */
+	public static void commitCommand(Object handle, String host, String command, long requestBytes, long responseBytes, String result) {
+		if (handle != null) {
+			JfrEvents.commitCommand(handle, host, command, requestBytes, responseBytes, result);
+		}
+	}
+
+	/**
+	 * Start a telnet session event
+	 *
+	 * @return event handle, null if not recorded
+	 */
+	public static Object beginSession() {
+		return AVAILABLE ? JfrEvents.beginSession() : null;
+	}
+
+	/**
+	 * Finish a telnet session event
+	 *
+	 * @param handle value returned by {@link #beginSession()}
+	 * @param host host of the device
+	 * @param action {@link #CONNECT}, {@link #LOGIN} or {@link #DESTROY}
+	 * @param result {@link #OK} or failure
+	 */
+	public static void commitSession(Object handle, String host, String action, String result) {
+		if (handle != null) {
+			JfrEvents.commitSession(handle, host, action, result);
+		}
+	}
+
+	/**
+	 * Start a control event
+	 *
+	 * @return event handle, null if not recorded
+	 */
+	public static Object beginControl() {
+		return AVAILABLE ? JfrEvents.beginControl() : null;
+	}
+
+	/**
+	 * Finish a control event
+	 *
+	 * @param handle value returned by {@link #beginControl()}
+	 * @param host host of the device
+	 * @param property controlled property
+	 * @param value requested value
+	 * @param result {@link #OK} or failure
+	 */
+	public static void commitControl(Object handle, String host, String property, String value, String result) {
+		if (handle != null) {
+			JfrEvents.commitControl(handle, host, property, value, result);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.events;
+
+/**
+ * JfrEvents
+ * Only class touching the JFR event types, loaded by {@link FlightRecorderEvents} once JFR is known to be available
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+final class JfrEvents {
+
+	private JfrEvents() {
+	}
+
+	/**
+	 * Create and begin a {@link TelnetCommandEvent}, null if the event is disabled
+	 */
+	static Object beginCommand() {
+		TelnetCommandEvent event = new TelnetCommandEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End and commit a {@link TelnetCommandEvent}
+	 */
+	static void commitCommand(Object handle, String host, String command, long requestBytes, long responseBytes, String result) {
+		TelnetCommandEvent event = (TelnetCommandEvent) handle;
+		event.end();
+		if (event.shouldCommit()) {
+			event.host = host;
+			event.command = command;
+			event.requestBytes = requestBytes;
+			event.responseBytes = responseBytes;
+			event.result = result;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Create and begin a {@link TelnetSessionEvent}, null if the event is disabled
+	 */
+	static Object beginSession() {
+		TelnetSessionEvent event = new TelnetSessionEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End and commit a {@link TelnetSessionEvent}
+	 */
+	static void commitSession(Object handle, String host, String action, String result) {
+		TelnetSessionEvent event = (TelnetSessionEvent) handle;
+		event.end();
+		if (event.shouldCommit()) {
+			event.host = host;
+			event.action = action;
+			event.result = result;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Create and begin a {@link ControlPropertyEvent}, null if the event is disabled
+	 */
+	static Object beginControl() {
+		ControlPropertyEvent event = new ControlPropertyEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End and commit a {@link ControlPropertyEvent}
+	 */
+	static void commitControl(Object handle, String host, String property, String value, String result) {
+		ControlPropertyEvent event = (ControlPropertyEvent) handle;
+		event.end();
+		if (event.shouldCommit()) {
+			event.host = host;
+			event.property = property;
+			event.value = value;
+			event.result = result;
+			event.commit();
+		}
+	}
+}
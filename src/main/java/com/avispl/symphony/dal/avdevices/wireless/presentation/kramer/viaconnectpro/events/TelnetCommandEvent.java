@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * TelnetCommandEvent
+ * JFR event of a telnet command sent to the device and its response, lasts from the request to the complete response
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Name("com.avispl.viaconnectpro.TelnetCommand")
+@Label("VIA Connect PRO Telnet Command")
+@Category({ "Symphony", "VIA Connect PRO" })
+@Description("Telnet command sent to a VIA Connect PRO device")
+@StackTrace(false)
+class TelnetCommandEvent extends jdk.jfr.Event {
+
+	@Label("Host")
+	String host;
+
+	@Label("Command")
+	String command;
+
+	@Label("Request Size")
+	@DataAmount
+	long requestBytes;
+
+	@Label("Response Size")
+	@DataAmount
+	long responseBytes;
+
+	@Label("Result")
+	@Description("OK, device error code, or failure")
+	String result;
+}
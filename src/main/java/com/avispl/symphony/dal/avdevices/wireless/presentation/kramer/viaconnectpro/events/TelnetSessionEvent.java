@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * TelnetSessionEvent
+ * JFR event of a telnet session connect, login or destroy
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Name("com.avispl.viaconnectpro.TelnetSession")
+@Label("VIA Connect PRO Telnet Session")
+@Category({ "Symphony", "VIA Connect PRO" })
+@Description("Telnet session operation on a VIA Connect PRO device")
+@StackTrace(false)
+class TelnetSessionEvent extends jdk.jfr.Event {
+
+	@Label("Host")
+	String host;
+
+	@Label("Action")
+	String action;
+
+	@Label("Result")
+	String result;
+}
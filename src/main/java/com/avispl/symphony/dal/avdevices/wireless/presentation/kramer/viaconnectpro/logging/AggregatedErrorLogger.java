@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.logging;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+
+/**
+ * AggregatedErrorLogger
+ * Deduplicates errors repeated on every poll by key (for example a statistic) and error code.
+ * The first occurrence is logged with its stack trace, repetitions are counted and logged as one summary line per interval.
+ * An error that does not repeat during a whole interval is forgotten, so its next occurrence is logged in full again.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class AggregatedErrorLogger {
+
+	private static final Pattern ERROR_CODE_PATTERN = Pattern.compile("Error\\d+");
+
+	private final Log log;
+	private final long summaryIntervalMillis;
+	private final LongSupplier clock;
+
+	/**
+	 * Errors seen since they were last logged in full, with the number of repetitions in the current interval
+	 */
+	private final Map<String, Long> repetitions = new LinkedHashMap<>();
+	private long intervalStart;
+
+	/**
+	 * AggregatedErrorLogger with arguments constructor
+	 *
+	 * @param logger logger of the adapter
+	 * @param summaryIntervalMillis interval between two summaries
+	 */
+	public AggregatedErrorLogger(Log logger, long summaryIntervalMillis) {
+		this(logger, summaryIntervalMillis, System::currentTimeMillis);
+	}
+
+	/**
+	 * AggregatedErrorLogger with arguments constructor
+	 *
+	 * @param logger logger of the adapter
+	 * @param summaryIntervalMillis interval between two summaries
+	 * @param clock current time in milliseconds
+	 */
+	public AggregatedErrorLogger(Log logger, long summaryIntervalMillis, LongSupplier clock) {
+		this.log = logger;
+		this.summaryIntervalMillis = summaryIntervalMillis;
+		this.clock = clock;
+		this.intervalStart = clock.getAsLong();
+	}
+
+	/**
+	 * Log an error, in full the first time and counted afterwards
+	 *
+	 * @param key what failed, for example the statistic being populated
+	 * @param exception cause of the error
+	 */
+	public synchronized void error(String key, Throwable exception) {
+		if (isFirstOccurrence(key + "/" + errorCodeOf(exception))) {
+			log.error(String.format("%s: %s", key, exception.getMessage()), exception);
+		}
+	}
+
+	/**
+	 * Log an error without stack trace, in full the first time and counted afterwards
+	 *
+	 * @param key what failed
+	 * @param message description of the error
+	 */
+	public synchronized void error(String key, String message) {
+		if (isFirstOccurrence(key)) {
+			log.error(message);
+		}
+	}
+
+	/**
+	 * Count an occurrence of an error
+	 *
+	 * @param errorKey key and error code
+	 * @return true if the error is not known yet and must be logged in full
+	 */
+	private boolean isFirstOccurrence(String errorKey) {
+		flushIfDue();
+		Long count = repetitions.get(errorKey);
+		if (count == null) {
+			repetitions.put(errorKey, 0L);
+			return true;
+		}
+		repetitions.put(errorKey, count + 1);
+		return false;
+	}
+
+	/**
+	 * Log the summary of repeated errors if the interval is over, called at the end of each poll
+	 */
+	public synchronized void flushIfDue() {
+		long now = clock.getAsLong();
+		if (now - intervalStart < summaryIntervalMillis) {
+			return;
+		}
+		StringBuilder summary = new StringBuilder();
+		Iterator<Map.Entry<String, Long>> iterator = repetitions.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Long> entry = iterator.next();
+			if (entry.getValue() == 0) {
+				// Not repeated during the interval, log it in full if it comes back
+				iterator.remove();
+				continue;
+			}
+			if (summary.length() > 0) {
+				summary.append(", ");
+			}
+			summary.append(entry.getKey()).append(" x").append(entry.getValue());
+			entry.setValue(0L);
+		}
+		if (summary.length() > 0 && log.isWarnEnabled()) {
+			log.warn(String.format("Repeated errors in the last %d s: %s", (now - intervalStart) / 1000, summary));
+		}
+		intervalStart = now;
+	}
+
+	/**
+	 * Forget every error
+	 */
+	public synchronized void reset() {
+		repetitions.clear();
+		intervalStart = clock.getAsLong();
+	}
+
+	/**
+	 * Device error code found in the message, for example Error21, the exception class otherwise
+	 */
+	private String errorCodeOf(Throwable exception) {
+		String message = exception.getMessage();
+		if (message != null) {
+			Matcher matcher = ERROR_CODE_PATTERN.matcher(message);
+			if (matcher.find()) {
+				return matcher.group();
+			}
+		}
+		return exception.getClass().getSimpleName();
+	}
+}
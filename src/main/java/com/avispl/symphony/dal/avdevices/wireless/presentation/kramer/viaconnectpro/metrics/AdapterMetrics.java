@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.metrics;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProErrorMetric;
+
+/**
+ * AdapterMetrics
+ * Per-command {@link CommandMetrics}, per-error counters and poll durations of one adapter, reported as AdapterMetadata statistics.
+ * Recording is lock-free so that it can stay on the telnet path whether or not the statistics are reported.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class AdapterMetrics {
+
+	/**
+	 * Statistics group of the metrics
+	 */
+	public static final String GROUP_NAME = "AdapterMetadata";
+	private static final String ERROR_CODE_PREFIX = "Error";
+	private static final String TIMEOUT_MESSAGE = "timed out";
+
+	private final Map<String, CommandMetrics> commands = new ConcurrentHashMap<>();
+	private final LatencyHistogram pollDuration = new LatencyHistogram();
+	private final AtomicLong lastPollDurationNanos = new AtomicLong();
+	private final AtomicLong failedPolls = new AtomicLong();
+	private final AtomicLong coalescedRequests = new AtomicLong();
+	private final AtomicLong freshSnapshotRequests = new AtomicLong();
+	/**
+	 * Replies per documented error, every error has its counter so that the map is never modified once created
+	 */
+	private final Map<VIAConnectProErrorMetric, AtomicLong> errors = new EnumMap<>(VIAConnectProErrorMetric.class);
+	private final AtomicLong undocumentedErrors = new AtomicLong();
+
+	/**
+	 * AdapterMetrics no-arg constructor
+	 */
+	public AdapterMetrics() {
+		for (VIAConnectProErrorMetric error : VIAConnectProErrorMetric.values()) {
+			errors.put(error, new AtomicLong());
+		}
+	}
+
+	/**
+	 * Retrieves metrics of a command, created on first use
+	 *
+	 * @param command name of the command, for example PList
+	 * @return metrics of the command
+	 */
+	public CommandMetrics getCommand(String command) {
+		return commands.computeIfAbsent(command, name -> new CommandMetrics());
+	}
+
+	/**
+	 * Record a response of a command, counting the device error code it carries if any
+	 *
+	 * @param command name of the command
+	 * @param nanos latency of the response in nanoseconds
+	 * @param response response of the command, without line terminator
+	 */
+	public void recordResponse(String command, long nanos, String response) {
+		CommandMetrics commandMetrics = getCommand(command);
+		commandMetrics.getLatency().record(nanos);
+		String errorCode = errorCodeOf(response);
+		if (errorCode != null) {
+			commandMetrics.recordErrorCode(errorCode);
+			VIAConnectProErrorMetric error = VIAConnectProErrorMetric.getByCode(errorCode);
+			(error == null ? undocumentedErrors : errors.get(error)).incrementAndGet();
+		}
+	}
+
+	/**
+	 * Retrieves number of replies carrying an error
+	 *
+	 * @param error documented error
+	 * @return number of replies
+	 */
+	public long getErrorCount(VIAConnectProErrorMetric error) {
+		return errors.get(error).get();
+	}
+
+	/**
+	 * Retrieves {@code {@link #undocumentedErrors}}
+	 *
+	 * @return number of replies carrying an error code that isn't a {@link VIAConnectProErrorMetric}
+	 */
+	public long getUndocumentedErrors() {
+		return undocumentedErrors.get();
+	}
+
+	/**
+	 * Get the device error code carried by a response, in its last field
+	 *
+	 * @param response response of a command, may be null
+	 * @return error code, for example Error14, null if the response carries none
+	 */
+	public static String errorCodeOf(String response) {
+		if (response == null) {
+			return null;
+		}
+		String lastField = response.substring(response.lastIndexOf('|') + 1).trim();
+		return lastField.startsWith(ERROR_CODE_PREFIX) ? lastField : null;
+	}
+
+	/**
+	 * Record a failed request of a command, as a timeout if the read timed out
+	 *
+	 * @param command name of the command
+	 * @param exception cause of the failure
+	 */
+	public void recordFailure(String command, Throwable exception) {
+		CommandMetrics commandMetrics = getCommand(command);
+		if (isTimeout(exception)) {
+			commandMetrics.recordTimeout();
+		} else {
+			commandMetrics.recordFailure();
+		}
+	}
+
+	/**
+	 * Record the duration of a successful poll
+	 *
+	 * @param nanos duration in nanoseconds
+	 */
+	public void recordPoll(long nanos) {
+		pollDuration.record(nanos);
+		lastPollDurationNanos.set(nanos);
+	}
+
+	/**
+	 * Record a failed poll
+	 */
+	public void recordFailedPoll() {
+		failedPolls.incrementAndGet();
+	}
+
+	/**
+	 * Record a statistics request served by the poll another caller had in flight
+	 */
+	public void recordCoalescedRequest() {
+		coalescedRequests.incrementAndGet();
+	}
+
+	/**
+	 * Record a statistics request served by a snapshot still within its freshness window
+	 */
+	public void recordFreshSnapshotRequest() {
+		freshSnapshotRequests.incrementAndGet();
+	}
+
+	/**
+	 * Retrieves {@code {@link #coalescedRequests}}
+	 *
+	 * @return value of {@link #coalescedRequests}
+	 */
+	public long getCoalescedRequests() {
+		return coalescedRequests.get();
+	}
+
+	/**
+	 * Retrieves {@code {@link #freshSnapshotRequests}}
+	 *
+	 * @return value of {@link #freshSnapshotRequests}
+	 */
+	public long getFreshSnapshotRequests() {
+		return freshSnapshotRequests.get();
+	}
+
+	/**
+	 * Forget every recorded metric
+	 */
+	public void reset() {
+		commands.clear();
+		pollDuration.reset();
+		lastPollDurationNanos.set(0);
+		failedPolls.set(0);
+		coalescedRequests.set(0);
+		freshSnapshotRequests.set(0);
+		errors.values().forEach(count -> count.set(0));
+		undocumentedErrors.set(0);
+	}
+
+	/**
+	 * Populate AdapterMetadata statistics, commands in alphabetical order. Only errors the device replied with are reported.
+	 *
+	 * @param statistics Map of statistics
+	 */
+	public void populateStatistics(Map<String, String> statistics) {
+		statistics.put(GROUP_NAME + "#LastPollDuration(ms)", String.valueOf(lastPollDurationNanos.get() / 1_000_000));
+		statistics.put(GROUP_NAME + "#PollDurationP50(ms)", String.valueOf(pollDuration.getPercentileMillis(0.50)));
+		statistics.put(GROUP_NAME + "#PollDurationP99(ms)", String.valueOf(pollDuration.getPercentileMillis(0.99)));
+		statistics.put(GROUP_NAME + "#Polls", String.valueOf(pollDuration.getCount()));
+		statistics.put(GROUP_NAME + "#FailedPolls", String.valueOf(failedPolls.get()));
+		statistics.put(GROUP_NAME + "#CoalescedRequests", String.valueOf(coalescedRequests.get()));
+		statistics.put(GROUP_NAME + "#FreshSnapshotRequests", String.valueOf(freshSnapshotRequests.get()));
+		for (Map.Entry<VIAConnectProErrorMetric, AtomicLong> error : errors.entrySet()) {
+			long count = error.getValue().get();
+			if (count != 0) {
+				statistics.put(GROUP_NAME + "#" + error.getKey().getErrorCode() + "Replies", String.valueOf(count));
+			}
+		}
+		if (undocumentedErrors.get() != 0) {
+			statistics.put(GROUP_NAME + "#UndocumentedErrorReplies", String.valueOf(undocumentedErrors.get()));
+		}
+		for (Map.Entry<String, CommandMetrics> entry : new TreeMap<>(commands).entrySet()) {
+			String prefix = GROUP_NAME + "#" + entry.getKey();
+			CommandMetrics commandMetrics = entry.getValue();
+			LatencyHistogram latency = commandMetrics.getLatency();
+			statistics.put(prefix + "Requests", String.valueOf(latency.getCount()));
+			statistics.put(prefix + "LatencyP50(ms)", String.valueOf(latency.getPercentileMillis(0.50)));
+			statistics.put(prefix + "LatencyP99(ms)", String.valueOf(latency.getPercentileMillis(0.99)));
+			statistics.put(prefix + "LatencyMax(ms)", String.valueOf(latency.getMaxMillis()));
+			statistics.put(prefix + "Retries", String.valueOf(commandMetrics.getRetries()));
+			statistics.put(prefix + "DiscardedReplies", String.valueOf(commandMetrics.getDiscardedReplies()));
+			statistics.put(prefix + "Timeouts", String.valueOf(commandMetrics.getTimeouts()));
+			statistics.put(prefix + "Failures", String.valueOf(commandMetrics.getFailures()));
+			for (Map.Entry<String, AtomicLong> errorCode : commandMetrics.getErrorCodes().entrySet()) {
+				statistics.put(prefix + errorCode.getKey(), String.valueOf(errorCode.getValue().get()));
+			}
+		}
+	}
+
+	/**
+	 * Check if a failure is a timed out read, the telnet communicator reports it as an IOException
+	 */
+	private boolean isTimeout(Throwable exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SocketTimeoutException
+					|| cause instanceof IOException && cause.getMessage() != null && cause.getMessage().contains(TIMEOUT_MESSAGE)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CommandMetrics
+ * Latencies, retries, timeouts, failures and device error codes of one telnet command
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CommandMetrics {
+
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong discardedReplies = new AtomicLong();
+	private final AtomicLong timeouts = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+	private final Map<String, AtomicLong> errorCodes = new ConcurrentHashMap<>();
+
+	/**
+	 * Retrieves {@code {@link #latency}}
+	 *
+	 * @return value of {@link #latency}
+	 */
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Retrieves number of resends after a response that did not match the request
+	 *
+	 * @return number of retries
+	 */
+	public long getRetries() {
+		return retries.get();
+	}
+
+	/**
+	 * Retrieves number of stale or unsolicited replies discarded while waiting for the response
+	 *
+	 * @return number of discarded replies
+	 */
+	public long getDiscardedReplies() {
+		return discardedReplies.get();
+	}
+
+	/**
+	 * Retrieves number of reads that timed out
+	 *
+	 * @return number of timeouts
+	 */
+	public long getTimeouts() {
+		return timeouts.get();
+	}
+
+	/**
+	 * Retrieves number of requests that failed for another reason than a timeout
+	 *
+	 * @return number of failures
+	 */
+	public long getFailures() {
+		return failures.get();
+	}
+
+	/**
+	 * Retrieves number of responses per device error code, for example Error14
+	 *
+	 * @return map of error code to number of responses
+	 */
+	public Map<String, AtomicLong> getErrorCodes() {
+		return errorCodes;
+	}
+
+	/**
+	 * Record a resend
+	 */
+	public void recordRetry() {
+		retries.incrementAndGet();
+	}
+
+	/**
+	 * Record a discarded reply
+	 */
+	public void recordDiscardedReply() {
+		discardedReplies.incrementAndGet();
+	}
+
+	/**
+	 * Record a timed out read
+	 */
+	public void recordTimeout() {
+		timeouts.incrementAndGet();
+	}
+
+	/**
+	 * Record a failed request
+	 */
+	public void recordFailure() {
+		failures.incrementAndGet();
+	}
+
+	/**
+	 * Record a response carrying a device error code
+	 *
+	 * @param errorCode error code, for example Error14
+	 */
+	public void recordErrorCode(String errorCode) {
+		errorCodes.computeIfAbsent(errorCode, code -> new AtomicLong()).incrementAndGet();
+	}
+}
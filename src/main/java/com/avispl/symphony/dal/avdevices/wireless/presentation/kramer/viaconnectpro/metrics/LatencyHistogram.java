@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram
+ * Lock-free histogram of latencies with fixed millisecond buckets, percentiles are reported as the upper bound of a bucket
+ * capped by the maximum observed latency.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class LatencyHistogram {
+
+	/**
+	 * Upper bounds of the buckets in milliseconds, the last bucket holds every longer latency
+	 */
+	private static final long[] BUCKET_BOUNDS_MILLIS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000 };
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MILLIS.length + 1);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Record a latency
+	 *
+	 * @param nanos latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+		int bucket = 0;
+		while (bucket < BUCKET_BOUNDS_MILLIS.length && millis >= BUCKET_BOUNDS_MILLIS[bucket]) {
+			bucket++;
+		}
+		buckets.incrementAndGet(bucket);
+		count.incrementAndGet();
+		maxNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	/**
+	 * Retrieves number of recorded latencies
+	 *
+	 * @return number of latencies
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Retrieves maximum recorded latency
+	 *
+	 * @return latency in milliseconds
+	 */
+	public long getMaxMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+	}
+
+	/**
+	 * Retrieves a percentile of recorded latencies
+	 *
+	 * @param percentile value in (0, 1]
+	 * @return latency in milliseconds, 0 if nothing was recorded
+	 */
+	public long getPercentileMillis(double percentile) {
+		long total = count.get();
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile * total));
+		long seen = 0;
+		for (int bucket = 0; bucket < buckets.length(); bucket++) {
+			seen += buckets.get(bucket);
+			if (seen >= rank) {
+				return bucket < BUCKET_BOUNDS_MILLIS.length ? Math.min(BUCKET_BOUNDS_MILLIS[bucket], getMaxMillis()) : getMaxMillis();
+			}
+		}
+		return getMaxMillis();
+	}
+
+	/**
+	 * Forget every recorded latency
+	 */
+	public void reset() {
+		for (int bucket = 0; bucket < buckets.length(); bucket++) {
+			buckets.set(bucket, 0);
+		}
+		count.set(0);
+		maxNanos.set(0);
+	}
+}
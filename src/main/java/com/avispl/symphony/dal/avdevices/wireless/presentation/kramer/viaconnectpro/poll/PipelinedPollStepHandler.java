@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PipelinedPollStepHandler
+ * {@link PollStepHandler} able to have several independent commands in flight at the same time.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public interface PipelinedPollStepHandler extends PollStepHandler {
+
+	/**
+	 * Send the commands of independent steps without waiting for each response in between
+	 *
+	 * @param steps steps whose dependencies are already resolved
+	 * @param result responses retrieved so far, used to resolve parameters
+	 * @return raw responses of the steps that were answered, steps missing from the map are retried one by one
+	 * @throws Exception if the batch cannot be sent, every step is then retried one by one
+	 */
+	Map<PollStep, String> executePipelined(List<PollStep> steps, PollResult result) throws Exception;
+}
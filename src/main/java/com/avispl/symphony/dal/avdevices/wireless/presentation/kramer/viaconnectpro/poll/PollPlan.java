@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * PollPlan
+ * Immutable, ordered list of the monitoring commands sent during one poll.
+ * Plans only depend on the configManagement flag and on the {@link PollStateClass} of the device,
+ * so all of them are compiled once and shared between adapter instances.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class PollPlan {
+
+	private static final Map<PollStateClass, PollPlan> MONITORING_PLANS = new EnumMap<>(PollStateClass.class);
+	private static final Map<PollStateClass, PollPlan> CONFIG_MANAGEMENT_PLANS = new EnumMap<>(PollStateClass.class);
+
+	/**
+	 * Refresh of the streaming statuses, Streaming|SStatus is only requested when streaming is activated
+	 */
+	private static final PollPlan STREAMING_REFRESH_PLAN = new PollPlan(Arrays.asList(
+			new PollStep(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET, PollStepCondition.ALWAYS),
+			new PollStep(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET, PollStepCondition.STREAMING_ACTIVE, VIAConnectProMonitoringMetric.STREAMING_STATUS_GET)));
+
+	static {
+		for (PollStateClass stateClass : PollStateClass.values()) {
+			MONITORING_PLANS.put(stateClass, compile(false, stateClass));
+			CONFIG_MANAGEMENT_PLANS.put(stateClass, compile(true, stateClass));
+		}
+	}
+
+	private final List<PollStep> steps;
+	private final Set<VIAConnectProMonitoringMetric> metrics;
+
+	/**
+	 * PollPlan with arguments constructor
+	 *
+	 * @param steps ordered steps of the plan
+	 */
+	private PollPlan(List<PollStep> steps) {
+		this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+		Set<VIAConnectProMonitoringMetric> metricSet = EnumSet.noneOf(VIAConnectProMonitoringMetric.class);
+		for (PollStep step : steps) {
+			metricSet.add(step.getMetric());
+		}
+		this.metrics = Collections.unmodifiableSet(metricSet);
+	}
+
+	/**
+	 * Get the precompiled plan for a configuration and device state class
+	 *
+	 * @param configManagement true if configManagement is enabled
+	 * @param stateClass state class of the device observed during the previous poll
+	 * @return PollPlan instance
+	 */
+	public static PollPlan of(boolean configManagement, PollStateClass stateClass) {
+		return configManagement ? CONFIG_MANAGEMENT_PLANS.get(stateClass) : MONITORING_PLANS.get(stateClass);
+	}
+
+	/**
+	 * Get the plan used to refresh streaming statuses (Streaming|Get then, if activated, Streaming|SStatus)
+	 *
+	 * @return PollPlan instance
+	 */
+	public static PollPlan streamingRefresh() {
+		return STREAMING_REFRESH_PLAN;
+	}
+
+	/**
+	 * Build the ordered list of steps for a configuration and device state class
+	 *
+	 * @param configManagement true if configManagement is enabled
+	 * @param stateClass state class of the device
+	 * @return PollPlan instance
+	 */
+	private static PollPlan compile(boolean configManagement, PollStateClass stateClass) {
+		List<PollStep> steps = new ArrayList<>();
+		// Properties not in any group
+		steps.add(new PollStep(VIAConnectProMonitoringMetric.IP_INFORMATION, PollStepCondition.ALWAYS));
+		steps.add(new PollStep(VIAConnectProMonitoringMetric.ROOM_CODE, PollStepCondition.ALWAYS));
+		steps.add(new PollStep(VIAConnectProMonitoringMetric.VERSION_GET, PollStepCondition.ALWAYS));
+		steps.add(new PollStep(VIAConnectProMonitoringMetric.MAC_ADDRESS_GET, PollStepCondition.ALWAYS));
+		steps.add(new PollStep(VIAConnectProMonitoringMetric.SERIAL_NUMBER_GET, PollStepCondition.ALWAYS));
+		if (configManagement) {
+			// DeviceSettings, DeviceSettingsModeratorMode and DeviceSettingsRoomOverlay groups
+			steps.add(new PollStep(VIAConnectProMonitoringMetric.ACTIVE_SYSTEM_LOG_GET, PollStepCondition.ALWAYS));
+			steps.add(new PollStep(VIAConnectProMonitoringMetric.CHROME_JOIN_THROUGH_BROWSER_GET, PollStepCondition.ALWAYS));
+			steps.add(new PollStep(VIAConnectProMonitoringMetric.CHROME_API_MODE_GET, PollStepCondition.ALWAYS));
+			steps.add(new PollStep(VIAConnectProMonitoringMetric.QUICK_CLIENT_ACCESS_GET, PollStepCondition.ALWAYS));
+			steps.add(new PollStep(VIAConnectProMonitoringMetric.VOLUME, PollStepCondition.ALWAYS));
+			steps.add(new PollStep(VIAConnectProMonitoringMetric.MODERATOR_MODE_STATUS_GET, PollStepCondition.ALWAYS));
+			steps.add(new PollStep(VIAConnectProMonitoringMetric.PART_PRESENT_CONFIRM_GET, PollStepCondition.ALWAYS));
+			steps.add(new PollStep(VIAConnectProMonitoringMetric.ROOM_OVERLAY_STATUS_GET, PollStepCondition.ALWAYS));
+		}
+		// ParticipantList group, also used to validate UserModeration
+		steps.add(new PollStep(VIAConnectProMonitoringMetric.PLIST_All_STATUS, PollStepCondition.ALWAYS));
+		if (configManagement && stateClass.isParticipantsLoggedIn()) {
+			steps.add(new PollStep(VIAConnectProMonitoringMetric.DISPLAY_STATUS_GET, PollStepCondition.PARTICIPANTS_LOGGED_IN,
+					VIAConnectProMonitoringMetric.PLIST_All_STATUS));
+		}
+		if (configManagement) {
+			steps.add(new PollStep(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET, PollStepCondition.ALWAYS));
+			if (stateClass.isStreamingActive()) {
+				steps.add(new PollStep(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET, PollStepCondition.STREAMING_ACTIVE,
+						VIAConnectProMonitoringMetric.STREAMING_STATUS_GET));
+			}
+		}
+		return new PollPlan(steps);
+	}
+
+	/**
+	 * Retrieves {@code {@link #steps}}
+	 *
+	 * @return value of {@link #steps}
+	 */
+	public List<PollStep> getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Number of commands sent when the device stays in the same state class
+	 *
+	 * @return number of steps
+	 */
+	public int size() {
+		return steps.size();
+	}
+
+	/**
+	 * Check if a metric is requested by this plan
+	 *
+	 * @param metric monitoring metric
+	 * @return true if the plan contains a step for the metric
+	 */
+	public boolean contains(VIAConnectProMonitoringMetric metric) {
+		return metrics.contains(metric);
+	}
+
+	@Override
+	public String toString() {
+		return steps.toString();
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * PollPlanExecutor
+ * Runs the {@link PollPlan} matching the configuration and the last observed {@link PollStateClass}.
+ * If the device changed state class during the poll, the steps missing from the previous plan are executed in the same poll
+ * and the new state class is used to select the plan of the next poll.
+ * <p>
+ * Steps are scheduled as a DAG: every step whose dependencies are resolved joins the current wave, and the commands of a wave
+ * are pipelined by a {@link PipelinedPollStepHandler} (up to {@link #maxInFlight} at a time), so the poll latency follows the
+ * longest dependency chain instead of the number of commands.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PollPlanExecutor {
+
+	private volatile PollStateClass stateClass = PollStateClass.IDLE;
+
+	/**
+	 * Maximum number of commands in flight, 1 sends commands one after another
+	 */
+	private volatile int maxInFlight = 1;
+
+	/**
+	 * Run a full poll
+	 *
+	 * @param configManagement true if configManagement is enabled
+	 * @param handler device specific handler
+	 * @return PollResult of the poll
+	 */
+	public PollResult execute(boolean configManagement, PollStepHandler handler) {
+		PollResult result = execute(PollPlan.of(configManagement, stateClass), handler);
+		PollStateClass observedStateClass = handler.resolveStateClass(result);
+		if (observedStateClass != stateClass) {
+			stateClass = observedStateClass;
+			runSteps(PollPlan.of(configManagement, observedStateClass), result, handler);
+		}
+		return result;
+	}
+
+	/**
+	 * Run a plan as is, without re-planning
+	 *
+	 * @param plan plan to be executed
+	 * @param handler device specific handler
+	 * @return PollResult of the plan
+	 */
+	public PollResult execute(PollPlan plan, PollStepHandler handler) {
+		PollResult result = new PollResult();
+		runSteps(plan, result, handler);
+		return result;
+	}
+
+	/**
+	 * Retrieves {@code {@link #stateClass}}
+	 *
+	 * @return value of {@link #stateClass}
+	 */
+	public PollStateClass getStateClass() {
+		return stateClass;
+	}
+
+	/**
+	 * Retrieves {@code {@link #maxInFlight}}
+	 *
+	 * @return value of {@link #maxInFlight}
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * Sets {@code maxInFlight}
+	 *
+	 * @param maxInFlight the {@code int} field, values lower than 1 are treated as 1
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		this.maxInFlight = Math.max(1, maxInFlight);
+	}
+
+	/**
+	 * Sets {@code stateClass}, to start from a state class observed before a restart
+	 *
+	 * @param stateClass the {@code PollStateClass} field
+	 */
+	public void setStateClass(PollStateClass stateClass) {
+		this.stateClass = stateClass;
+	}
+
+	/**
+	 * Forget the observed state class, next poll starts from {@link PollStateClass#IDLE}
+	 */
+	public void reset() {
+		stateClass = PollStateClass.IDLE;
+	}
+
+	/**
+	 * Execute the steps of a plan that are not in the result yet, wave by wave
+	 *
+	 * @param plan plan to be executed
+	 * @param result result to be populated
+	 * @param handler device specific handler
+	 */
+	private void runSteps(PollPlan plan, PollResult result, PollStepHandler handler) {
+		List<PollStep> pending = new ArrayList<>();
+		for (PollStep step : plan.getSteps()) {
+			if (!result.isExecuted(step.getMetric())) {
+				pending.add(step);
+			}
+		}
+		while (!pending.isEmpty()) {
+			runWave(nextWave(pending, result, handler), result, handler);
+		}
+	}
+
+	/**
+	 * Remove from pending the steps whose dependencies are resolved, and return the ones that have to be executed
+	 *
+	 * @param pending steps not executed yet, updated in place
+	 * @param result responses retrieved so far
+	 * @param handler device specific handler
+	 * @return steps of the next wave, in plan order
+	 */
+	List<PollStep> nextWave(List<PollStep> pending, PollResult result, PollStepHandler handler) {
+		Set<VIAConnectProMonitoringMetric> pendingMetrics = EnumSet.noneOf(VIAConnectProMonitoringMetric.class);
+		for (PollStep step : pending) {
+			pendingMetrics.add(step.getMetric());
+		}
+		List<PollStep> wave = new ArrayList<>();
+		boolean progress = false;
+		Iterator<PollStep> iterator = pending.iterator();
+		while (iterator.hasNext()) {
+			PollStep step = iterator.next();
+			if (!Collections.disjoint(step.getDependencies(), pendingMetrics)) {
+				continue;
+			}
+			iterator.remove();
+			progress = true;
+			if (isReady(step, result, handler)) {
+				wave.add(step);
+			}
+		}
+		if (!progress) {
+			// Remaining steps depend on each other, nothing can be resolved anymore
+			pending.clear();
+		}
+		return wave;
+	}
+
+	/**
+	 * Execute the steps of a wave, pipelined when the handler supports it
+	 *
+	 * @param wave independent steps
+	 * @param result result to be populated
+	 * @param handler device specific handler
+	 */
+	private void runWave(List<PollStep> wave, PollResult result, PollStepHandler handler) {
+		int batchSize = maxInFlight;
+		if (batchSize <= 1 || wave.size() == 1 || !(handler instanceof PipelinedPollStepHandler)) {
+			for (PollStep step : wave) {
+				runStep(step, result, handler);
+			}
+			return;
+		}
+		PipelinedPollStepHandler pipelinedHandler = (PipelinedPollStepHandler) handler;
+		for (int from = 0; from < wave.size(); from += batchSize) {
+			List<PollStep> batch = wave.subList(from, Math.min(from + batchSize, wave.size()));
+			Map<PollStep, String> responses;
+			try {
+				responses = pipelinedHandler.executePipelined(batch, result);
+			} catch (Exception exception) {
+				responses = Collections.emptyMap();
+			}
+			for (PollStep step : batch) {
+				String response = responses.get(step);
+				if (response != null) {
+					result.putResponse(step.getMetric(), response);
+				} else {
+					runStep(step, result, handler);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check dependencies and runtime condition of a step
+	 *
+	 * @param step step to be checked
+	 * @param result responses retrieved so far
+	 * @param handler device specific handler
+	 * @return true if the step has to be executed
+	 */
+	boolean isReady(PollStep step, PollResult result, PollStepHandler handler) {
+		for (VIAConnectProMonitoringMetric dependency : step.getDependencies()) {
+			if (!result.isSuccessful(dependency)) {
+				return false;
+			}
+		}
+		return step.getCondition() == PollStepCondition.ALWAYS || step.getCondition().isSatisfiedBy(handler.resolveStateClass(result));
+	}
+
+	/**
+	 * Execute a single step and record its response or failure
+	 *
+	 * @param step step to be executed
+	 * @param result result to be populated
+	 * @param handler device specific handler
+	 */
+	void runStep(PollStep step, PollResult result, PollStepHandler handler) {
+		try {
+			result.putResponse(step.getMetric(), handler.execute(step, result));
+		} catch (RuntimeException exception) {
+			result.putFailure(step.getMetric(), exception);
+		} catch (Exception exception) {
+			result.putFailure(step.getMetric(), new ResourceNotReachableException("Fail to monitor properties for command " + step.getMetric().getCommand(), exception));
+		}
+	}
+}
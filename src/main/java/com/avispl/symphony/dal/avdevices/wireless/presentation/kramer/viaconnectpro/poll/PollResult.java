@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.DeviceReply;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * PollResult
+ * Responses (or failures) of the commands executed for one {@link PollPlan}, each kept as a {@link DeviceReply} decoded at most once.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PollResult {
+
+	private final Map<VIAConnectProMonitoringMetric, DeviceReply> responses = new EnumMap<>(VIAConnectProMonitoringMetric.class);
+	private final Map<VIAConnectProMonitoringMetric, RuntimeException> failures = new EnumMap<>(VIAConnectProMonitoringMetric.class);
+	private int commandCount;
+
+	/**
+	 * Store the raw response of a command
+	 *
+	 * @param metric monitoring metric
+	 * @param response raw response from the device
+	 */
+	public void putResponse(VIAConnectProMonitoringMetric metric, String response) {
+		failures.remove(metric);
+		responses.put(metric, response == null ? null : new DeviceReply(response));
+		commandCount++;
+	}
+
+	/**
+	 * Store the failure of a command
+	 *
+	 * @param metric monitoring metric
+	 * @param exception exception thrown while requesting the metric
+	 */
+	public void putFailure(VIAConnectProMonitoringMetric metric, RuntimeException exception) {
+		responses.remove(metric);
+		failures.put(metric, exception);
+		commandCount++;
+	}
+
+	/**
+	 * Check if a command has been executed, successfully or not
+	 *
+	 * @param metric monitoring metric
+	 * @return true if the command has been executed
+	 */
+	public boolean isExecuted(VIAConnectProMonitoringMetric metric) {
+		return responses.containsKey(metric) || failures.containsKey(metric);
+	}
+
+	/**
+	 * Check if a command has been executed successfully
+	 *
+	 * @param metric monitoring metric
+	 * @return true if a response is available
+	 */
+	public boolean isSuccessful(VIAConnectProMonitoringMetric metric) {
+		return responses.containsKey(metric);
+	}
+
+	/**
+	 * Get raw response of a command
+	 *
+	 * @param metric monitoring metric
+	 * @return String of raw response
+	 * @throws RuntimeException the exception thrown while executing the command, or {@link ResourceNotReachableException}
+	 * if the command was not part of the poll
+	 */
+	public String getResponse(VIAConnectProMonitoringMetric metric) {
+		return getReply(metric).getRaw();
+	}
+
+	/**
+	 * Get the typed reply of a command
+	 *
+	 * @param metric monitoring metric
+	 * @return reply of the command
+	 * @throws RuntimeException the exception thrown while executing the command, or {@link ResourceNotReachableException}
+	 * if the command was not part of the poll
+	 */
+	public DeviceReply getReply(VIAConnectProMonitoringMetric metric) {
+		DeviceReply reply = responses.get(metric);
+		if (reply != null) {
+			return reply;
+		}
+		RuntimeException failure = failures.get(metric);
+		if (failure != null) {
+			throw failure;
+		}
+		throw new ResourceNotReachableException(String.format("Command %s was not executed during this poll", metric.getCommand()));
+	}
+
+	/**
+	 * Retrieves {@code {@link #commandCount}}
+	 *
+	 * @return value of {@link #commandCount}
+	 */
+	public int getCommandCount() {
+		return commandCount;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+/**
+ * PollStateClass enum class
+ * Coarse classification of the device state that decides which dependent commands are part of a poll.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum PollStateClass {
+
+	/**
+	 * Nobody is logged in and streaming is deactivated
+	 */
+	IDLE(false, false),
+
+	/**
+	 * At least one participant is logged in, streaming is deactivated
+	 */
+	PARTICIPANTS(true, false),
+
+	/**
+	 * Nobody is logged in, streaming is activated
+	 */
+	STREAMING(false, true),
+
+	/**
+	 * At least one participant is logged in and streaming is activated
+	 */
+	PARTICIPANTS_AND_STREAMING(true, true);
+
+	/**
+	 * PollStateClass with arguments constructor
+	 *
+	 * @param participantsLoggedIn true if at least one participant is logged in
+	 * @param streamingActive true if streaming mode is activated
+	 */
+	PollStateClass(boolean participantsLoggedIn, boolean streamingActive) {
+		this.participantsLoggedIn = participantsLoggedIn;
+		this.streamingActive = streamingActive;
+	}
+
+	private final boolean participantsLoggedIn;
+	private final boolean streamingActive;
+
+	/**
+	 * Retrieves {@code {@link #participantsLoggedIn}}
+	 *
+	 * @return value of {@link #participantsLoggedIn}
+	 */
+	public boolean isParticipantsLoggedIn() {
+		return participantsLoggedIn;
+	}
+
+	/**
+	 * Retrieves {@code {@link #streamingActive}}
+	 *
+	 * @return value of {@link #streamingActive}
+	 */
+	public boolean isStreamingActive() {
+		return streamingActive;
+	}
+
+	/**
+	 * Get state class from its two dimensions
+	 *
+	 * @param participantsLoggedIn true if at least one participant is logged in
+	 * @param streamingActive true if streaming mode is activated
+	 * @return Enum of PollStateClass
+	 */
+	public static PollStateClass of(boolean participantsLoggedIn, boolean streamingActive) {
+		if (participantsLoggedIn) {
+			return streamingActive ? PARTICIPANTS_AND_STREAMING : PARTICIPANTS;
+		}
+		return streamingActive ? STREAMING : IDLE;
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * PollStep
+ * One monitoring command of a {@link PollPlan}, together with the commands it depends on.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PollStep {
+
+	private final VIAConnectProMonitoringMetric metric;
+	private final Set<VIAConnectProMonitoringMetric> dependencies;
+	private final PollStepCondition condition;
+
+	/**
+	 * PollStep with arguments constructor
+	 *
+	 * @param metric monitoring metric to be requested
+	 * @param condition runtime guard of the step
+	 * @param dependencies metrics that must be retrieved successfully before this step
+	 */
+	PollStep(VIAConnectProMonitoringMetric metric, PollStepCondition condition, VIAConnectProMonitoringMetric... dependencies) {
+		this.metric = metric;
+		this.condition = condition;
+		Set<VIAConnectProMonitoringMetric> dependencySet = EnumSet.noneOf(VIAConnectProMonitoringMetric.class);
+		Collections.addAll(dependencySet, dependencies);
+		this.dependencies = Collections.unmodifiableSet(dependencySet);
+	}
+
+	/**
+	 * Retrieves {@code {@link #metric}}
+	 *
+	 * @return value of {@link #metric}
+	 */
+	public VIAConnectProMonitoringMetric getMetric() {
+		return metric;
+	}
+
+	/**
+	 * Retrieves {@code {@link #dependencies}}
+	 *
+	 * @return value of {@link #dependencies}
+	 */
+	public Set<VIAConnectProMonitoringMetric> getDependencies() {
+		return dependencies;
+	}
+
+	/**
+	 * Retrieves {@code {@link #condition}}
+	 *
+	 * @return value of {@link #condition}
+	 */
+	public PollStepCondition getCondition() {
+		return condition;
+	}
+
+	@Override
+	public String toString() {
+		return dependencies.isEmpty() ? metric.name() : String.format("%s<-%s", metric.name(), dependencies);
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+/**
+ * PollStepCondition enum class
+ * Runtime guard of a {@link PollStep}, evaluated once the dependencies of the step have been executed.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum PollStepCondition {
+
+	/**
+	 * Step is always executed
+	 */
+	ALWAYS,
+
+	/**
+	 * Step is executed only if at least one participant is logged in
+	 */
+	PARTICIPANTS_LOGGED_IN,
+
+	/**
+	 * Step is executed only if streaming mode is activated
+	 */
+	STREAMING_ACTIVE;
+
+	/**
+	 * Check if the condition holds for a state class
+	 *
+	 * @param stateClass current state class of the device
+	 * @return true if the step has to be executed
+	 */
+	public boolean isSatisfiedBy(PollStateClass stateClass) {
+		switch (this) {
+			case PARTICIPANTS_LOGGED_IN:
+				return stateClass.isParticipantsLoggedIn();
+			case STREAMING_ACTIVE:
+				return stateClass.isStreamingActive();
+			default:
+				return true;
+		}
+	}
+}
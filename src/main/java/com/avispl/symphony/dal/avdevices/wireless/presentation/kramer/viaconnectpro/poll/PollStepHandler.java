@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+/**
+ * PollStepHandler
+ * Device specific part of the poll: sends the command of a step and classifies the device state.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public interface PollStepHandler {
+
+	/**
+	 * Send the command of a step to the device
+	 *
+	 * @param step step to be executed
+	 * @param result responses retrieved so far, used to resolve parameters of dependent steps
+	 * @return String of raw response
+	 * @throws Exception if the command fails
+	 */
+	String execute(PollStep step, PollResult result) throws Exception;
+
+	/**
+	 * Classify the device state from the responses retrieved so far
+	 *
+	 * @param result responses retrieved so far
+	 * @return PollStateClass of the device
+	 */
+	PollStateClass resolveStateClass(PollResult result);
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.DeviceReply;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * StreamingState enum class
+ * State of the StreamingFromDeviceToExternal feature, and the queries needed to describe it.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum StreamingState {
+
+	/**
+	 * Streaming mode is deactivated, only Streaming|Get is needed
+	 */
+	IDLE(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET),
+
+	/**
+	 * Streaming mode is activated with one URL
+	 */
+	ACTIVE_SINGLE(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET, VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET),
+
+	/**
+	 * Streaming mode is activated with two URLs (dual display)
+	 */
+	ACTIVE_DUAL(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET, VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET),
+
+	/**
+	 * A streaming control has been applied, the known statuses are outdated until the next Streaming|Get
+	 */
+	TRANSITIONING(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET, VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET);
+
+	/**
+	 * StreamingState with arguments constructor
+	 *
+	 * @param requiredQueries monitoring metrics needed to describe the state
+	 */
+	StreamingState(VIAConnectProMonitoringMetric... requiredQueries) {
+		Set<VIAConnectProMonitoringMetric> queries = EnumSet.noneOf(VIAConnectProMonitoringMetric.class);
+		Collections.addAll(queries, requiredQueries);
+		this.requiredQueries = Collections.unmodifiableSet(queries);
+	}
+
+	private final Set<VIAConnectProMonitoringMetric> requiredQueries;
+
+	/**
+	 * Retrieves {@code {@link #requiredQueries}}
+	 *
+	 * @return value of {@link #requiredQueries}
+	 */
+	public Set<VIAConnectProMonitoringMetric> getRequiredQueries() {
+		return requiredQueries;
+	}
+
+	/**
+	 * Get state from a Streaming|Get reply
+	 * Example response: Streaming|Get|1|udp://url1 or Streaming|Get|1|udp://url1|udp://url2
+	 *
+	 * @param streamingGetReply reply of Streaming|Get
+	 * @return Enum of StreamingState
+	 */
+	public static StreamingState fromStreamingGetResponse(DeviceReply streamingGetReply) {
+		if (streamingGetReply.getFieldCount() < 3 || VIAConnectProConstant.ZERO.equals(streamingGetReply.getField(2))) {
+			return IDLE;
+		}
+		return streamingGetReply.getFieldCount() == 5 ? ACTIVE_DUAL : ACTIVE_SINGLE;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.DeviceReply;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * StreamingStateMachine
+ * Keeps the last Streaming|Get and Streaming|SStatus responses and the resulting {@link StreamingState},
+ * so that streaming statuses are only requested again when the state requires it.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class StreamingStateMachine {
+
+	private StreamingState state = StreamingState.IDLE;
+	private DeviceReply streamingGetResponse;
+	private DeviceReply sStatusResponse;
+
+	/**
+	 * Update the state with the streaming responses of a poll, failed commands are ignored
+	 *
+	 * @param result responses of a poll
+	 */
+	public synchronized void onPollResult(PollResult result) {
+		if (result.isSuccessful(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET)) {
+			onStreamingStatus(result.getReply(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET));
+		}
+		if (result.isSuccessful(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET) && state != StreamingState.IDLE) {
+			sStatusResponse = result.getReply(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET);
+		}
+	}
+
+	/**
+	 * Update the state with a Streaming|Get response
+	 *
+	 * @param streamingGetReply reply of Streaming|Get
+	 */
+	public synchronized void onStreamingStatus(DeviceReply streamingGetReply) {
+		streamingGetResponse = streamingGetReply;
+		state = StreamingState.fromStreamingGetResponse(streamingGetResponse);
+		sStatusResponse = null;
+	}
+
+	/**
+	 * A streaming control has been applied to the device, statuses have to be requested again
+	 */
+	public synchronized void onControlApplied() {
+		state = StreamingState.TRANSITIONING;
+		sStatusResponse = null;
+	}
+
+	/**
+	 * Check if every query required by the current state has a known response
+	 *
+	 * @return true if the streaming statuses can be populated without sending any command
+	 */
+	public synchronized boolean hasFreshStatus() {
+		if (state == StreamingState.TRANSITIONING || streamingGetResponse == null) {
+			return false;
+		}
+		return !state.getRequiredQueries().contains(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET) || sStatusResponse != null;
+	}
+
+	/**
+	 * Check if the last known Streaming|Get response describes a dual display
+	 *
+	 * @return true if the device streams two URLs
+	 */
+	public synchronized boolean isDualDisplay() {
+		return streamingGetResponse != null && streamingGetResponse.getFieldCount() == 5;
+	}
+
+	/**
+	 * Retrieves {@code {@link #state}}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public synchronized StreamingState getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves {@code {@link #streamingGetResponse}}
+	 *
+	 * @return value of {@link #streamingGetResponse}, null if unknown
+	 */
+	public synchronized DeviceReply getStreamingGetResponse() {
+		return streamingGetResponse;
+	}
+
+	/**
+	 * Retrieves {@code {@link #sStatusResponse}}
+	 *
+	 * @return value of {@link #sStatusResponse}, null if unknown or not needed
+	 */
+	public synchronized DeviceReply getSStatusResponse() {
+		return sStatusResponse;
+	}
+
+	/**
+	 * Forget every known response
+	 */
+	public synchronized void reset() {
+		state = StreamingState.IDLE;
+		streamingGetResponse = null;
+		sStatusResponse = null;
+	}
+}
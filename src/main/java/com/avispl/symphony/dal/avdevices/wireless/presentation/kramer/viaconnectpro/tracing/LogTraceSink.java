@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * LogTraceSink
+ * Writes one info log line per span, under the tracing package so that trace lines can be enabled on their own
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class LogTraceSink implements TraceSink {
+
+	private static final Log LOG = LogFactory.getLog(LogTraceSink.class);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onSpan(TraceSpan span) {
+		if (LOG.isInfoEnabled()) {
+			LOG.info("VIAConnectProCommunicator trace: " + span);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RingBufferTraceSink
+ * Keeps the last spans in memory, older spans are overwritten
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RingBufferTraceSink implements TraceSink {
+
+	private final TraceSpan[] spans;
+	private long written;
+
+	/**
+	 * RingBufferTraceSink with arguments constructor
+	 *
+	 * @param capacity number of spans kept
+	 */
+	public RingBufferTraceSink(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+		this.spans = new TraceSpan[capacity];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void onSpan(TraceSpan span) {
+		spans[(int) (written % spans.length)] = span;
+		written++;
+	}
+
+	/**
+	 * Retrieves kept spans, oldest first
+	 *
+	 * @return copy of the spans
+	 */
+	public synchronized List<TraceSpan> getSpans() {
+		int size = (int) Math.min(written, spans.length);
+		List<TraceSpan> result = new ArrayList<>(size);
+		for (long i = written - size; i < written; i++) {
+			result.add(spans[(int) (i % spans.length)]);
+		}
+		return result;
+	}
+
+	/**
+	 * Forget every kept span
+	 */
+	public synchronized void clear() {
+		for (int i = 0; i < spans.length; i++) {
+			spans[i] = null;
+		}
+		written = 0;
+	}
+}
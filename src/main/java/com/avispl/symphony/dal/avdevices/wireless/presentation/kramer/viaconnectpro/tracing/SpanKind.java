@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing;
+
+/**
+ * SpanKind
+ * Phases of a getMultipleStatistics() cycle that are traced
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum SpanKind {
+	/**
+	 * Whole getMultipleStatistics() cycle
+	 */
+	POLL,
+	/**
+	 * Wait to acquire the communicator lock
+	 */
+	LOCK_WAIT,
+	/**
+	 * Creation of the telnet session, login included
+	 */
+	CONNECT,
+	/**
+	 * Login sequence of the telnet session
+	 */
+	LOGIN,
+	/**
+	 * Probe command checking the session is logged in
+	 */
+	LOGIN_PROBE,
+	/**
+	 * One telnet command, detail is the command name
+	 */
+	COMMAND,
+	/**
+	 * Population of one statistics group, detail is the group
+	 */
+	POPULATE
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing;
+
+/**
+ * TraceSink
+ * Destination of the spans of a {@link Tracer}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public interface TraceSink {
+
+	/**
+	 * Accept a completed span, called on the polling thread so it must not block
+	 *
+	 * @param span completed span
+	 */
+	void onSpan(TraceSpan span);
+}
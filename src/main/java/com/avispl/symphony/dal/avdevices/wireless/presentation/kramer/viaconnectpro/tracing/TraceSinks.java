@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing;
+
+import java.util.Locale;
+
+/**
+ * TraceSinks
+ * Creates the {@link TraceSink} named by the traceSink adapter property.
+ * There is no JFR sink: telnet commands, sessions and controls are always recorded as JFR events by FlightRecorderEvents.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class TraceSinks {
+
+	/**
+	 * Name of the {@link LogTraceSink}
+	 */
+	public static final String LOG = "log";
+
+	/**
+	 * Name of the {@link RingBufferTraceSink}
+	 */
+	public static final String RING = "ring";
+
+	/**
+	 * Number of spans kept by the ring buffer, about 30 polls
+	 */
+	public static final int RING_CAPACITY = 1024;
+
+	private TraceSinks() {
+	}
+
+	/**
+	 * Create a sink
+	 *
+	 * @param name {@link #LOG} or {@link #RING}, case insensitive
+	 * @return sink, null if the name is unknown
+	 */
+	public static TraceSink create(String name) {
+		switch (name.trim().toLowerCase(Locale.ROOT)) {
+			case LOG:
+				return new LogTraceSink();
+			case RING:
+				return new RingBufferTraceSink(RING_CAPACITY);
+			default:
+				return null;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing;
+
+/**
+ * TraceSpan
+ * Immutable timed phase of a trace
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TraceSpan {
+
+	/**
+	 * Outcome of a successful span
+	 */
+	public static final String OK = "OK";
+
+	/**
+	 * Outcome of a failed span when no better description is known
+	 */
+	public static final String ERROR = "Error";
+
+	private final long traceId;
+	private final SpanKind kind;
+	private final String detail;
+	private final long startTimeMillis;
+	private final long durationNanos;
+	private final String outcome;
+
+	/**
+	 * TraceSpan with arguments constructor
+	 *
+	 * @param traceId id of the getMultipleStatistics() cycle
+	 * @param kind phase
+	 * @param detail command name or group name, may be null
+	 * @param startTimeMillis epoch time at which the span started
+	 * @param durationNanos duration of the span
+	 * @param outcome {@link #OK} or a description of the failure
+	 */
+	public TraceSpan(long traceId, SpanKind kind, String detail, long startTimeMillis, long durationNanos, String outcome) {
+		this.traceId = traceId;
+		this.kind = kind;
+		this.detail = detail;
+		this.startTimeMillis = startTimeMillis;
+		this.durationNanos = durationNanos;
+		this.outcome = outcome;
+	}
+
+	/**
+	 * Retrieves {@code {@link #traceId}}
+	 *
+	 * @return value of {@link #traceId}
+	 */
+	public long getTraceId() {
+		return traceId;
+	}
+
+	/**
+	 * Retrieves {@code {@link #kind}}
+	 *
+	 * @return value of {@link #kind}
+	 */
+	public SpanKind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Retrieves {@code {@link #detail}}
+	 *
+	 * @return value of {@link #detail}
+	 */
+	public String getDetail() {
+		return detail;
+	}
+
+	/**
+	 * Retrieves {@code {@link #startTimeMillis}}
+	 *
+	 * @return value of {@link #startTimeMillis}
+	 */
+	public long getStartTimeMillis() {
+		return startTimeMillis;
+	}
+
+	/**
+	 * Retrieves {@code {@link #durationNanos}}
+	 *
+	 * @return value of {@link #durationNanos}
+	 */
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	/**
+	 * Retrieves {@code {@link #outcome}}
+	 *
+	 * @return value of {@link #outcome}
+	 */
+	public String getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * Check if the span succeeded
+	 *
+	 * @return true if the outcome is {@link #OK}
+	 */
+	public boolean isOk() {
+		return OK.equals(outcome);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("trace=%d span=%s detail=%s start=%d durationMicros=%d outcome=%s",
+				traceId, kind, detail == null ? "-" : detail, startTimeMillis, durationNanos / 1000, outcome);
+	}
+}
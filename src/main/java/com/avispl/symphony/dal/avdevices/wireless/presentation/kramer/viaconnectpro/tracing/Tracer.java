@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracer
+ * Times phases of a getMultipleStatistics() cycle and hands them to a {@link TraceSink}.
+ * Without sink, {@link #start()} returns {@link #NOT_STARTED} and {@link #end(SpanKind, String, long, String)} returns immediately,
+ * so that disabled tracing neither reads the clock nor allocates.
+ * <pre>
+ * long span = tracer.start();
+ * String outcome = TraceSpan.ERROR;
+ * try {
+ *     ...
+ *     outcome = TraceSpan.OK;
+ * } finally {
+ *     tracer.end(SpanKind.COMMAND, command, span, outcome);
+ * }
+ * </pre>
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class Tracer {
+
+	/**
+	 * Start of a span while tracing is disabled
+	 */
+	public static final long NOT_STARTED = 0;
+
+	private volatile TraceSink sink;
+	private volatile long traceId;
+
+	/**
+	 * Retrieves {@code {@link #sink}}
+	 *
+	 * @return value of {@link #sink}, null if tracing is disabled
+	 */
+	public TraceSink getSink() {
+		return sink;
+	}
+
+	/**
+	 * Sets {@code sink}
+	 *
+	 * @param sink the {@code TraceSink} field, null to disable tracing
+	 */
+	public void setSink(TraceSink sink) {
+		this.sink = sink;
+	}
+
+	/**
+	 * Check if tracing is enabled
+	 *
+	 * @return true if a sink is set
+	 */
+	public boolean isEnabled() {
+		return sink != null;
+	}
+
+	/**
+	 * Start a new trace, the following spans belong to it
+	 *
+	 * @return start of the root span, see {@link #start()}
+	 */
+	public long startTrace() {
+		if (sink == null) {
+			return NOT_STARTED;
+		}
+		traceId++;
+		return System.nanoTime();
+	}
+
+	/**
+	 * Start a span
+	 *
+	 * @return start time in nanoseconds, {@link #NOT_STARTED} if tracing is disabled
+	 */
+	public long start() {
+		return sink == null ? NOT_STARTED : System.nanoTime();
+	}
+
+	/**
+	 * End a span and hand it to the sink
+	 *
+	 * @param kind phase
+	 * @param detail command name or group name, may be null
+	 * @param start value returned by {@link #start()}
+	 * @param outcome {@link TraceSpan#OK} or a description of the failure
+	 */
+	public void end(SpanKind kind, String detail, long start, String outcome) {
+		TraceSink currentSink = sink;
+		if (currentSink == null || start == NOT_STARTED) {
+			return;
+		}
+		long durationNanos = System.nanoTime() - start;
+		long startTimeMillis = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(durationNanos);
+		currentSink.onSpan(new TraceSpan(traceId, kind, detail, startTimeMillis, durationNanos, outcome));
+	}
+
+	/**
+	 * Describe a failure as the outcome of a span
+	 *
+	 * @param throwable cause of the failure
+	 * @return simple class name of the failure
+	 */
+	public static String outcomeOf(Throwable throwable) {
+		return throwable.getClass().getSimpleName();
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * CapturingTransport
+ * {@link RecordingTransport} appending every exchange to a capture file instead of keeping it in memory,
+ * see {@link TransportCaptureFile} for the format.
+ * If the file cannot be written the capture stops, the error is reported by {@link #close()}, the session itself is not affected.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CapturingTransport extends RecordingTransport implements Closeable {
+
+	private BufferedWriter writer;
+	private IOException writeFailure;
+
+	/**
+	 * CapturingTransport with arguments constructor
+	 *
+	 * @param delegate transport to be captured
+	 * @param file capture file, created if missing, appended otherwise
+	 * @throws IOException if the file cannot be opened
+	 */
+	public CapturingTransport(VIAConnectProTransport delegate, Path file) throws IOException {
+		super(delegate);
+		this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected synchronized void record(TransportExchange exchange) {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.write(TransportCaptureFile.format(exchange));
+			writer.newLine();
+			writer.flush();
+		} catch (IOException e) {
+			writeFailure = e;
+			closeWriter();
+		}
+	}
+
+	/**
+	 * Stop capturing and close the file
+	 *
+	 * @throws IOException if the capture failed earlier or the file cannot be closed
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		closeWriter();
+		if (writeFailure != null) {
+			throw writeFailure;
+		}
+	}
+
+	/**
+	 * Close the writer, keeping the first failure
+	 */
+	private void closeWriter() {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.close();
+		} catch (IOException e) {
+			if (writeFailure == null) {
+				writeFailure = e;
+			}
+		}
+		writer = null;
+	}
+}
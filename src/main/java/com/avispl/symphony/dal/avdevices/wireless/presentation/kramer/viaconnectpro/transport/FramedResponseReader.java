@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FramedResponseReader
+ * Reads the responses of the device out of the byte stream of a telnet session. Every response ends with \r\n:
+ * bytes are accumulated in a reusable buffer, scanned for that boundary once, and only complete responses are decoded.
+ * A partial response stays in the buffer until the rest of it arrives with a later read.
+ * Not thread-safe, the buffer belongs to a single session and has to be {@link #reset() reset} when the session changes.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FramedResponseReader {
+
+	private static final Charset CHARSET = StandardCharsets.UTF_8;
+	private static final long POLL_INTERVAL_MILLIS = 5;
+
+	private byte[] buffer;
+	/**
+	 * Start of the first byte not decoded yet
+	 */
+	private int start;
+	/**
+	 * End of the bytes read from the stream
+	 */
+	private int end;
+	/**
+	 * Bytes before this index have already been scanned for a boundary
+	 */
+	private int scanned;
+	/**
+	 * End of the last complete response found by the scan, boundary included
+	 */
+	private int framedEnd;
+
+	/**
+	 * FramedResponseReader with arguments constructor
+	 *
+	 * @param initialCapacity initial size of the buffer, it grows if a response doesn't fit
+	 */
+	public FramedResponseReader(int initialCapacity) {
+		this.buffer = new byte[Math.max(initialCapacity, 64)];
+	}
+
+	/**
+	 * Read every complete response available, waiting until at least one is received.
+	 * The responses are decoded at once and keep their trailing \r\n, like a raw response of the telnet session.
+	 *
+	 * @param in input stream of the session
+	 * @param timeout maximum time to wait for a complete response, in milliseconds
+	 * @param request request the responses are read for, only used in the timeout message
+	 * @return raw responses
+	 * @throws IOException if the session is closed or no complete response is received in time
+	 */
+	public String readResponses(InputStream in, int timeout, String request) throws IOException {
+		long deadline = System.currentTimeMillis() + timeout;
+		while (framedEnd == start || in.available() > 0) {
+			if (!fill(in)) {
+				awaitData(deadline, request);
+			}
+		}
+		String responses = new String(buffer, start, framedEnd - start, CHARSET);
+		start = framedEnd;
+		return responses;
+	}
+
+	/**
+	 * Read the next complete response, waiting until it is received
+	 *
+	 * @param in input stream of the session
+	 * @param timeout maximum time to wait for the response, in milliseconds
+	 * @param request request the response is read for, only used in the timeout message
+	 * @return response without its trailing \r\n
+	 * @throws IOException if the session is closed or no complete response is received in time
+	 */
+	public String readResponse(InputStream in, int timeout, String request) throws IOException {
+		long deadline = System.currentTimeMillis() + timeout;
+		int boundary = nextBoundary();
+		while (boundary < 0) {
+			if (!fill(in)) {
+				awaitData(deadline, request);
+			}
+			boundary = nextBoundary();
+		}
+		String response = new String(buffer, start, boundary - start, CHARSET);
+		start = boundary + 2;
+		return response;
+	}
+
+	/**
+	 * Drop buffered bytes, to be called when the session is opened or closed
+	 */
+	public void reset() {
+		start = 0;
+		end = 0;
+		scanned = 0;
+		framedEnd = 0;
+	}
+
+	/**
+	 * Read the bytes available without blocking and scan them for boundaries
+	 *
+	 * @param in input stream of the session
+	 * @return true if any byte has been read
+	 * @throws IOException if the session is closed
+	 */
+	private boolean fill(InputStream in) throws IOException {
+		int available = in.available();
+		if (available <= 0) {
+			return false;
+		}
+		ensureCapacity(available);
+		int read = in.read(buffer, end, Math.min(available, buffer.length - end));
+		if (read < 0) {
+			throw new IOException("Connection was forcible closed");
+		}
+		end += read;
+		// A boundary may start on the last byte of the previous read
+		for (int i = Math.max(scanned - 1, start); i < end - 1; i++) {
+			if (buffer[i] == '\r' && buffer[i + 1] == '\n') {
+				framedEnd = i + 2;
+				i++;
+			}
+		}
+		scanned = end;
+		return read > 0;
+	}
+
+	/**
+	 * Index of the first boundary after {@link #start}, -1 if the first buffered response is not complete
+	 */
+	private int nextBoundary() {
+		for (int i = start; i < framedEnd - 1; i++) {
+			if (buffer[i] == '\r' && buffer[i + 1] == '\n') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Make room for a number of bytes after {@link #end}, moving undecoded bytes to the start of the buffer first
+	 */
+	private void ensureCapacity(int length) {
+		if (buffer.length - end >= length) {
+			return;
+		}
+		if (start > 0) {
+			System.arraycopy(buffer, start, buffer, 0, end - start);
+			end -= start;
+			scanned -= start;
+			framedEnd -= start;
+			start = 0;
+		}
+		if (buffer.length - end < length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, end + length));
+		}
+	}
+
+	/**
+	 * Wait for more bytes, failing once the deadline has passed
+	 */
+	private void awaitData(long deadline, String request) throws IOException {
+		if (System.currentTimeMillis() >= deadline) {
+			throw new IOException("The read operation timed out. Command sent was: " + request + " Data read so far: "
+					+ new String(buffer, start, end - start, CHARSET));
+		}
+		try {
+			TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Read interrupted", e);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+
+/**
+ * InMemoryTransport
+ * Transport answered by a function in the calling thread, without any socket or read polling.
+ * Used for deterministic tests and benchmarks of the statistics logic.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class InMemoryTransport implements VIAConnectProTransport {
+
+	private final Function<String, String> responder;
+	private final Deque<String> pendingResponses = new ArrayDeque<>();
+	private boolean connected;
+
+	/**
+	 * InMemoryTransport with arguments constructor
+	 *
+	 * @param responder builds the raw response of a full telnet request, including the trailing \r\n
+	 */
+	public InMemoryTransport(Function<String, String> responder) {
+		this.responder = responder;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void connect() {
+		connected = true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized boolean isConnected() {
+		return connected;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized String send(String request) throws IOException {
+		checkConnected();
+		return responder.apply(request);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void write(String request) throws IOException {
+		checkConnected();
+		pendingResponses.add(responder.apply(request));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized String read(String request) throws IOException {
+		checkConnected();
+		if (pendingResponses.isEmpty()) {
+			throw new IOException("No response pending for " + request);
+		}
+		StringBuilder responses = new StringBuilder();
+		while (!pendingResponses.isEmpty()) {
+			responses.append(pendingResponses.poll());
+		}
+		return responses.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void disconnect() {
+		connected = false;
+		pendingResponses.clear();
+	}
+
+	/**
+	 * Fail like a closed telnet session
+	 *
+	 * @throws IOException if the transport is not connected
+	 */
+	private void checkConnected() throws IOException {
+		if (!connected) {
+			throw new IOException("Transport is not connected");
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.CommandDescriptor;
+
+/**
+ * OutstandingReplies
+ * Requests written to the session whose reply hasn't been read yet, identified by the token the device echoes in the reply.
+ * The device answers requests in order, so a reply is attributed to the oldest outstanding request whose token it contains:
+ * a late reply of a timed out or unmatched pipelined request is recognized as stale instead of being taken for the reply of a newer request.
+ * Requests the device never answered expire after a while, and only a bounded number of them are kept.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class OutstandingReplies {
+
+	private static final int CAPACITY = 64;
+
+	private final long expiryNanos;
+	private final Deque<OutstandingReply> replies = new ArrayDeque<>();
+
+	/**
+	 * OutstandingReplies with arguments constructor
+	 *
+	 * @param expiryMillis time after which a request is not expected to be answered anymore, in milliseconds
+	 */
+	public OutstandingReplies(long expiryMillis) {
+		this.expiryNanos = expiryMillis * 1_000_000L;
+	}
+
+	/**
+	 * Register a request written to the session
+	 *
+	 * @param token token expected in the reply
+	 * @return the registered reply, compared to the result of {@link #claim(String)}
+	 */
+	public synchronized OutstandingReply add(String token) {
+		expire();
+		if (replies.size() == CAPACITY) {
+			replies.poll();
+		}
+		OutstandingReply reply = new OutstandingReply(token, System.nanoTime());
+		replies.add(reply);
+		return reply;
+	}
+
+	/**
+	 * Attribute a reply read from the session to the oldest outstanding request whose token it contains, that request is not outstanding anymore
+	 *
+	 * @param response reply without its trailing \r\n
+	 * @return the request the reply belongs to, null if the reply is unsolicited
+	 */
+	public synchronized OutstandingReply claim(String response) {
+		String replyToken = CommandDescriptor.replyTokenOf(response);
+		for (Iterator<OutstandingReply> iterator = replies.iterator(); iterator.hasNext(); ) {
+			OutstandingReply reply = iterator.next();
+			if (replyToken != null ? replyToken.equals(reply.token) : response.contains(reply.token)) {
+				iterator.remove();
+				return reply;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Withdraw a request, its reply won't be waited for anymore. A reply that still arrives later will be unsolicited.
+	 *
+	 * @param reply registered reply
+	 */
+	public synchronized void remove(OutstandingReply reply) {
+		replies.remove(reply);
+	}
+
+	/**
+	 * Check if a request is still waiting for its reply
+	 *
+	 * @param reply registered reply
+	 * @return true if the reply hasn't been read
+	 */
+	public synchronized boolean isOutstanding(OutstandingReply reply) {
+		return replies.contains(reply);
+	}
+
+	/**
+	 * Retrieves number of outstanding requests
+	 *
+	 * @return number of outstanding requests
+	 */
+	public synchronized int size() {
+		return replies.size();
+	}
+
+	/**
+	 * Forget every request, to be called when the session is closed since replies cannot arrive on the next one
+	 */
+	public synchronized void clear() {
+		replies.clear();
+	}
+
+	/**
+	 * Drop requests older than {@link #expiryNanos}
+	 */
+	private void expire() {
+		long now = System.nanoTime();
+		while (!replies.isEmpty() && now - replies.peek().writtenAt > expiryNanos) {
+			replies.poll();
+		}
+	}
+
+	/**
+	 * Outstanding request
+	 */
+	public static final class OutstandingReply {
+
+		private final String token;
+		private final long writtenAt;
+
+		private OutstandingReply(String token, long writtenAt) {
+			this.token = token;
+			this.writtenAt = writtenAt;
+		}
+
+		/**
+		 * Retrieves {@code {@link #token}}
+		 *
+		 * @return value of {@link #token}
+		 */
+		public String getToken() {
+			return token;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RecordingTransport
+ * Decorator recording every request and response going through another transport, see {@link ReplayingTransport}.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RecordingTransport implements VIAConnectProTransport {
+
+	private final VIAConnectProTransport delegate;
+	private final List<TransportExchange> exchanges = new ArrayList<>();
+
+	/**
+	 * RecordingTransport with arguments constructor
+	 *
+	 * @param delegate transport to be recorded
+	 */
+	public RecordingTransport(VIAConnectProTransport delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Retrieves {@code {@link #delegate}}
+	 *
+	 * @return value of {@link #delegate}
+	 */
+	public VIAConnectProTransport getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Retrieves recorded exchanges, in order
+	 *
+	 * @return copy of the recorded exchanges
+	 */
+	public synchronized List<TransportExchange> getExchanges() {
+		return new ArrayList<>(exchanges);
+	}
+
+	/**
+	 * Remove every recorded exchange
+	 */
+	public synchronized void clear() {
+		exchanges.clear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void connect() throws Exception {
+		delegate.connect();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isConnected() {
+		return delegate.isConnected();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String send(String request) throws Exception {
+		long timestamp = System.currentTimeMillis();
+		long start = System.nanoTime();
+		String response = delegate.send(request);
+		record(new TransportExchange(timestamp, System.nanoTime() - start, request, response));
+		return response;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(String request) throws Exception {
+		long timestamp = System.currentTimeMillis();
+		long start = System.nanoTime();
+		delegate.write(request);
+		record(new TransportExchange(timestamp, System.nanoTime() - start, request, null));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String read(String request) throws Exception {
+		long timestamp = System.currentTimeMillis();
+		long start = System.nanoTime();
+		String response = delegate.read(request);
+		record(new TransportExchange(timestamp, System.nanoTime() - start, null, response));
+		return response;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void disconnect() {
+		delegate.disconnect();
+	}
+
+	/**
+	 * Keep an exchange
+	 *
+	 * @param exchange recorded exchange
+	 */
+	protected synchronized void record(TransportExchange exchange) {
+		exchanges.add(exchange);
+	}
+}
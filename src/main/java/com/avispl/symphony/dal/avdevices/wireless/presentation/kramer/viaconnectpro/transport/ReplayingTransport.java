@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReplayingTransport
+ * Answers requests with the responses recorded by {@link RecordingTransport}.
+ * Exchanges are replayed in recorded order: each operation is matched with the next recorded exchange of the same kind
+ * (and the same request for send/write), skipping the ones the adapter doesn't ask for.
+ * In loop mode the recording starts over once it is exhausted, to replay many polls from one capture.
+ * Requests are compared with credentials masked, so captures written by {@link CapturingTransport} replay with any password.
+ * In real-time mode each answer is delayed by the recorded duration of the exchange, otherwise it is returned at full speed.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ReplayingTransport implements VIAConnectProTransport {
+
+	private final List<TransportExchange> exchanges;
+	private final boolean loop;
+	private final boolean realTime;
+	private int cursor;
+	private boolean connected;
+
+	/**
+	 * ReplayingTransport with arguments constructor
+	 *
+	 * @param exchanges recorded exchanges, in order
+	 * @param loop true to start over once the recording is exhausted
+	 */
+	public ReplayingTransport(List<TransportExchange> exchanges, boolean loop) {
+		this(exchanges, loop, false);
+	}
+
+	/**
+	 * ReplayingTransport with arguments constructor
+	 *
+	 * @param exchanges recorded exchanges, in order
+	 * @param loop true to start over once the recording is exhausted
+	 * @param realTime true to delay each answer by the recorded duration
+	 */
+	public ReplayingTransport(List<TransportExchange> exchanges, boolean loop, boolean realTime) {
+		this.exchanges = new ArrayList<>(exchanges.size());
+		for (TransportExchange exchange : exchanges) {
+			this.exchanges.add(new TransportExchange(exchange.getTimestamp(), exchange.getDurationNanos(),
+					TransportCaptureFile.maskCredentials(exchange.getRequest()), exchange.getResponse()));
+		}
+		this.loop = loop;
+		this.realTime = realTime;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void connect() {
+		connected = true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized boolean isConnected() {
+		return connected;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized String send(String request) throws IOException {
+		return pace(next(request, true)).getResponse();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void write(String request) throws IOException {
+		pace(next(request, false));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized String read(String request) throws IOException {
+		return pace(next(null, false)).getResponse();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void disconnect() {
+		connected = false;
+	}
+
+	/**
+	 * Find the next recorded exchange matching an operation and move the cursor after it
+	 *
+	 * @param request full telnet request, null for a read
+	 * @param isSend true for a send
+	 * @return recorded exchange
+	 * @throws IOException if the transport is not connected or nothing matches
+	 */
+	private TransportExchange next(String request, boolean isSend) throws IOException {
+		if (!connected) {
+			throw new IOException("Transport is not connected");
+		}
+		String maskedRequest = TransportCaptureFile.maskCredentials(request);
+		int size = exchanges.size();
+		int searched = loop ? size : size - cursor;
+		for (int i = 0; i < searched; i++) {
+			int index = (cursor + i) % size;
+			TransportExchange exchange = exchanges.get(index);
+			if (matches(exchange, maskedRequest, isSend)) {
+				cursor = index + 1;
+				if (loop && cursor == size) {
+					cursor = 0;
+				}
+				return exchange;
+			}
+		}
+		throw new IOException("No recorded response for " + (request == null ? "read" : request));
+	}
+
+	/**
+	 * Wait for the recorded duration of an exchange in real-time mode
+	 *
+	 * @param exchange recorded exchange
+	 * @return the same exchange
+	 * @throws IOException if the wait is interrupted
+	 */
+	private TransportExchange pace(TransportExchange exchange) throws IOException {
+		if (realTime && exchange.getDurationNanos() > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(exchange.getDurationNanos());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Replay interrupted", e);
+			}
+		}
+		return exchange;
+	}
+
+	/**
+	 * Check if a recorded exchange matches an operation
+	 */
+	private boolean matches(TransportExchange exchange, String request, boolean isSend) {
+		if (request == null) {
+			return exchange.isRead();
+		}
+		boolean sameKind = isSend ? exchange.isSend() : exchange.isWrite();
+		return sameKind && request.equals(exchange.getRequest());
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TransportCaptureFile
+ * Line based format of captured {@link TransportExchange}, one exchange per line:
+ * {@code <kind S|W|R>\t<epoch millis>\t<duration nanos>\t<request>\t<response>}.
+ * Backslash, tab, carriage return and line feed are escaped in request and response,
+ * the password carried by every request is masked so captures from production rooms can be shared.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class TransportCaptureFile {
+
+	private static final char SEND = 'S';
+	private static final char WRITE = 'W';
+	private static final char READ = 'R';
+	private static final char SEPARATOR = '\t';
+	private static final String PASSWORD_START = "<Pwd>";
+	private static final String PASSWORD_END = "</Pwd>";
+	private static final String PASSWORD_MASK = "***";
+
+	private TransportCaptureFile() {
+	}
+
+	/**
+	 * Format an exchange as one line, without line terminator
+	 *
+	 * @param exchange recorded exchange
+	 * @return String of the line
+	 */
+	public static String format(TransportExchange exchange) {
+		char kind = exchange.isSend() ? SEND : exchange.isWrite() ? WRITE : READ;
+		StringBuilder line = new StringBuilder();
+		line.append(kind).append(SEPARATOR)
+				.append(exchange.getTimestamp()).append(SEPARATOR)
+				.append(exchange.getDurationNanos()).append(SEPARATOR);
+		escape(line, maskCredentials(exchange.getRequest()));
+		line.append(SEPARATOR);
+		escape(line, exchange.getResponse());
+		return line.toString();
+	}
+
+	/**
+	 * Parse one line of a capture file
+	 *
+	 * @param line line without line terminator
+	 * @return recorded exchange
+	 * @throws IllegalArgumentException if the line is not a captured exchange
+	 */
+	public static TransportExchange parse(String line) {
+		String[] fields = line.split(String.valueOf(SEPARATOR), -1);
+		if (fields.length != 5 || fields[0].length() != 1) {
+			throw new IllegalArgumentException("Invalid capture line: " + line);
+		}
+		char kind = fields[0].charAt(0);
+		String request = kind == READ ? null : unescape(fields[3]);
+		String response = kind == WRITE ? null : unescape(fields[4]);
+		return new TransportExchange(Long.parseLong(fields[1]), Long.parseLong(fields[2]), request, response);
+	}
+
+	/**
+	 * Read every exchange of a capture file
+	 *
+	 * @param file capture file
+	 * @return exchanges in captured order
+	 * @throws IOException if the file cannot be read
+	 */
+	public static List<TransportExchange> read(Path file) throws IOException {
+		List<TransportExchange> exchanges = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isEmpty()) {
+					exchanges.add(parse(line));
+				}
+			}
+		}
+		return exchanges;
+	}
+
+	/**
+	 * Mask the password of a request
+	 *
+	 * @param request request sent to the device, may be null
+	 * @return request with the content of {@code <Pwd>} replaced by a fixed mask
+	 */
+	public static String maskCredentials(String request) {
+		if (request == null) {
+			return null;
+		}
+		int start = request.indexOf(PASSWORD_START);
+		if (start < 0) {
+			return request;
+		}
+		start += PASSWORD_START.length();
+		int end = request.indexOf(PASSWORD_END, start);
+		if (end < 0) {
+			return request;
+		}
+		return request.substring(0, start) + PASSWORD_MASK + request.substring(end);
+	}
+
+	/**
+	 * Append an escaped value, nothing for null
+	 */
+	private static void escape(StringBuilder line, String value) {
+		if (value == null) {
+			return;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '\\':
+					line.append("\\\\");
+					break;
+				case '\t':
+					line.append("\\t");
+					break;
+				case '\r':
+					line.append("\\r");
+					break;
+				case '\n':
+					line.append("\\n");
+					break;
+				default:
+					line.append(c);
+			}
+		}
+	}
+
+	/**
+	 * Revert {@link #escape(StringBuilder, String)}
+	 */
+	private static String unescape(String value) {
+		if (value.indexOf('\\') < 0) {
+			return value;
+		}
+		StringBuilder unescaped = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c != '\\' || i + 1 == value.length()) {
+				unescaped.append(c);
+				continue;
+			}
+			char escaped = value.charAt(++i);
+			switch (escaped) {
+				case 't':
+					unescaped.append('\t');
+					break;
+				case 'r':
+					unescaped.append('\r');
+					break;
+				case 'n':
+					unescaped.append('\n');
+					break;
+				default:
+					unescaped.append(escaped);
+			}
+		}
+		return unescaped.toString();
+	}
+}
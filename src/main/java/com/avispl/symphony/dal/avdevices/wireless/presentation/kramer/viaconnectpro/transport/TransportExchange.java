@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+/**
+ * TransportExchange
+ * One operation recorded by {@link RecordingTransport}:
+ * <ol>
+ * 	<li>send: request and response</li>
+ * 	<li>write: request only</li>
+ * 	<li>read: response only</li>
+ * </ol>
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TransportExchange {
+
+	private final long timestamp;
+	private final long durationNanos;
+	private final String request;
+	private final String response;
+
+	/**
+	 * TransportExchange with arguments constructor
+	 *
+	 * @param timestamp epoch milliseconds at which the operation started
+	 * @param durationNanos duration of the operation
+	 * @param request full telnet request, null for a read
+	 * @param response raw response, null for a write
+	 */
+	public TransportExchange(long timestamp, long durationNanos, String request, String response) {
+		this.timestamp = timestamp;
+		this.durationNanos = durationNanos;
+		this.request = request;
+		this.response = response;
+	}
+
+	/**
+	 * Retrieves {@code {@link #timestamp}}
+	 *
+	 * @return value of {@link #timestamp}
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Retrieves {@code {@link #durationNanos}}
+	 *
+	 * @return value of {@link #durationNanos}
+	 */
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	/**
+	 * Retrieves {@code {@link #request}}
+	 *
+	 * @return value of {@link #request}
+	 */
+	public String getRequest() {
+		return request;
+	}
+
+	/**
+	 * Retrieves {@code {@link #response}}
+	 *
+	 * @return value of {@link #response}
+	 */
+	public String getResponse() {
+		return response;
+	}
+
+	/**
+	 * Check if the exchange was a send (request and response)
+	 *
+	 * @return true for a send
+	 */
+	public boolean isSend() {
+		return request != null && response != null;
+	}
+
+	/**
+	 * Check if the exchange was a write (request only)
+	 *
+	 * @return true for a write
+	 */
+	public boolean isWrite() {
+		return request != null && response == null;
+	}
+
+	/**
+	 * Check if the exchange was a read (response only)
+	 *
+	 * @return true for a read
+	 */
+	public boolean isRead() {
+		return request == null && response != null;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+import java.util.function.Predicate;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+
+/**
+ * VIAConnectProTransport
+ * Carries full telnet requests to the device and returns its raw responses.
+ * The statistics and control logic only talks to the device through this interface.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public interface VIAConnectProTransport {
+
+	/**
+	 * Open the session and log in if it is not open yet
+	 *
+	 * @throws Exception if the session cannot be opened
+	 */
+	void connect() throws Exception;
+
+	/**
+	 * Check if the session is open
+	 *
+	 * @return true if requests can be sent
+	 */
+	boolean isConnected();
+
+	/**
+	 * Send a request and read its response
+	 *
+	 * @param request full telnet request
+	 * @return raw response
+	 * @throws Exception if the request cannot be sent or no response is received in time
+	 */
+	String send(String request) throws Exception;
+
+	/**
+	 * Send a request without reading its response, see {@link #read(String)}
+	 *
+	 * @param request full telnet request
+	 * @throws Exception if the request cannot be sent
+	 */
+	void write(String request) throws Exception;
+
+	/**
+	 * Read the responses available after {@link #write(String)}, until at least one complete response is received
+	 *
+	 * @param request last request written, only used for logging
+	 * @return raw responses
+	 * @throws Exception if no response is received in time
+	 */
+	String read(String request) throws Exception;
+
+	/**
+	 * Read the responses available after {@link #write(String)} one at a time, handing each complete response to a consumer
+	 * until it doesn't need more. Transports reading a byte stream override this to skip building the raw responses of {@link #read(String)}.
+	 *
+	 * @param request last request written, only used for logging
+	 * @param consumer receives each response without its trailing \r\n, returns true once it doesn't need more responses
+	 * @throws Exception if no response is received in time
+	 */
+	default void readResponses(String request, Predicate<String> consumer) throws Exception {
+		boolean done = false;
+		while (!done) {
+			for (String response : read(request).split(VIAConnectProConstant.END_COMMAND)) {
+				if (consumer.test(response)) {
+					done = true;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Close the session
+	 */
+	void disconnect();
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CommandDescriptor
+ * Everything the adapter needs to know about a VIA command, computed once when its metric is created:
+ * the encoded command and fixed params of the request, the token the device echoes at the start of the reply
+ * (the command, a special first field such as RSStatus or IP:, or the first two fields such as Streaming|SRestart),
+ * the number of fields of the reply and the error codes the command may reply with.
+ * Descriptors of every {@link VIAConnectProMonitoringMetric} and {@link VIAConnectProControllingMetric} are registered,
+ * so that the descriptor of a request and the token of a reply are found with a hash lookup on the first field.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class CommandDescriptor {
+
+	private static final String REQUEST_END = "</P>";
+	private static final char FIELD_SEPARATOR = '|';
+	private static final char KEY_SEPARATOR = ':';
+
+	private final String command;
+	private final List<String> params;
+	private final String encodedCommand;
+	private final String replyToken;
+	private final int fieldCount;
+	private final boolean control;
+	private final Map<String, VIAConnectProErrorMetric> errors = new HashMap<>();
+
+	/**
+	 * CommandDescriptor with arguments constructor
+	 *
+	 * @param command VIA Connect PRO Command
+	 * @param param fixed params of the command separated by comma, empty if none
+	 * @param replyToken token the device echoes at the start of the reply, null if it is the command
+	 * @param fieldCount number of fields of the reply, 0 if it varies
+	 * @param control true for a controlling command
+	 * @param errors error codes the command may reply with
+	 */
+	CommandDescriptor(String command, String param, String replyToken, int fieldCount, boolean control, VIAConnectProErrorMetric... errors) {
+		this.command = command;
+		this.params = param.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(param.split(VIAConnectProConstant.COMMA)));
+		this.encodedCommand = appendCommand(new StringBuilder(), command, params).toString();
+		this.replyToken = replyToken == null ? command : replyToken;
+		this.fieldCount = fieldCount;
+		this.control = control;
+		for (VIAConnectProErrorMetric error : errors) {
+			this.errors.put(error.getErrorCode(), error);
+		}
+	}
+
+	/**
+	 * Retrieves {@code {@link #command}}
+	 *
+	 * @return value of {@link #command}
+	 */
+	public String getCommand() {
+		return command;
+	}
+
+	/**
+	 * Retrieves {@code {@link #params}}
+	 *
+	 * @return value of {@link #params}
+	 */
+	public List<String> getParams() {
+		return params;
+	}
+
+	/**
+	 * Retrieves {@code {@link #replyToken}}
+	 *
+	 * @return value of {@link #replyToken}
+	 */
+	public String getReplyToken() {
+		return replyToken;
+	}
+
+	/**
+	 * Retrieves {@code {@link #fieldCount}}
+	 *
+	 * @return value of {@link #fieldCount}
+	 */
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * Retrieves {@code {@link #control}}
+	 *
+	 * @return value of {@link #control}
+	 */
+	public boolean isControl() {
+		return control;
+	}
+
+	/**
+	 * Build the request of the command with its fixed params
+	 *
+	 * @param credentials start of every request of the session, see {@link #encodeCredentials(String, String)}
+	 * @return full telnet request
+	 */
+	public String encodeRequest(String credentials) {
+		return credentials + encodedCommand + REQUEST_END;
+	}
+
+	/**
+	 * Check if a reply belongs to the command
+	 *
+	 * @param reply reply without its trailing \r\n
+	 * @return true if the reply carries {@link #replyToken}
+	 */
+	public boolean isReply(String reply) {
+		return matches(reply, replyToken);
+	}
+
+	/**
+	 * Get the error the command replied with, in the last field of its reply
+	 *
+	 * @param reply reply of the command
+	 * @return error, null if the reply carries none of the errors of the command
+	 */
+	public VIAConnectProErrorMetric errorOf(String reply) {
+		return errors.isEmpty() ? null : errors.get(valueOf(reply));
+	}
+
+	/**
+	 * Get the descriptor of a request
+	 *
+	 * @param command VIA Connect PRO Command
+	 * @param firstParam first param of the request, null if none
+	 * @param control true for a controlling command
+	 * @return descriptor, null if the command is not registered
+	 */
+	public static CommandDescriptor find(String command, String firstParam, boolean control) {
+		return Registry.REQUESTS.get(requestKey(command, firstParam == null ? VIAConnectProConstant.EMPTY : firstParam, control));
+	}
+
+	/**
+	 * Get the token of a registered command a reply starts with
+	 *
+	 * @param reply reply without its trailing \r\n
+	 * @return longest reply token the reply starts with, null if the reply doesn't start with the token of any registered command
+	 */
+	public static String replyTokenOf(String reply) {
+		String head = reply.substring(0, headLength(reply));
+		List<String> tokens = Registry.REPLY_TOKENS.get(head);
+		if (tokens == null) {
+			return null;
+		}
+		for (String token : tokens) {
+			if (token.length() == head.length()
+					|| reply.startsWith(token) && (reply.length() == token.length() || reply.charAt(token.length()) == FIELD_SEPARATOR)) {
+				return token;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Check if a reply carries a token, by its first field when the reply starts with the token of a registered command
+	 *
+	 * @param reply reply without its trailing \r\n
+	 * @param token expected token
+	 * @return true if the reply carries the token
+	 */
+	public static boolean matches(String reply, String token) {
+		String replyToken = replyTokenOf(reply);
+		return replyToken != null ? replyToken.equals(token) : reply.contains(token);
+	}
+
+	/**
+	 * Get the last field of a reply, where the device puts the value or the error code
+	 *
+	 * @param reply reply without its trailing \r\n
+	 * @return last field
+	 */
+	public static String valueOf(String reply) {
+		return reply.substring(reply.lastIndexOf(FIELD_SEPARATOR) + 1);
+	}
+
+	/**
+	 * Build the start of every request sent with a login
+	 *
+	 * @param login username
+	 * @param password password, only sent with the Login command, null otherwise
+	 * @return start of the request
+	 */
+	public static String encodeCredentials(String login, String password) {
+		return "<P><UN>" + login + "</UN><Pwd>" + (password == null ? VIAConnectProConstant.EMPTY : password) + "</Pwd>";
+	}
+
+	/**
+	 * Build a full telnet request
+	 * Example request: <P><UN>su</UN><Pwd></Pwd><Cmd>Vol</Cmd><P1>Get</P1></P>
+	 *
+	 * @param credentials start of the request, see {@link #encodeCredentials(String, String)}
+	 * @param command VIA Connect PRO Command
+	 * @param params List of params
+	 * @return full telnet request
+	 */
+	public static String encodeRequest(String credentials, String command, List<String> params) {
+		return appendCommand(new StringBuilder(credentials), command, params).append(REQUEST_END).toString();
+	}
+
+	/**
+	 * Append the command and its params to a request
+	 */
+	private static StringBuilder appendCommand(StringBuilder request, String command, List<String> params) {
+		request.append("<Cmd>").append(command).append("</Cmd>");
+		for (int i = 0; i < params.size(); i++) {
+			request.append("<P").append(i + 1).append('>').append(params.get(i)).append("</P").append(i + 1).append('>');
+		}
+		return request;
+	}
+
+	/**
+	 * Length of the first field of a reply, or of the key of a key:value first field such as IP:
+	 */
+	private static int headLength(String reply) {
+		int end = reply.indexOf(FIELD_SEPARATOR);
+		if (end < 0) {
+			end = reply.length();
+		}
+		int key = reply.indexOf(KEY_SEPARATOR);
+		return key >= 0 && key < end ? key + 1 : end;
+	}
+
+	/**
+	 * Key of a request in {@link Registry#REQUESTS}
+	 */
+	private static String requestKey(String command, String firstParam, boolean control) {
+		return (control ? "C|" : "M|") + command + FIELD_SEPARATOR + firstParam;
+	}
+
+	/**
+	 * Descriptors of every metric, initialized on first use since the metrics create their descriptor while they are initialized
+	 */
+	private static final class Registry {
+
+		private static final Map<String, CommandDescriptor> REQUESTS = new HashMap<>();
+		/**
+		 * Reply tokens by first field, longest first
+		 */
+		private static final Map<String, List<String>> REPLY_TOKENS = new HashMap<>();
+
+		static {
+			for (VIAConnectProMonitoringMetric metric : VIAConnectProMonitoringMetric.values()) {
+				register(metric.getDescriptor());
+			}
+			for (VIAConnectProControllingMetric metric : VIAConnectProControllingMetric.values()) {
+				register(metric.getDescriptor());
+			}
+		}
+
+		private Registry() {
+		}
+
+		private static void register(CommandDescriptor descriptor) {
+			String firstParam = descriptor.params.isEmpty() ? VIAConnectProConstant.EMPTY : descriptor.params.get(0);
+			REQUESTS.putIfAbsent(requestKey(descriptor.command, firstParam, descriptor.control), descriptor);
+			List<String> tokens = REPLY_TOKENS.computeIfAbsent(descriptor.replyToken.substring(0, headLength(descriptor.replyToken)), head -> new ArrayList<>());
+			if (!tokens.contains(descriptor.replyToken)) {
+				tokens.add(descriptor.replyToken);
+				tokens.sort(Comparator.comparingInt(String::length).reversed());
+			}
+		}
+	}
+}
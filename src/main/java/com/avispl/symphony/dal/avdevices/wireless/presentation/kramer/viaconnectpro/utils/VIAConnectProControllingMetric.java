@@ -21,14 +21,14 @@ public enum VIAConnectProControllingMetric {
 	/**
 	 * Display status: Set-require 2 params (Set and username)
 	 */
-	DISPLAY_STATUS_SET("UserModeration", "DisplayStatus", "Set"),
+	DISPLAY_STATUS_SET("UserModeration", "DisplayStatus", "Set", VIAConnectProErrorMetric.ERROR_14),
 
 	/**
 	 * Volume: Set-require 2 params (Vol and Set)
 	 */
 	VOLUME_SET("DeviceSettings", "Vol", "Set"),
 
-	STREAMING_STATUS_SET("StreamingFromDeviceToExternal", "Streaming", "Set"),
+	STREAMING_STATUS_SET("StreamingFromDeviceToExternal", "Streaming", "Set", VIAConnectProErrorMetric.streamingErrors()),
 
 	/**
 	 * Start streaming
@@ -39,13 +39,14 @@ public enum VIAConnectProControllingMetric {
 	 * require 3 params: SRestart, username, URL name
 	 * Change streaming:
 	 * require 3 params: SChange, username, URL name
+	 * Restart and change streaming reply with Streaming|SRestart/SChange|0/1
 	 * Streaming:
 	 * require 2 params: Set, 0/1 (off/on)
 	 */
-	STREAMING_START("StreamingFromDeviceToExternal", "Streaming", "SStart"),
-	STREAMING_STOP("StreamingFromDeviceToExternal", "Streaming", "SStop"),
-	STREAMING_RESTART("StreamingFromDeviceToExternal", "Streaming", "SRestart"),
-	STREAMING_CHANGE("StreamingFromDeviceToExternal", "Streaming", "SChange"),
+	STREAMING_START("StreamingFromDeviceToExternal", "Streaming", "SStart", VIAConnectProConstant.SSTART_SPECIAL_CASE, VIAConnectProErrorMetric.streamingErrors()),
+	STREAMING_STOP("StreamingFromDeviceToExternal", "Streaming", "SStop", VIAConnectProConstant.SSTOP_SPECIAL_CASE, VIAConnectProErrorMetric.streamingErrors()),
+	STREAMING_RESTART("StreamingFromDeviceToExternal", "Streaming", "SRestart", "Streaming|" + VIAConnectProConstant.SRESTART_SPECIAL_CASE, VIAConnectProErrorMetric.streamingErrors()),
+	STREAMING_CHANGE("StreamingFromDeviceToExternal", "Streaming", "SChange", "Streaming|" + VIAConnectProConstant.SCHANGE_SPECIAL_CASE, VIAConnectProErrorMetric.streamingErrors()),
 
 	/**
 	 * Streaming URL: require 2 params 1,  URL path
@@ -58,16 +59,32 @@ public enum VIAConnectProControllingMetric {
 	 * @param groupName Group name of the metric
 	 * @param command VIA Connect PRO Command
 	 * @param param parameter of the command.
+	 * @param errors error codes the command may reply with
 	 */
-	VIAConnectProControllingMetric(String groupName, String command, String param) {
+	VIAConnectProControllingMetric(String groupName, String command, String param, VIAConnectProErrorMetric... errors) {
+		this(groupName, command, param, null, errors);
+	}
+
+	/**
+	 * VIAConnectProControllingMetric with arguments constructor
+	 *
+	 * @param groupName Group name of the metric
+	 * @param command VIA Connect PRO Command
+	 * @param param parameter of the command.
+	 * @param replyToken token the device echoes at the start of the reply, null if it is the command
+	 * @param errors error codes the command may reply with
+	 */
+	VIAConnectProControllingMetric(String groupName, String command, String param, String replyToken, VIAConnectProErrorMetric... errors) {
 		this.groupName = groupName;
 		this.command = command;
 		this.param = param;
+		this.descriptor = new CommandDescriptor(command, param, replyToken, 0, true, errors);
 	}
 
 	private final String groupName;
 	private final String command;
 	private final String param;
+	private final CommandDescriptor descriptor;
 
 	/**
 	 * Retrieves {@code {@link #groupName }}
@@ -95,4 +112,13 @@ public enum VIAConnectProControllingMetric {
 	public String getParam() {
 		return param;
 	}
-}
+
+	/**
+	 * Retrieves {@code {@link #descriptor}}
+	 *
+	 * @return value of {@link #descriptor}
+	 */
+	public CommandDescriptor getDescriptor() {
+		return descriptor;
+	}
+}
\ No newline at end of file
@@ -4,6 +4,10 @@
 
 package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * VIAConnectProErrorMetrics enum class
  *
@@ -38,8 +42,21 @@ public enum VIAConnectProErrorMetric {
 		this.errorDescription = errorDescription;
 	}
 
-	private String errorCode;
-	private String errorDescription;
+	/**
+	 * Errors by code, so that the error of a reply is found with a hash lookup
+	 */
+	private static final Map<String, VIAConnectProErrorMetric> BY_CODE;
+
+	static {
+		Map<String, VIAConnectProErrorMetric> byCode = new HashMap<>();
+		for (VIAConnectProErrorMetric metric : values()) {
+			byCode.put(metric.errorCode, metric);
+		}
+		BY_CODE = Collections.unmodifiableMap(byCode);
+	}
+
+	private final String errorCode;
+	private final String errorDescription;
 
 	/**
 	 * Retrieves {@code {@link #errorCode}}
@@ -50,15 +67,6 @@ public enum VIAConnectProErrorMetric {
 		return errorCode;
 	}
 
-	/**
-	 * Sets {@code errorCode}
-	 *
-	 * @param errorCode the {@code java.lang.String} field
-	 */
-	public void setErrorCode(String errorCode) {
-		this.errorCode = errorCode;
-	}
-
 	/**
 	 * Retrieves {@code {@link #errorDescription}}
 	 *
@@ -69,12 +77,12 @@ public enum VIAConnectProErrorMetric {
 	}
 
 	/**
-	 * Sets {@code errorDescription}
+	 * Get the errors the Streaming command may reply with
 	 *
-	 * @param errorDescription the {@code java.lang.String} field
+	 * @return array of streaming errors
 	 */
-	public void setErrorDescription(String errorDescription) {
-		this.errorDescription = errorDescription;
+	public static VIAConnectProErrorMetric[] streamingErrors() {
+		return new VIAConnectProErrorMetric[] { ERROR_20055, ERROR_20058, ERROR_20059, ERROR_20060, ERROR_20061, ERROR_20062, ERROR_20063, ERROR_20065, ERROR_20066 };
 	}
 
 	/**
@@ -84,11 +92,6 @@ public enum VIAConnectProErrorMetric {
 	 * @return Enum of VIAConnectProErrorMetric
 	 */
 	public static VIAConnectProErrorMetric getByCode(String code) {
-		for (VIAConnectProErrorMetric metric: VIAConnectProErrorMetric.values()) {
-			if (metric.getErrorCode().equals(code)) {
-				return metric;
-			}
-		}
-		return null;
+		return code == null ? null : BY_CODE.get(code);
 	}
 }
@@ -17,13 +17,13 @@ public enum VIAConnectProMonitoringMetric {
 	 * Participant list,CNT require 2 params: cnt and 3
 	 * ALL_STATUS: require 2 params: all and 4 (this command contains the username and its status)
 	 */
-	PLIST_CNT("ParticipantList", "PList", "cnt,3"),
-	PLIST_All_STATUS("ParticipantList", "PList", "all,4"),
+	PLIST_CNT("ParticipantList", "PList", "cnt,3", VIAConnectProErrorMetric.ERROR_14),
+	PLIST_All_STATUS("ParticipantList", "PList", "all,4", VIAConnectProErrorMetric.ERROR_14),
 
 	/**
 	 * Display status: Get-require 2 params (Get and Username)
 	 */
-	DISPLAY_STATUS_GET("UserModeration", "DisplayStatus", "Get"),
+	DISPLAY_STATUS_GET("UserModeration", "DisplayStatus", "Get", VIAConnectProErrorMetric.ERROR_14),
 
 	/**
 	 * Volume: Get-require 2 params (Vol and Get)
@@ -33,7 +33,7 @@ public enum VIAConnectProMonitoringMetric {
 	/**
 	 * Ip information
 	 */
-	IP_INFORMATION("", "IpInfo", ""),
+	IP_INFORMATION("", "IpInfo", "", VIAConnectProConstant.IP_SPECIAL_CASE, 5),
 
 	/**
 	 * Presentation mode
@@ -62,9 +62,9 @@ public enum VIAConnectProMonitoringMetric {
 	/**
 	 * Gateway: serial number, mac address, version
 	 */
-	SERIAL_NUMBER_GET("", "GetSerialNo", ""),
-	MAC_ADDRESS_GET("", "GetMacAdd", ""),
-	VERSION_GET("", "GetVersion", ""),
+	SERIAL_NUMBER_GET("", "GetSerialNo", "", VIAConnectProErrorMetric.ERROR_701),
+	MAC_ADDRESS_GET("", "GetMacAdd", "", VIAConnectProErrorMetric.ERROR_702),
+	VERSION_GET("", "GetVersion", "", VIAConnectProErrorMetric.ERROR_703),
 
 	/**
 	 * Chrome connectivity status and api mode status
@@ -95,9 +95,9 @@ public enum VIAConnectProMonitoringMetric {
 	 * </ol>
 	 */
 	STREAMING_STATUS_GET("StreamingFromDeviceToExternal", "Streaming", "Get"),
-	STREAMING_STATUS_SSTATUS_GET("StreamingFromDeviceToExternal", "Streaming", "SStatus"),
+	STREAMING_STATUS_SSTATUS_GET("StreamingFromDeviceToExternal", "Streaming", "SStatus", VIAConnectProConstant.RSSTATUS_SPECIAL_CASE, 0),
 
-	ROOM_CODE("","RCode","Get,Code");
+	ROOM_CODE("","RCode","Get,Code", VIAConnectProErrorMetric.ERROR_21);
 
 	/**
 	 * VIAConnectProMonitoringMetric with arguments constructor
@@ -105,16 +105,33 @@ public enum VIAConnectProMonitoringMetric {
 	 * @param groupName Group name of the metric
 	 * @param command VIA Connect PRO Command
 	 * @param param parameter of the command.
+	 * @param errors error codes the command may reply with
 	 */
-	VIAConnectProMonitoringMetric(String groupName, String command, String param) {
+	VIAConnectProMonitoringMetric(String groupName, String command, String param, VIAConnectProErrorMetric... errors) {
+		this(groupName, command, param, null, 0, errors);
+	}
+
+	/**
+	 * VIAConnectProMonitoringMetric with arguments constructor
+	 *
+	 * @param groupName Group name of the metric
+	 * @param command VIA Connect PRO Command
+	 * @param param parameter of the command.
+	 * @param replyToken token the device echoes at the start of the reply, null if it is the command
+	 * @param fieldCount number of fields of the reply, 0 if it varies
+	 * @param errors error codes the command may reply with
+	 */
+	VIAConnectProMonitoringMetric(String groupName, String command, String param, String replyToken, int fieldCount, VIAConnectProErrorMetric... errors) {
 		this.groupName = groupName;
 		this.command = command;
 		this.param = param;
+		this.descriptor = new CommandDescriptor(command, param, replyToken, fieldCount, false, errors);
 	}
 
 	private final String groupName;
 	private final String command;
 	private final String param;
+	private final CommandDescriptor descriptor;
 
 	/**
 	 * Retrieves {@code {@link #groupName }}
@@ -142,4 +159,13 @@ public enum VIAConnectProMonitoringMetric {
 	public String getParam() {
 		return param;
 	}
+
+	/**
+	 * Retrieves {@code {@link #descriptor}}
+	 *
+	 * @return value of {@link #descriptor}
+	 */
+	public CommandDescriptor getDescriptor() {
+		return descriptor;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.WarmStartSnapshot;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.simulator.SimulatedDevice;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.simulator.VIAConnectProSimulator;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing.RingBufferTraceSink;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing.SpanKind;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing.TraceSinks;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing.TraceSpan;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.InMemoryTransport;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.RecordingTransport;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.ReplayingTransport;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.TransportCaptureFile;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.TransportExchange;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+
+/**
+ * VIAConnectProTransportTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class VIAConnectProTransportTest {
+
+    private static final String USERNAME = "su";
+    private static final String PASSWORD = "supass";
+
+    private VIAConnectProSimulator simulator;
+
+    @BeforeEach
+    public void init() throws Exception {
+        SimulatedDevice device = new SimulatedDevice();
+        device.putParticipant("Alice", SimulatedDevice.PRESENTING);
+        device.activateStreaming("udp://239.0.0.1:5000", "udp://239.0.0.2:5000");
+        simulator = new VIAConnectProSimulator(device, USERNAME, PASSWORD).start();
+    }
+
+    @AfterEach
+    public void destroy() {
+        simulator.close();
+    }
+
+    /**
+     * Test recording and replaying transports:
+     * - A poll recorded from the telnet session is replayed without any device and gives the same statistics.
+     */
+    @Test
+    @Tag("Mock")
+    void testRecordAndReplay() throws Exception {
+        VIAConnectProCommunicator recordingCommunicator = createCommunicator();
+        RecordingTransport recordingTransport = new RecordingTransport(recordingCommunicator.getTransport());
+        recordingCommunicator.setTransport(recordingTransport);
+        recordingCommunicator.init();
+        Map<String, String> recordedStats = getStatistics(recordingCommunicator);
+        recordingCommunicator.destroy();
+        List<TransportExchange> exchanges = recordingTransport.getExchanges();
+        Assertions.assertFalse(exchanges.isEmpty());
+
+        simulator.close();
+        VIAConnectProCommunicator replayingCommunicator = createCommunicator();
+        replayingCommunicator.setTransport(new ReplayingTransport(exchanges, true));
+        replayingCommunicator.init();
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(recordedStats, getStatistics(replayingCommunicator));
+        }
+        replayingCommunicator.destroy();
+    }
+
+    /**
+     * Test capture file:
+     * - Exchanges of a live session are appended to the capture file without the password and replay to the same statistics.
+     */
+    @Test
+    @Tag("Mock")
+    void testCaptureFileAndReplay(@TempDir Path tempDir) throws Exception {
+        Path captureFile = tempDir.resolve("room.capture");
+        VIAConnectProCommunicator capturingCommunicator = createCommunicator();
+        capturingCommunicator.setCaptureFile(captureFile.toString());
+        capturingCommunicator.init();
+        Map<String, String> capturedStats = getStatistics(capturingCommunicator);
+        capturingCommunicator.destroy();
+        Assertions.assertFalse(new String(Files.readAllBytes(captureFile), StandardCharsets.UTF_8).contains(PASSWORD));
+        List<TransportExchange> exchanges = TransportCaptureFile.read(captureFile);
+        Assertions.assertFalse(exchanges.isEmpty());
+        Assertions.assertTrue(exchanges.get(exchanges.size() - 1).getResponse().endsWith(VIAConnectProConstant.END_COMMAND));
+
+        simulator.close();
+        VIAConnectProCommunicator replayingCommunicator = createCommunicator();
+        replayingCommunicator.setTransport(new ReplayingTransport(exchanges, true));
+        replayingCommunicator.init();
+        Assertions.assertEquals(capturedStats, getStatistics(replayingCommunicator));
+        replayingCommunicator.destroy();
+    }
+
+    /**
+     * Test in-memory transport:
+     * - Responses of the function are parsed like responses of the device.
+     */
+    @Test
+    @Tag("Mock")
+    void testInMemoryTransport() throws Exception {
+        VIAConnectProCommunicator communicator = createCommunicator();
+        communicator.setConfigManagement("false");
+        communicator.setTransport(new InMemoryTransport(request -> {
+            if (request.contains("<Cmd>IpInfo</Cmd>")) {
+                return "IP:10.0.0.5|SubnetMask:255.0.0.0|Gateway:10.0.0.1|DNS:10.0.0.2|HostName:room\r\n";
+            }
+            if (request.contains("<Cmd>PList</Cmd>")) {
+                return "PList|all|4|Error14\r\n";
+            }
+            return "RCode|Get|Code|4321\r\n";
+        }));
+        communicator.init();
+        Map<String, String> stats = getStatistics(communicator);
+        Assertions.assertEquals("10.0.0.5", stats.get(VIAConnectProConstant.IP_ADDRESS));
+        Assertions.assertEquals("4321", stats.get(VIAConnectProConstant.ROOM_CODE));
+        communicator.destroy();
+    }
+
+    /**
+     * Test single-flight statistics:
+     * - A caller arriving during a poll gets the result of that poll, a caller arriving within the freshness window gets the last snapshot.
+     */
+    @Test
+    @Tag("Mock")
+    void testConcurrentStatisticsShareOnePoll() throws Exception {
+        AtomicInteger ipInfoRequests = new AtomicInteger();
+        CountDownLatch pollStarted = new CountDownLatch(1);
+        CountDownLatch releasePoll = new CountDownLatch(1);
+        VIAConnectProCommunicator communicator = createCommunicator();
+        communicator.setConfigManagement("false");
+        communicator.setStatisticsFreshness("60000");
+        communicator.setTransport(new InMemoryTransport(request -> {
+            if (request.contains("<Cmd>IpInfo</Cmd>")) {
+                ipInfoRequests.incrementAndGet();
+                pollStarted.countDown();
+                try {
+                    releasePoll.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "IP:10.0.0.5|SubnetMask:255.0.0.0|Gateway:10.0.0.1|DNS:10.0.0.2|HostName:room\r\n";
+            }
+            if (request.contains("<Cmd>PList</Cmd>")) {
+                return "PList|all|4|Error14\r\n";
+            }
+            return "RCode|Get|Code|4321\r\n";
+        }));
+        communicator.init();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Map<String, String>> first = executor.submit(() -> getStatistics(communicator));
+            Assertions.assertTrue(pollStarted.await(5, TimeUnit.SECONDS));
+            Future<Map<String, String>> second = executor.submit(() -> getStatistics(communicator));
+            while (communicator.getAdapterMetrics().getCoalescedRequests() == 0) {
+                Thread.sleep(1);
+            }
+            releasePoll.countDown();
+            Assertions.assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals("10.0.0.5", getStatistics(communicator).get(VIAConnectProConstant.IP_ADDRESS));
+            Assertions.assertEquals(1, ipInfoRequests.get());
+            Assertions.assertEquals(1, communicator.getAdapterMetrics().getFreshSnapshotRequests());
+        } finally {
+            releasePoll.countDown();
+            executor.shutdownNow();
+            communicator.destroy();
+        }
+    }
+
+    /**
+     * Test warm start:
+     * - After a restart, statistics of the last poll are returned right away while the first poll runs in the background,
+     * destroying the adapter cancels that poll and statistics older than the max age are not served.
+     */
+    @Test
+    @Tag("Mock")
+    void testWarmStartServesLastStatistics(@TempDir Path tempDir) throws Exception {
+        VIAConnectProCommunicator communicator = createCommunicator();
+        communicator.setWarmStartDirectory(tempDir.toString());
+        communicator.init();
+        Map<String, String> polledStats = getStatistics(communicator);
+        communicator.destroy();
+        Assertions.assertNotNull(polledStats.get(VIAConnectProConstant.IP_ADDRESS));
+
+        simulator.close();
+        Path snapshotFile;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            snapshotFile = files.filter(file -> file.toString().endsWith(".snapshot")).findFirst().orElseThrow(AssertionError::new);
+        }
+        byte[] storedSnapshot = Files.readAllBytes(snapshotFile);
+        CountDownLatch releasePoll = new CountDownLatch(1);
+        VIAConnectProCommunicator restartedCommunicator = createWarmStartCommunicator(tempDir, releasePoll);
+        try {
+            restartedCommunicator.init();
+            Map<String, String> warmStats = getStatistics(restartedCommunicator);
+            Assertions.assertEquals(polledStats.get(VIAConnectProConstant.IP_ADDRESS), warmStats.get(VIAConnectProConstant.IP_ADDRESS));
+            Assertions.assertEquals(polledStats.get(VIAConnectProConstant.SERIAL_NUMBER), warmStats.get(VIAConnectProConstant.SERIAL_NUMBER));
+        } finally {
+            // The background poll is still blocked: destroy cancels it before it can publish anything
+            restartedCommunicator.destroy();
+            releasePoll.countDown();
+        }
+        Assertions.assertArrayEquals(storedSnapshot, Files.readAllBytes(snapshotFile));
+
+        VIAConnectProCommunicator staleCommunicator = createWarmStartCommunicator(tempDir, releasePoll);
+        staleCommunicator.setWarmStartMaxAge("0");
+        Thread.sleep(5);
+        try {
+            staleCommunicator.init();
+            // Nothing is served from the expired snapshot, the first call polls the device which only answers Vol
+            Assertions.assertThrows(ResourceNotReachableException.class, () -> getStatistics(staleCommunicator));
+        } finally {
+            staleCommunicator.destroy();
+        }
+    }
+
+    /**
+     * Test warm start saves:
+     * - The snapshot file is only rewritten when the statistics of a poll changed.
+     */
+    @Test
+    @Tag("Mock")
+    void testWarmStartSavedOnlyWhenChanged(@TempDir Path tempDir) throws Exception {
+        VIAConnectProCommunicator communicator = createCommunicator();
+        communicator.setWarmStartDirectory(tempDir.toString());
+        String deviceKey = "127.0.0.1:" + simulator.getPort();
+        try {
+            communicator.init();
+            getStatistics(communicator);
+            Path snapshotFile;
+            try (Stream<Path> files = Files.list(tempDir)) {
+                snapshotFile = files.filter(file -> file.toString().endsWith(".snapshot")).findFirst().orElseThrow(AssertionError::new);
+            }
+            long savedAt = WarmStartSnapshot.read(snapshotFile, deviceKey).getPolledAt();
+
+            Thread.sleep(5);
+            getStatistics(communicator);
+            Assertions.assertEquals(savedAt, WarmStartSnapshot.read(snapshotFile, deviceKey).getPolledAt());
+
+            simulator.getDevice().setVolume(35);
+            Thread.sleep(5);
+            getStatistics(communicator);
+            WarmStartSnapshot changed = WarmStartSnapshot.read(snapshotFile, deviceKey);
+            Assertions.assertTrue(changed.getPolledAt() > savedAt);
+            Assertions.assertEquals("35", changed.getStatistics().get(String.format("%s#%s", VIAConnectProConstant.DEVICE_SETTINGS, VIAConnectProConstant.VOLUME)));
+        } finally {
+            communicator.destroy();
+        }
+    }
+
+    private VIAConnectProCommunicator createWarmStartCommunicator(Path warmStartDirectory, CountDownLatch releasePoll) {
+        VIAConnectProCommunicator communicator = createCommunicator();
+        communicator.setWarmStartDirectory(warmStartDirectory.toString());
+        communicator.setTransport(new InMemoryTransport(request -> {
+            try {
+                releasePoll.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "Vol|Get|50|0\r\n";
+        }));
+        return communicator;
+    }
+
+    /**
+     * Test read-back after controls:
+     * - The volume echoed by Vol|Set and the display status read back right after DisplayStatus|Set are served without a full poll.
+     * - A failed read-back leaves the statistics as they were, served from the fresh snapshot until the next poll.
+     */
+    @Test
+    @Tag("Mock")
+    void testReadBackAfterControl() throws Exception {
+        VIAConnectProCommunicator communicator = createCommunicator();
+        AtomicBoolean failDisplayStatusGet = new AtomicBoolean();
+        RecordingTransport transport = new RecordingTransport(communicator.getTransport()) {
+            @Override
+            public String send(String request) throws Exception {
+                if (failDisplayStatusGet.get() && request.contains("<Cmd>DisplayStatus</Cmd><P1>Get</P1>")) {
+                    throw new IOException("Read back failed");
+                }
+                return super.send(request);
+            }
+        };
+        communicator.setTransport(transport);
+        communicator.setStatisticsFreshness("60000");
+        String volume = String.format("%s#%s", VIAConnectProConstant.DEVICE_SETTINGS, VIAConnectProConstant.VOLUME);
+        String userDisplayStatus = String.format("%s#%s", VIAConnectProConstant.USER_MODERATION, VIAConnectProConstant.USER_DISPLAY_STATUS);
+        String userPresentation = String.format("%s#%s", VIAConnectProConstant.USER_MODERATION, VIAConnectProConstant.USER_PRESENTATION);
+        try {
+            communicator.init();
+            Assertions.assertEquals("50", getStatistics(communicator).get(volume));
+            Assertions.assertEquals(VIAConnectProConstant.PRESENTING, getStatistics(communicator).get(userDisplayStatus));
+
+            transport.clear();
+            control(communicator, volume, "30");
+            Assertions.assertEquals("30", getStatistics(communicator).get(volume));
+            Assertions.assertEquals(30, simulator.getDevice().getVolume());
+
+            control(communicator, userPresentation, "1");
+            Assertions.assertEquals(VIAConnectProConstant.NOT_PRESENTING, getStatistics(communicator).get(userDisplayStatus));
+            List<String> requests = sentRequests(transport);
+            Assertions.assertTrue(requests.stream().noneMatch(request -> request.contains("<Cmd>IpInfo</Cmd>")));
+            int displayStatusSet = indexOf(requests, "<Cmd>DisplayStatus</Cmd><P1>Set</P1><P2>Alice</P2>");
+            Assertions.assertTrue(displayStatusSet >= 0);
+            Assertions.assertTrue(requests.get(displayStatusSet + 1).contains("<Cmd>DisplayStatus</Cmd><P1>Get</P1><P2>Alice</P2>"));
+
+            failDisplayStatusGet.set(true);
+            control(communicator, userPresentation, "1");
+            Assertions.assertEquals(SimulatedDevice.PRESENTING, simulator.getDevice().getParticipantStatus("Alice"));
+            Assertions.assertEquals(VIAConnectProConstant.NOT_PRESENTING, getStatistics(communicator).get(userDisplayStatus));
+            Assertions.assertEquals("30", getStatistics(communicator).get(volume));
+        } finally {
+            communicator.destroy();
+        }
+    }
+
+    /**
+     * Test no-op controls:
+     * - With noOpControlMaxAge, Vol|Set and Streaming|Set for the value confirmed by the last poll are not sent,
+     * a different value or a value confirmed longer ago than the max age is sent.
+     * - Without noOpControlMaxAge, every control is sent.
+     */
+    @Test
+    @Tag("Mock")
+    void testNoOpControlsAreNotSent() throws Exception {
+        String volume = String.format("%s#%s", VIAConnectProConstant.DEVICE_SETTINGS, VIAConnectProConstant.VOLUME);
+        String streamingMode = String.format("%s#%s", VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.STREAMING_MODE);
+        String volumeSet = "<Cmd>Vol</Cmd><P1>Set</P1>";
+        String streamingSet = "<Cmd>Streaming</Cmd><P1>Set</P1>";
+        VIAConnectProCommunicator communicator = createCommunicator();
+        communicator.setNoOpControlMaxAge("500");
+        RecordingTransport transport = new RecordingTransport(communicator.getTransport());
+        communicator.setTransport(transport);
+        try {
+            communicator.init();
+            getStatistics(communicator);
+            transport.clear();
+            control(communicator, volume, "50");
+            control(communicator, streamingMode, "1");
+            Assertions.assertEquals(-1, indexOf(sentRequests(transport), volumeSet));
+            Assertions.assertEquals(-1, indexOf(sentRequests(transport), streamingSet));
+
+            control(communicator, volume, "40");
+            Assertions.assertTrue(indexOf(sentRequests(transport), volumeSet) >= 0);
+            Assertions.assertEquals(40, simulator.getDevice().getVolume());
+
+            Thread.sleep(600);
+            transport.clear();
+            control(communicator, volume, "40");
+            Assertions.assertTrue(indexOf(sentRequests(transport), volumeSet) >= 0);
+        } finally {
+            communicator.destroy();
+        }
+
+        VIAConnectProCommunicator alwaysSendingCommunicator = createCommunicator();
+        alwaysSendingCommunicator.setNoOpControlMaxAge("");
+        RecordingTransport alwaysSendingTransport = new RecordingTransport(alwaysSendingCommunicator.getTransport());
+        alwaysSendingCommunicator.setTransport(alwaysSendingTransport);
+        try {
+            alwaysSendingCommunicator.init();
+            getStatistics(alwaysSendingCommunicator);
+            alwaysSendingTransport.clear();
+            control(alwaysSendingCommunicator, volume, "40");
+            control(alwaysSendingCommunicator, streamingMode, "1");
+            List<String> requests = sentRequests(alwaysSendingTransport);
+            Assertions.assertTrue(indexOf(requests, volumeSet) >= 0);
+            Assertions.assertTrue(indexOf(requests, streamingSet) >= 0);
+        } finally {
+            alwaysSendingCommunicator.destroy();
+        }
+    }
+
+    /**
+     * Test tracing of a poll:
+     * - The ring buffer sink receives lock wait, probe, command, populate and poll spans of one trace, the poll last.
+     */
+    @Test
+    @Tag("Mock")
+    void testPollTrace() throws Exception {
+        VIAConnectProCommunicator communicator = createCommunicator();
+        communicator.setTraceSink(TraceSinks.RING);
+        communicator.init();
+        getStatistics(communicator);
+        communicator.destroy();
+        List<TraceSpan> spans = ((RingBufferTraceSink) communicator.getTracer().getSink()).getSpans();
+        Set<SpanKind> kinds = spans.stream().map(TraceSpan::getKind).collect(Collectors.toSet());
+        Assertions.assertTrue(kinds.containsAll(Arrays.asList(SpanKind.LOCK_WAIT, SpanKind.CONNECT, SpanKind.LOGIN, SpanKind.LOGIN_PROBE, SpanKind.COMMAND, SpanKind.POPULATE)));
+        TraceSpan poll = spans.get(spans.size() - 1);
+        Assertions.assertEquals(SpanKind.POLL, poll.getKind());
+        Assertions.assertTrue(poll.isOk());
+        Assertions.assertTrue(spans.stream().filter(span -> span.getKind() != SpanKind.LOGIN && span.getKind() != SpanKind.CONNECT)
+                .allMatch(span -> span.getTraceId() == poll.getTraceId()));
+    }
+
+    private VIAConnectProCommunicator createCommunicator() {
+        VIAConnectProCommunicator communicator = new VIAConnectProCommunicator();
+        communicator.setProtocol("telnet");
+        communicator.setHost("127.0.0.1");
+        communicator.setPort(simulator.getPort());
+        communicator.setLogin(USERNAME);
+        communicator.setPassword(PASSWORD);
+        communicator.setConfigManagement("true");
+        return communicator;
+    }
+
+    private void control(VIAConnectProCommunicator communicator, String property, String value) throws Exception {
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty(property);
+        controllableProperty.setValue(value);
+        communicator.controlProperty(controllableProperty);
+    }
+
+    private List<String> sentRequests(RecordingTransport transport) {
+        return transport.getExchanges().stream().map(TransportExchange::getRequest).filter(request -> request != null).collect(Collectors.toList());
+    }
+
+    private int indexOf(List<String> requests, String fragment) {
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i).contains(fragment)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Map<String, String> getStatistics(VIAConnectProCommunicator communicator) throws Exception {
+        ExtendedStatistics extendedStatistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+        return extendedStatistics.getStatistics();
+    }
+}
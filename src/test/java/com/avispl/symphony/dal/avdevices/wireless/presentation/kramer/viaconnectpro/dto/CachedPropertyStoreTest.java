@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+/**
+ * CachedPropertyStoreTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class CachedPropertyStoreTest {
+
+    private static final String STREAM_URL = "StreamingFromExternalToDevice#ExternalStreamURL";
+    private static final String STREAM_ACTION = "StreamingFromDeviceToExternal#Action";
+
+    /**
+     * Test cached property store:
+     * - Upserts replace the cached control, merge overwrites the poll result and group eviction only removes its group.
+     */
+    @Test
+    @Tag("Mock")
+    void testUpsertMergeAndRemoveGroup() {
+        CachedPropertyStore store = new CachedPropertyStore();
+        AdvancedControllableProperty template = new AdvancedControllableProperty();
+        template.setName(STREAM_URL);
+        template.setValue("udp://old");
+        store.upsert(STREAM_URL, "udp://first", template);
+        store.upsert(STREAM_URL, "udp://second", template);
+        store.upsert(STREAM_ACTION, "Start", null);
+
+        Map<String, String> stats = new HashMap<>();
+        stats.put(STREAM_URL, "udp://old");
+        List<AdvancedControllableProperty> controls = new ArrayList<>();
+        controls.add(template);
+        store.mergeInto(stats, controls);
+        Assertions.assertEquals("udp://second", stats.get(STREAM_URL));
+        Assertions.assertEquals("Start", stats.get(STREAM_ACTION));
+        Assertions.assertEquals(1, controls.size());
+        Assertions.assertEquals("udp://second", controls.get(0).getValue());
+        Assertions.assertEquals("udp://old", template.getValue());
+
+        store.removeGroup("StreamingFromExternalToDevice");
+        Assertions.assertNull(store.getControl(STREAM_URL));
+        Assertions.assertFalse(store.isEmpty());
+        store.removeGroup("StreamingFromDeviceToExternal");
+        Assertions.assertTrue(store.isEmpty());
+    }
+}
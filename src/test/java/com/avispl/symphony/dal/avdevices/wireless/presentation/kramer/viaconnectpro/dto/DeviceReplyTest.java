@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProErrorMetric;
+
+/**
+ * DeviceReplyTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class DeviceReplyTest {
+
+    /**
+     * Test device replies:
+     * - Fields are found by index, the status is checked at its position and errors are classified by the code of the last field.
+     */
+    @Test
+    @Tag("Mock")
+    void testFieldsAndErrors() {
+        DeviceReply streamingGet = new DeviceReply("Streaming|Get|1|udp://239.0.0.1:5000|udp://239.0.0.2:5000");
+        Assertions.assertEquals(5, streamingGet.getFieldCount());
+        Assertions.assertEquals("Streaming", streamingGet.getField(0));
+        Assertions.assertEquals("udp://239.0.0.2:5000", streamingGet.getValue());
+        Assertions.assertNull(streamingGet.getField(5));
+        Assertions.assertTrue(streamingGet.isSuccess(2));
+        Assertions.assertFalse(streamingGet.isError());
+
+        DeviceReply restart = new DeviceReply("Streaming|SRestart|Error20058");
+        Assertions.assertFalse(restart.isSuccess(2));
+        Assertions.assertEquals("Error20058", restart.getErrorCode());
+        Assertions.assertSame(VIAConnectProErrorMetric.ERROR_20058, restart.getError());
+
+        DeviceReply undocumented = new DeviceReply("StreamingURL|1|Error504");
+        Assertions.assertTrue(undocumented.isError());
+        Assertions.assertNull(undocumented.getError());
+
+        DeviceReply emptyValue = new DeviceReply("RCode|Get|");
+        Assertions.assertEquals(3, emptyValue.getFieldCount());
+        Assertions.assertEquals("", emptyValue.getValue());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ParticipantTableTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class ParticipantTableTest {
+
+    /**
+     * Test participant table:
+     * - Users keep their slot when others leave, a status change doesn't rebuild the usernames and a new user reuses the vacant slot.
+     */
+    @Test
+    @Tag("Mock")
+    void testStableSlots() {
+        ParticipantTable table = new ParticipantTable();
+        Assertions.assertTrue(table.update("Alice_1#Bob_0#Carol_0"));
+        int version = table.getMembershipVersion();
+        String[] usernames = table.getUsernames();
+
+        Assertions.assertFalse(table.update("Alice_0#Bob_2#Carol_0"));
+        Assertions.assertEquals(version, table.getMembershipVersion());
+        Assertions.assertSame(usernames, table.getUsernames());
+        Assertions.assertEquals(ParticipantTable.WAITING_FOR_PERMISSION, table.getStatus(1));
+        Assertions.assertEquals("2", table.getUserAndStatusMap().get("Bob"));
+
+        Assertions.assertTrue(table.update("Alice_0#Carol_1"));
+        Assertions.assertEquals("Carol", table.getUsername(2));
+        Assertions.assertNull(table.getUsername(1));
+        Assertions.assertEquals(2, table.getParticipantCount());
+
+        Assertions.assertTrue(table.update("Dave_0#Alice_0#Carol_1"));
+        Assertions.assertEquals("Dave", table.getUsername(1));
+        Assertions.assertArrayEquals(new String[] { "Alice", "Dave", "Carol" }, table.getUsernames());
+
+        table.clear();
+        Assertions.assertEquals(0, table.getParticipantCount());
+        Assertions.assertTrue(table.getUserAndStatusMap().isEmpty());
+    }
+}
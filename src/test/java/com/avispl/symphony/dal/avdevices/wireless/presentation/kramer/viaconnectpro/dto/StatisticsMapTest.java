@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+
+/**
+ * StatisticsMapTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class StatisticsMapTest {
+
+    private static final String VOLUME = "DeviceSettings#Volume";
+    private static final String PARTICIPANT = "ParticipantList#Participant1";
+
+    /**
+     * Test statistics map:
+     * - Schema and overflow properties behave like a HashMap for put, remove, copy and removal while iterating.
+     * - Replacing values while iterating is not a concurrent modification, whether the key has a slot or not.
+     */
+    @Test
+    @Tag("Mock")
+    void testBehavesLikeHashMap() {
+        Map<String, String> statistics = new StatisticsMap();
+        Map<String, String> expected = new HashMap<>();
+        for (Map<String, String> map : Arrays.asList(statistics, expected)) {
+            map.put(VIAConnectProConstant.IP_ADDRESS, "10.0.0.5");
+            map.put(VOLUME, "50");
+            map.put(PARTICIPANT, "Alice");
+            map.put(VOLUME, "70");
+            map.remove(VIAConnectProConstant.IP_ADDRESS);
+        }
+        Assertions.assertEquals(expected, statistics);
+        Assertions.assertEquals(statistics, expected);
+        Assertions.assertEquals(expected.hashCode(), statistics.hashCode());
+        Assertions.assertEquals(2, statistics.size());
+        Assertions.assertFalse(statistics.containsKey(VIAConnectProConstant.IP_ADDRESS));
+
+        Map<String, String> copy = new StatisticsMap(statistics);
+        copy.keySet().removeIf(property -> property.startsWith("DeviceSettings#"));
+        Assertions.assertEquals("70", statistics.get(VOLUME));
+        Assertions.assertNull(copy.get(VOLUME));
+        Assertions.assertEquals("Alice", copy.get(PARTICIPANT));
+        Assertions.assertEquals(1, copy.size());
+
+        for (String property : statistics.keySet()) {
+            statistics.put(property, statistics.get(property) + "!");
+        }
+        Assertions.assertEquals("70!", statistics.get(VOLUME));
+        Assertions.assertEquals("Alice!", statistics.get(PARTICIPANT));
+    }
+}
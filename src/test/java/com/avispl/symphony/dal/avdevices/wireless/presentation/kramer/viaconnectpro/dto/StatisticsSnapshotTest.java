@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * StatisticsSnapshotTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class StatisticsSnapshotTest {
+
+    /**
+     * Test snapshot copies:
+     * - A read-back confirms only the properties it returned, and a copy with merged statistics keeps the poll and read-back times.
+     */
+    @Test
+    @Tag("Mock")
+    void testConfirmedAtIsKeptByCopies() {
+        Map<String, String> statistics = new HashMap<>();
+        statistics.put("DeviceSettings#Volume", "20");
+        statistics.put("IPAddress", "10.0.0.5");
+        StatisticsSnapshot polled = new StatisticsSnapshot(statistics, Collections.emptyList(), 1000L, Collections.emptyMap());
+
+        StatisticsSnapshot readBack = polled.withReadBack(null, Collections.singletonMap("DeviceSettings#Volume", "30"), Collections.emptyList(), 2000L);
+        Assertions.assertEquals("30", readBack.getStatistics().get("DeviceSettings#Volume"));
+        Assertions.assertEquals(2000L, readBack.getConfirmedAt("DeviceSettings#Volume"));
+        Assertions.assertEquals(1000L, readBack.getConfirmedAt("IPAddress"));
+
+        Map<String, String> merged = readBack.copyStatistics();
+        merged.put("Streaming#StreamingStatus", "Streaming");
+        StatisticsSnapshot copy = readBack.withStatistics(merged, readBack.getControllableProperties());
+        Assertions.assertEquals("Streaming", copy.getStatistics().get("Streaming#StreamingStatus"));
+        Assertions.assertEquals(1000L, copy.getPolledAt());
+        Assertions.assertEquals(2000L, copy.getConfirmedAt("DeviceSettings#Volume"));
+    }
+
+    /**
+     * Test statistics handed to callers:
+     * - Each caller gets its own modifiable statistics and controls, changing them leaves the snapshot and other callers as they were.
+     */
+    @Test
+    @Tag("Mock")
+    void testExtendedStatisticsAreCopies() {
+        AdvancedControllableProperty volume = new AdvancedControllableProperty("DeviceSettings#Volume", new Date(), new AdvancedControllableProperty.Slider(), 20f);
+        StatisticsSnapshot snapshot = new StatisticsSnapshot(Collections.singletonMap("DeviceSettings#Volume", "20"), Collections.singletonList(volume), 1000L,
+                Collections.emptyMap());
+
+        ExtendedStatistics first = snapshot.getExtendedStatistics();
+        first.getStatistics().put("AdapterMetadata#AdapterVersion", "1.0.0");
+        first.getStatistics().remove("DeviceSettings#Volume");
+        first.getControllableProperties().clear();
+        first.setStatistics(new HashMap<>());
+
+        ExtendedStatistics second = snapshot.getExtendedStatistics();
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(Collections.singletonMap("DeviceSettings#Volume", "20"), second.getStatistics());
+        Assertions.assertEquals(Collections.singletonList(volume), second.getControllableProperties());
+        Assertions.assertEquals("20", snapshot.getStatistics().get("DeviceSettings#Volume"));
+        Assertions.assertEquals(1, snapshot.getControllableProperties().size());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * WarmStartSnapshotTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class WarmStartSnapshotTest {
+
+    /**
+     * Test warm start snapshot file:
+     * - Statistics are read back in order for the same device only, a missing file has no snapshot and a foreign file is rejected.
+     */
+    @Test
+    @Tag("Mock")
+    void testWriteAndRead(@TempDir Path tempDir) throws Exception {
+        Map<String, String> statistics = new LinkedHashMap<>();
+        statistics.put("IPAddress", "10.0.0.5");
+        statistics.put("DeviceSettings#Volume", "50");
+        statistics.put("RoomCode", "");
+        Path file = tempDir.resolve("room.snapshot");
+        new WarmStartSnapshot("10.0.0.5:9982", 1234L, "PARTICIPANTS", statistics).write(file);
+
+        WarmStartSnapshot snapshot = WarmStartSnapshot.read(file, "10.0.0.5:9982");
+        Assertions.assertEquals(1234L, snapshot.getPolledAt());
+        Assertions.assertEquals("PARTICIPANTS", snapshot.getStateClass());
+        Assertions.assertEquals(statistics, snapshot.getStatistics());
+        Assertions.assertNull(WarmStartSnapshot.read(file, "10.0.0.6:9982"));
+        Assertions.assertNull(WarmStartSnapshot.read(tempDir.resolve("missing.snapshot"), "10.0.0.5:9982"));
+
+        Files.write(file, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThrows(IOException.class, () -> WarmStartSnapshot.read(file, "10.0.0.5:9982"));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.logging;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * AggregatedErrorLoggerTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class AggregatedErrorLoggerTest {
+
+    /**
+     * Test deduplication:
+     * - The first error is logged with its stack trace, repetitions are summarized once per interval,
+     * an error absent for a whole interval is logged in full again.
+     */
+    @Test
+    @Tag("Mock")
+    void testRepeatedErrorsAreSummarized() {
+        List<String> lines = new ArrayList<>();
+        List<Throwable> stackTraces = new ArrayList<>();
+        Log log = (Log) Proxy.newProxyInstance(Log.class.getClassLoader(), new Class<?>[] { Log.class }, (proxy, method, args) -> {
+            if (method.getName().startsWith("is")) {
+                return true;
+            }
+            lines.add(String.valueOf(args[0]));
+            if (args.length > 1) {
+                stackTraces.add((Throwable) args[1]);
+            }
+            return null;
+        });
+        AtomicLong now = new AtomicLong();
+        AggregatedErrorLogger errorLogger = new AggregatedErrorLogger(log, 1000, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            errorLogger.error("RoomCode", new ResourceNotReachableException("Populate failed - Response error code: Error21"));
+        }
+        Assertions.assertEquals(1, lines.size());
+        Assertions.assertEquals(1, stackTraces.size());
+
+        now.set(1000);
+        errorLogger.flushIfDue();
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertTrue(lines.get(1).contains("RoomCode/Error21 x4"));
+
+        // Not repeated during the next interval, forgotten
+        now.set(2000);
+        errorLogger.flushIfDue();
+        Assertions.assertEquals(2, lines.size());
+        errorLogger.error("RoomCode", new ResourceNotReachableException("Populate failed - Response error code: Error21"));
+        Assertions.assertEquals(2, stackTraces.size());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * PollPlanTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class PollPlanTest {
+
+    /**
+     * Test plan without configManagement:
+     * - Only non group properties and participant list are requested.
+     */
+    @Test
+    @Tag("Mock")
+    void testPlanWithoutConfigManagement() {
+        PollPlan plan = PollPlan.of(false, PollStateClass.PARTICIPANTS_AND_STREAMING);
+        Assertions.assertEquals(6, plan.size());
+        Assertions.assertTrue(plan.contains(VIAConnectProMonitoringMetric.PLIST_All_STATUS));
+        Assertions.assertFalse(plan.contains(VIAConnectProMonitoringMetric.DISPLAY_STATUS_GET));
+        Assertions.assertFalse(plan.contains(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET));
+    }
+
+    /**
+     * Test plan with configManagement:
+     * - Dependent commands are only part of the plan for the matching state class.
+     */
+    @Test
+    @Tag("Mock")
+    void testPlanWithConfigManagement() {
+        Assertions.assertEquals(15, PollPlan.of(true, PollStateClass.IDLE).size());
+        Assertions.assertEquals(17, PollPlan.of(true, PollStateClass.PARTICIPANTS_AND_STREAMING).size());
+        Assertions.assertSame(PollPlan.of(true, PollStateClass.IDLE), PollPlan.of(true, PollStateClass.IDLE));
+    }
+
+    /**
+     * Test executor:
+     * - Dependent commands missing from the plan are requested in the same poll when the state class changes.
+     * - Next poll uses the plan of the observed state class.
+     */
+    @Test
+    @Tag("Mock")
+    void testReplanOnStateClassChange() {
+        List<VIAConnectProMonitoringMetric> sentCommands = new ArrayList<>();
+        PollStepHandler handler = new PollStepHandler() {
+            @Override
+            public String execute(PollStep step, PollResult result) {
+                sentCommands.add(step.getMetric());
+                return step.getMetric().getCommand();
+            }
+
+            @Override
+            public PollStateClass resolveStateClass(PollResult result) {
+                return PollStateClass.of(result.isSuccessful(VIAConnectProMonitoringMetric.PLIST_All_STATUS), false);
+            }
+        };
+        PollPlanExecutor executor = new PollPlanExecutor();
+        PollResult result = executor.execute(true, handler);
+        Assertions.assertEquals(PollStateClass.PARTICIPANTS, executor.getStateClass());
+        Assertions.assertTrue(result.isSuccessful(VIAConnectProMonitoringMetric.DISPLAY_STATUS_GET));
+        Assertions.assertEquals(sentCommands.size(), result.getCommandCount());
+        Assertions.assertEquals(VIAConnectProMonitoringMetric.DISPLAY_STATUS_GET, sentCommands.get(sentCommands.size() - 1));
+
+        sentCommands.clear();
+        executor.execute(true, handler);
+        Assertions.assertEquals(PollPlan.of(true, PollStateClass.PARTICIPANTS).size(), sentCommands.size());
+    }
+
+    /**
+     * Test pipelined execution:
+     * - Independent commands are sent in one wave, dependent commands in the next wave.
+     * - Commands without a pipelined response are resent one by one.
+     */
+    @Test
+    @Tag("Mock")
+    void testPipelinedWaves() {
+        List<Integer> batchSizes = new ArrayList<>();
+        List<VIAConnectProMonitoringMetric> singleCommands = new ArrayList<>();
+        PipelinedPollStepHandler handler = new PipelinedPollStepHandler() {
+            @Override
+            public Map<PollStep, String> executePipelined(List<PollStep> steps, PollResult result) {
+                batchSizes.add(steps.size());
+                Map<PollStep, String> responses = new HashMap<>();
+                for (PollStep step : steps) {
+                    if (step.getMetric() != VIAConnectProMonitoringMetric.VOLUME) {
+                        responses.put(step, step.getMetric().getCommand());
+                    }
+                }
+                return responses;
+            }
+
+            @Override
+            public String execute(PollStep step, PollResult result) {
+                singleCommands.add(step.getMetric());
+                return step.getMetric().getCommand();
+            }
+
+            @Override
+            public PollStateClass resolveStateClass(PollResult result) {
+                return PollStateClass.PARTICIPANTS_AND_STREAMING;
+            }
+        };
+        PollPlanExecutor executor = new PollPlanExecutor();
+        executor.setMaxInFlight(32);
+        executor.execute(true, handler);
+        batchSizes.clear();
+        singleCommands.clear();
+
+        PollResult result = executor.execute(true, handler);
+        Assertions.assertEquals(17, result.getCommandCount());
+        // 15 independent commands, then DisplayStatus and SStatus
+        Assertions.assertEquals(2, batchSizes.size());
+        Assertions.assertEquals(15, batchSizes.get(0).intValue());
+        Assertions.assertEquals(2, batchSizes.get(1).intValue());
+        Assertions.assertEquals(1, singleCommands.size());
+        Assertions.assertTrue(result.isSuccessful(VIAConnectProMonitoringMetric.VOLUME));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * StreamingStateMachineTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class StreamingStateMachineTest {
+
+    private static final String DUAL_STREAMING_GET = "Streaming|Get|1|udp://239.0.0.1:5000|udp://239.0.0.2:5000";
+    private static final String SSTATUS = "Streaming|SStatus|1|1";
+
+    /**
+     * Test idle streaming:
+     * - Streaming|Get alone is a fresh status and a Streaming|SStatus reply is not kept.
+     */
+    @Test
+    @Tag("Mock")
+    void testIdleIgnoresSStatus() {
+        StreamingStateMachine stateMachine = new StreamingStateMachine();
+        Assertions.assertFalse(stateMachine.hasFreshStatus());
+
+        stateMachine.onPollResult(result("Streaming|Get|0", SSTATUS));
+        Assertions.assertEquals(StreamingState.IDLE, stateMachine.getState());
+        Assertions.assertNull(stateMachine.getSStatusResponse());
+        Assertions.assertTrue(stateMachine.hasFreshStatus());
+        Assertions.assertFalse(stateMachine.isDualDisplay());
+    }
+
+    /**
+     * Test active streaming:
+     * - Statuses are fresh once both replies are known, a control makes them outdated until the next Streaming|Get.
+     */
+    @Test
+    @Tag("Mock")
+    void testControlAppliedRequiresNewStatus() {
+        StreamingStateMachine stateMachine = new StreamingStateMachine();
+        stateMachine.onPollResult(result(DUAL_STREAMING_GET, null));
+        Assertions.assertEquals(StreamingState.ACTIVE_DUAL, stateMachine.getState());
+        Assertions.assertTrue(stateMachine.isDualDisplay());
+        Assertions.assertFalse(stateMachine.hasFreshStatus());
+
+        stateMachine.onPollResult(result(DUAL_STREAMING_GET, SSTATUS));
+        Assertions.assertEquals(SSTATUS, stateMachine.getSStatusResponse().getRaw());
+        Assertions.assertTrue(stateMachine.hasFreshStatus());
+
+        stateMachine.onControlApplied();
+        Assertions.assertEquals(StreamingState.TRANSITIONING, stateMachine.getState());
+        Assertions.assertNull(stateMachine.getSStatusResponse());
+        Assertions.assertFalse(stateMachine.hasFreshStatus());
+
+        stateMachine.onPollResult(result("Streaming|Get|1|udp://239.0.0.1:5000", SSTATUS));
+        Assertions.assertEquals(StreamingState.ACTIVE_SINGLE, stateMachine.getState());
+        Assertions.assertFalse(stateMachine.isDualDisplay());
+        Assertions.assertTrue(stateMachine.hasFreshStatus());
+    }
+
+    private PollResult result(String streamingGetResponse, String sStatusResponse) {
+        PollResult result = new PollResult();
+        result.putResponse(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET, streamingGetResponse);
+        if (sStatusResponse != null) {
+            result.putResponse(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET, sStatusResponse);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.poll;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.dto.DeviceReply;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * StreamingStateTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class StreamingStateTest {
+
+    /**
+     * Test state of a Streaming|Get reply:
+     * - Status 0 is idle whatever the number of URLs, status 1 is single or dual display depending on the number of URLs.
+     */
+    @Test
+    @Tag("Mock")
+    void testFromStreamingGetResponse() {
+        Assertions.assertEquals(StreamingState.IDLE, StreamingState.fromStreamingGetResponse(new DeviceReply("Streaming|Get|0")));
+        Assertions.assertEquals(StreamingState.IDLE, StreamingState.fromStreamingGetResponse(new DeviceReply("Streaming|Get|0|udp://239.0.0.1:5000")));
+        Assertions.assertEquals(StreamingState.IDLE, StreamingState.fromStreamingGetResponse(new DeviceReply("Streaming|Get")));
+        Assertions.assertEquals(StreamingState.ACTIVE_SINGLE, StreamingState.fromStreamingGetResponse(new DeviceReply("Streaming|Get|1")));
+        Assertions.assertEquals(StreamingState.ACTIVE_SINGLE, StreamingState.fromStreamingGetResponse(new DeviceReply("Streaming|Get|1|udp://239.0.0.1:5000")));
+        Assertions.assertEquals(StreamingState.ACTIVE_DUAL,
+                StreamingState.fromStreamingGetResponse(new DeviceReply("Streaming|Get|1|udp://239.0.0.1:5000|udp://239.0.0.2:5000")));
+    }
+
+    /**
+     * Test queries of a state:
+     * - Streaming|SStatus is only needed while streaming is activated or changing.
+     */
+    @Test
+    @Tag("Mock")
+    void testRequiredQueries() {
+        Assertions.assertFalse(StreamingState.IDLE.getRequiredQueries().contains(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET));
+        Assertions.assertTrue(StreamingState.ACTIVE_SINGLE.getRequiredQueries().contains(VIAConnectProMonitoringMetric.STREAMING_STATUS_SSTATUS_GET));
+        Assertions.assertTrue(StreamingState.TRANSITIONING.getRequiredQueries().contains(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET));
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.simulator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.DisplayStatusModeEnum;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProErrorMetric;
+
+/**
+ * SimulatedDevice
+ * State of a simulated VIA Connect PRO gateway and the replies to its telnet commands.
+ * Replies are built without the trailing {@code \r\n}, see {@link VIAConnectProSimulator}.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SimulatedDevice {
+
+    /**
+     * Participant status codes as reported by PList
+     */
+    public static final int NOT_PRESENTING = 0;
+    public static final int PRESENTING = 1;
+    public static final int WAITING_FOR_PERMISSION = 2;
+
+    /**
+     * Streaming status codes as reported by Streaming|SStatus
+     */
+    public static final int NO_URL_IS_BEING_STREAMED = 0;
+    public static final int RECORDING_IS_ON = 1;
+    public static final int STREAMING_IS_ON = 6;
+
+    private final Map<String, Integer> participants = new LinkedHashMap<>();
+    private final Map<String, VIAConnectProErrorMetric> injectedErrors = new HashMap<>();
+    private final List<String> streamingUrls = new ArrayList<>();
+    private int volume = 50;
+    private boolean streamingActive;
+    private int streamingStatus = NO_URL_IS_BEING_STREAMED;
+    private String roomCode = "1234";
+    private boolean roomOverlayActive = true;
+    private int roomOverlayAutoHideTime = 10;
+
+    /**
+     * Add or update a logged-in participant
+     *
+     * @param userName name of the participant
+     * @param status one of {@link #NOT_PRESENTING}, {@link #PRESENTING}, {@link #WAITING_FOR_PERMISSION}
+     */
+    public synchronized void putParticipant(String userName, int status) {
+        participants.put(userName, status);
+    }
+
+    /**
+     * Log a participant out
+     *
+     * @param userName name of the participant
+     */
+    public synchronized void removeParticipant(String userName) {
+        participants.remove(userName);
+    }
+
+    /**
+     * Log every participant out
+     */
+    public synchronized void clearParticipants() {
+        participants.clear();
+    }
+
+    /**
+     * Retrieves status of a participant
+     *
+     * @param userName name of the participant
+     * @return status of the participant, null if the participant is not logged in
+     */
+    public synchronized Integer getParticipantStatus(String userName) {
+        return participants.get(userName);
+    }
+
+    /**
+     * Retrieves {@code {@link #volume}}
+     *
+     * @return value of {@link #volume}
+     */
+    public synchronized int getVolume() {
+        return volume;
+    }
+
+    /**
+     * Sets {@code volume}
+     *
+     * @param volume the {@code int} field
+     */
+    public synchronized void setVolume(int volume) {
+        this.volume = volume;
+    }
+
+    /**
+     * Retrieves {@code {@link #streamingActive}}
+     *
+     * @return value of {@link #streamingActive}
+     */
+    public synchronized boolean isStreamingActive() {
+        return streamingActive;
+    }
+
+    /**
+     * Activate streaming mode with one URL (single display) or two URLs (dual display)
+     *
+     * @param urls streaming URLs
+     */
+    public synchronized void activateStreaming(String... urls) {
+        streamingActive = true;
+        streamingUrls.clear();
+        for (String url : urls) {
+            streamingUrls.add(url);
+        }
+    }
+
+    /**
+     * Deactivate streaming mode
+     */
+    public synchronized void deactivateStreaming() {
+        streamingActive = false;
+        streamingStatus = NO_URL_IS_BEING_STREAMED;
+    }
+
+    /**
+     * Retrieves {@code {@link #streamingStatus}}
+     *
+     * @return value of {@link #streamingStatus}
+     */
+    public synchronized int getStreamingStatus() {
+        return streamingStatus;
+    }
+
+    /**
+     * Sets {@code roomCode}
+     *
+     * @param roomCode the {@code java.lang.String} field
+     */
+    public synchronized void setRoomCode(String roomCode) {
+        this.roomCode = roomCode;
+    }
+
+    /**
+     * Sets {@code roomOverlayActive}
+     *
+     * @param roomOverlayActive the {@code boolean} field
+     */
+    public synchronized void setRoomOverlayActive(boolean roomOverlayActive) {
+        this.roomOverlayActive = roomOverlayActive;
+    }
+
+    /**
+     * Reply to a command with an error code of {@link VIAConnectProErrorMetric} instead of its normal response
+     *
+     * @param command name of the command, for example RCode or GetVersion
+     * @param error error to reply, null to restore the normal response
+     */
+    public synchronized void injectError(String command, VIAConnectProErrorMetric error) {
+        if (error == null) {
+            injectedErrors.remove(command);
+        } else {
+            injectedErrors.put(command, error);
+        }
+    }
+
+    /**
+     * Build the reply to a command
+     *
+     * @param command name of the command
+     * @param params params of the command
+     * @return reply without the trailing {@code \r\n}
+     */
+    public synchronized String handle(String command, List<String> params) {
+        String firstParam = params.isEmpty() ? VIAConnectProConstant.EMPTY : params.get(0);
+        VIAConnectProErrorMetric injectedError = injectedErrors.get(command);
+        if (injectedError != null) {
+            return reply(command, firstParam, injectedError.getErrorCode());
+        }
+        switch (command) {
+            case "RCode":
+                return reply(command, "Get", "Code", roomCode);
+            case "GetVersion":
+                return reply(command, "3.0.0.1");
+            case "GetMacAdd":
+                return reply(command, "00:0A:95:9D:68:16");
+            case "GetSerialNo":
+                return reply(command, "VIA0001");
+            case "IpInfo":
+                return "IP:127.0.0.1|SubnetMask:255.255.255.0|Gateway:127.0.0.254|DNS:127.0.0.53|HostName:via-simulator";
+            case "Log":
+            case "APIMode":
+            case "PrsMode":
+            case "PartPresentConfirm":
+                return reply(command, firstParam, VIAConnectProConstant.ZERO);
+            case "Chrome":
+            case "QuickLaunch":
+                return reply(command, firstParam, VIAConnectProConstant.ONE);
+            case "RoomOverlay":
+                return roomOverlayActive ? reply(command, firstParam, VIAConnectProConstant.ONE, String.valueOf(roomOverlayAutoHideTime))
+                        : reply(command, firstParam, VIAConnectProConstant.ZERO);
+            case "Vol":
+                return handleVolume(command, params);
+            case "PList":
+                return handlePList(command, params);
+            case "DisplayStatus":
+                return handleDisplayStatus(command, params);
+            case "Streaming":
+                return handleStreaming(command, params);
+            case "StreamingURL":
+                return reply(command, firstParam, VIAConnectProConstant.ONE);
+            default:
+                return reply(command, VIAConnectProConstant.ERROR);
+        }
+    }
+
+    /**
+     * Vol|Get and Vol|Set
+     */
+    private String handleVolume(String command, List<String> params) {
+        if ("Set".equals(params.get(0)) && params.size() > 1) {
+            volume = Integer.parseInt(params.get(1));
+            return reply(command, "Get", String.valueOf(volume), VIAConnectProConstant.ZERO);
+        }
+        return reply(command, "Get", String.valueOf(volume));
+    }
+
+    /**
+     * PList|cnt and PList|all
+     */
+    private String handlePList(String command, List<String> params) {
+        String firstParam = params.get(0);
+        String secondParam = params.size() > 1 ? params.get(1) : VIAConnectProConstant.EMPTY;
+        if ("cnt".equals(firstParam)) {
+            return reply(command, firstParam, secondParam, String.valueOf(participants.size()));
+        }
+        if (participants.isEmpty()) {
+            return reply(command, firstParam, secondParam, VIAConnectProErrorMetric.ERROR_14.getErrorCode());
+        }
+        StringBuilder userList = new StringBuilder();
+        for (Map.Entry<String, Integer> participant : participants.entrySet()) {
+            if (userList.length() > 0) {
+                userList.append(VIAConnectProConstant.HASH);
+            }
+            userList.append(participant.getKey()).append(VIAConnectProConstant.UNDER_SCORE).append(participant.getValue());
+        }
+        return reply(command, firstParam, secondParam, userList.toString());
+    }
+
+    /**
+     * DisplayStatus|Get and DisplayStatus|Set
+     */
+    private String handleDisplayStatus(String command, List<String> params) {
+        String firstParam = params.get(0);
+        String userName = params.size() > 1 ? params.get(1) : null;
+        Integer status = userName == null ? null : participants.get(userName);
+        if (status == null) {
+            return reply(command, firstParam, VIAConnectProConstant.USR_NOT_EXIST);
+        }
+        if ("Set".equals(firstParam)) {
+            boolean start = params.size() > 2 && DisplayStatusModeEnum.START.getCode().equals(params.get(2));
+            participants.put(userName, start ? PRESENTING : NOT_PRESENTING);
+            return reply(command, firstParam, VIAConnectProConstant.ONE);
+        }
+        String displayStatus;
+        if (status == PRESENTING) {
+            displayStatus = VIAConnectProConstant.PRESENTING;
+        } else if (status == WAITING_FOR_PERMISSION) {
+            displayStatus = VIAConnectProConstant.WAITING;
+        } else {
+            displayStatus = VIAConnectProConstant.NOT_PRESENTING;
+        }
+        return reply(command, firstParam, displayStatus);
+    }
+
+    /**
+     * Streaming|Get, Streaming|SStatus, Streaming|Set and the SStart/SStop/SRestart/SChange controls
+     */
+    private String handleStreaming(String command, List<String> params) {
+        String firstParam = params.get(0);
+        switch (firstParam) {
+            case "Get":
+                if (!streamingActive) {
+                    return reply(command, firstParam, VIAConnectProConstant.ZERO);
+                }
+                List<String> fields = new ArrayList<>();
+                fields.add(firstParam);
+                fields.add(VIAConnectProConstant.ONE);
+                fields.addAll(streamingUrls);
+                return reply(command, fields.toArray(new String[0]));
+            case "SStatus":
+                return reply(VIAConnectProConstant.RSSTATUS_SPECIAL_CASE, String.valueOf(streamingStatus));
+            case "Set":
+                return handleStreamingSet(command, params);
+            case "SStart":
+            case "SStop":
+                if (!streamingActive) {
+                    return reply(firstParam, VIAConnectProConstant.ZERO, VIAConnectProErrorMetric.ERROR_20061.getErrorCode());
+                }
+                streamingStatus = "SStart".equals(firstParam) ? STREAMING_IS_ON : NO_URL_IS_BEING_STREAMED;
+                return reply(firstParam, VIAConnectProConstant.ONE, params.size() > 1 ? params.get(1) : VIAConnectProConstant.EMPTY);
+            case "SRestart":
+            case "SChange":
+                if (!streamingActive) {
+                    return reply(command, firstParam, VIAConnectProConstant.ZERO);
+                }
+                if ("SChange".equals(firstParam) && params.size() > 2) {
+                    streamingUrls.clear();
+                    streamingUrls.addAll(params.subList(2, params.size()));
+                }
+                streamingStatus = STREAMING_IS_ON;
+                return reply(command, firstParam, VIAConnectProConstant.ONE);
+            default:
+                return reply(command, firstParam, VIAConnectProErrorMetric.ERROR_20061.getErrorCode());
+        }
+    }
+
+    /**
+     * Streaming|Set|0/1|URL(s)
+     */
+    private String handleStreamingSet(String command, List<String> params) {
+        if (params.size() < 2 || params.get(1).isEmpty()) {
+            return reply(command, "Set", VIAConnectProErrorMetric.ERROR_20059.getErrorCode());
+        }
+        String mode = params.get(1);
+        if (VIAConnectProConstant.ZERO.equals(mode)) {
+            deactivateStreaming();
+            return reply(command, "Set", mode, VIAConnectProConstant.ONE);
+        }
+        if (!VIAConnectProConstant.ONE.equals(mode)) {
+            return reply(command, "Set", VIAConnectProErrorMetric.ERROR_20061.getErrorCode());
+        }
+        List<String> urls = params.subList(2, params.size());
+        if (urls.isEmpty()) {
+            return reply(command, "Set", VIAConnectProErrorMetric.ERROR_20060.getErrorCode());
+        }
+        for (String url : urls) {
+            if (!url.startsWith(VIAConnectProConstant.UDP) && !url.startsWith("tcp://")) {
+                VIAConnectProErrorMetric error = urls.size() == 1 ? VIAConnectProErrorMetric.ERROR_20062 : VIAConnectProErrorMetric.ERROR_20066;
+                return reply(command, "Set", error.getErrorCode());
+            }
+        }
+        activateStreaming(urls.toArray(new String[0]));
+        return reply(command, "Set", mode, VIAConnectProConstant.ONE);
+    }
+
+    /**
+     * Join the command and its fields with vertical lines
+     */
+    private String reply(String command, String... fields) {
+        StringBuilder stringBuilder = new StringBuilder(command);
+        for (String field : fields) {
+            stringBuilder.append('|').append(field);
+        }
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.simulator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+
+/**
+ * VIAConnectProSimulator
+ * In-process telnet server speaking the VIA Connect PRO protocol on the loopback interface:
+ * requests {@code <P><UN>..</UN><Pwd>..</Pwd><Cmd>..</Cmd><P1>..</P1></P>}, replies terminated by {@code \r\n}.
+ * <p>
+ * The device state is modelled by {@link SimulatedDevice}. Each reply can be delayed by a per-command latency plus a random jitter,
+ * dropped, or followed by closing the session to reproduce slow or unreliable rooms.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class VIAConnectProSimulator implements AutoCloseable {
+
+    /**
+     * Reply of the device to a successful Login command, matches the login success list of the adapter
+     */
+    public static final String LOGIN_SUCCESS = "Login\r\nLogin Successful.\nNow Please send a command:\r\n";
+    private static final String USERNAME_PROMPT = "Username:";
+    private static final String PASSWORD_PROMPT = "Password:";
+    private static final String LOGIN_COMMAND = "Login";
+
+    private static final Pattern USERNAME_PATTERN = Pattern.compile("<UN>(.*?)</UN>");
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile("<Pwd>(.*?)</Pwd>");
+    private static final Pattern COMMAND_PATTERN = Pattern.compile("<Cmd>(.*?)</Cmd>");
+    private static final Pattern PARAM_PATTERN = Pattern.compile("<P(\\d+)>(.*?)</P\\1>");
+
+    /**
+     * Telnet IAC commands
+     */
+    private static final int IAC = 255;
+    private static final int SB = 250;
+    private static final int SE = 240;
+    private static final int WILL = 251;
+    private static final int DONT = 254;
+
+    private final SimulatedDevice device;
+    private final String username;
+    private final String password;
+    private final Map<String, Long> commandLatencies = new ConcurrentHashMap<>();
+    private final Set<Socket> sessions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong connectionCount = new AtomicLong();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong loginCount = new AtomicLong();
+    private volatile long defaultLatency;
+    private volatile long jitter;
+    private volatile double dropRate;
+    private volatile double disconnectRate;
+    private ServerSocket serverSocket;
+    private Thread acceptThread;
+
+    /**
+     * VIAConnectProSimulator with arguments constructor
+     *
+     * @param device simulated device state
+     * @param username accepted username
+     * @param password accepted password
+     */
+    public VIAConnectProSimulator(SimulatedDevice device, String username, String password) {
+        this.device = device;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Retrieves {@code {@link #device}}
+     *
+     * @return value of {@link #device}
+     */
+    public SimulatedDevice getDevice() {
+        return device;
+    }
+
+    /**
+     * Latency added before every reply unless a command specific latency is set
+     *
+     * @param latencyMillis latency in milliseconds
+     */
+    public void setDefaultLatency(long latencyMillis) {
+        this.defaultLatency = latencyMillis;
+    }
+
+    /**
+     * Latency added before the replies of a command
+     *
+     * @param command name of the command, for example PList
+     * @param latencyMillis latency in milliseconds
+     */
+    public void setLatency(String command, long latencyMillis) {
+        commandLatencies.put(command, latencyMillis);
+    }
+
+    /**
+     * Random delay in [0, jitter) milliseconds added on top of the latency
+     *
+     * @param jitterMillis jitter in milliseconds
+     */
+    public void setJitter(long jitterMillis) {
+        this.jitter = jitterMillis;
+    }
+
+    /**
+     * Probability that a request is never answered
+     *
+     * @param dropRate value in [0, 1]
+     */
+    public void setDropRate(double dropRate) {
+        this.dropRate = dropRate;
+    }
+
+    /**
+     * Probability that the session is closed instead of answering a request
+     *
+     * @param disconnectRate value in [0, 1]
+     */
+    public void setDisconnectRate(double disconnectRate) {
+        this.disconnectRate = disconnectRate;
+    }
+
+    /**
+     * Retrieves number of telnet sessions accepted since the simulator started
+     *
+     * @return number of sessions
+     */
+    public long getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * Retrieves number of requests received since the simulator started, login included
+     *
+     * @return number of requests
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Retrieves number of Login requests received since the simulator started
+     *
+     * @return number of Login requests
+     */
+    public long getLoginCount() {
+        return loginCount.get();
+    }
+
+    /**
+     * Retrieves number of open telnet sessions
+     *
+     * @return number of sessions
+     */
+    public int getOpenSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Retrieves local port of the simulator
+     *
+     * @return port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Start listening on an ephemeral loopback port
+     *
+     * @return this simulator
+     * @throws IOException if the server socket cannot be opened
+     */
+    public VIAConnectProSimulator start() throws IOException {
+        serverSocket = new ServerSocket(0, 1000, InetAddress.getLoopbackAddress());
+        acceptThread = new Thread(this::acceptSessions, "via-simulator-" + serverSocket.getLocalPort());
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+        return this;
+    }
+
+    /**
+     * Stop listening and close every open session
+     */
+    @Override
+    public void close() {
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            // Nothing to do, the simulator is shutting down
+        }
+        for (Socket session : sessions) {
+            closeQuietly(session);
+        }
+        sessions.clear();
+    }
+
+    /**
+     * Accept telnet sessions, one thread per session like the single session a device serves to an adapter
+     */
+    private void acceptSessions() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket session = serverSocket.accept();
+                session.setTcpNoDelay(true);
+                connectionCount.incrementAndGet();
+                sessions.add(session);
+                Thread sessionThread = new Thread(() -> serveSession(session), "via-simulator-session-" + session.getPort());
+                sessionThread.setDaemon(true);
+                sessionThread.start();
+            } catch (IOException e) {
+                // Server socket is closed
+            }
+        }
+    }
+
+    /**
+     * Serve one telnet session until the client disconnects
+     *
+     * @param session client socket
+     */
+    private void serveSession(Socket session) {
+        boolean awaitingPassword = false;
+        String promptedUsername = null;
+        try {
+            InputStream in = session.getInputStream();
+            OutputStream out = session.getOutputStream();
+            String line;
+            while ((line = readLine(in)) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                requestCount.incrementAndGet();
+                if (!line.startsWith("<P>")) {
+                    // Fall back to the interactive Username:/Password: prompts
+                    if (awaitingPassword) {
+                        boolean isLoggedIn = username.equals(promptedUsername) && password.equals(line);
+                        write(out, isLoggedIn ? LOGIN_SUCCESS : USERNAME_PROMPT);
+                        awaitingPassword = false;
+                    } else {
+                        promptedUsername = line;
+                        awaitingPassword = true;
+                        write(out, PASSWORD_PROMPT);
+                    }
+                    continue;
+                }
+                String command = extract(COMMAND_PATTERN, line);
+                if (LOGIN_COMMAND.equals(command)) {
+                    loginCount.incrementAndGet();
+                    boolean isLoggedIn = username.equals(extract(USERNAME_PATTERN, line)) && password.equals(extract(PASSWORD_PATTERN, line));
+                    write(out, isLoggedIn ? LOGIN_SUCCESS : USERNAME_PROMPT);
+                    continue;
+                }
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                if (disconnectRate > 0 && random.nextDouble() < disconnectRate) {
+                    break;
+                }
+                long delay = commandLatencies.getOrDefault(command, defaultLatency) + (jitter > 0 ? random.nextLong(jitter) : 0);
+                if (delay > 0) {
+                    Thread.sleep(delay);
+                }
+                if (dropRate > 0 && random.nextDouble() < dropRate) {
+                    continue;
+                }
+                write(out, device.handle(command, extractParams(line)) + VIAConnectProConstant.END_COMMAND);
+            }
+        } catch (SocketException e) {
+            // Session closed by the client or by close()
+        } catch (IOException e) {
+            // Session is broken, drop it
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            sessions.remove(session);
+            closeQuietly(session);
+        }
+    }
+
+    /**
+     * Read a line terminated by \n, skipping telnet IAC negotiation sequences and \r
+     *
+     * @param in input stream of the session
+     * @return line without terminator, null at the end of the stream
+     * @throws IOException if the session cannot be read
+     */
+    private String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == IAC) {
+                int telnetCommand = in.read();
+                if (telnetCommand == SB) {
+                    int previous = 0;
+                    int current;
+                    while ((current = in.read()) != -1 && !(previous == IAC && current == SE)) {
+                        previous = current;
+                    }
+                } else if (telnetCommand >= WILL && telnetCommand <= DONT) {
+                    in.read();
+                } else if (telnetCommand == IAC) {
+                    line.write(IAC);
+                }
+                continue;
+            }
+            if (b == '\n') {
+                return new String(line.toByteArray(), StandardCharsets.UTF_8);
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return line.size() > 0 ? new String(line.toByteArray(), StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Extract the value of the first group of a pattern
+     */
+    private String extract(Pattern pattern, String request) {
+        Matcher matcher = pattern.matcher(request);
+        return matcher.find() ? matcher.group(1) : VIAConnectProConstant.EMPTY;
+    }
+
+    /**
+     * Extract P1..Pn params in order
+     */
+    private List<String> extractParams(String request) {
+        List<String> params = new ArrayList<>();
+        Matcher matcher = PARAM_PATTERN.matcher(request);
+        while (matcher.find()) {
+            params.add(matcher.group(2));
+        }
+        return params;
+    }
+
+    /**
+     * Write a reply in a single flush
+     */
+    private void write(OutputStream out, String reply) throws IOException {
+        out.write(reply.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * Close a socket ignoring errors
+     */
+    private void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Nothing to do, the session is already gone
+        }
+    }
+}
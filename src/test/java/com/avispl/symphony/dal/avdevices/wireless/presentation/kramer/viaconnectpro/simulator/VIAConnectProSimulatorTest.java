@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.simulator;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.VIAConnectProCommunicator;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.events.FlightRecorderEvents;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProConstant;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProErrorMetric;
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils.VIAConnectProMonitoringMetric;
+
+/**
+ * VIAConnectProSimulatorTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class VIAConnectProSimulatorTest {
+
+    private static final String USERNAME = "su";
+    private static final String PASSWORD = "supass";
+
+    private VIAConnectProSimulator simulator;
+    private VIAConnectProCommunicator viaConnectProCommunicator;
+
+    @BeforeEach
+    public void init() throws Exception {
+        SimulatedDevice device = new SimulatedDevice();
+        device.putParticipant("Alice", SimulatedDevice.PRESENTING);
+        device.putParticipant("Bob", SimulatedDevice.NOT_PRESENTING);
+        device.activateStreaming("udp://239.0.0.1:5000");
+        simulator = new VIAConnectProSimulator(device, USERNAME, PASSWORD).start();
+
+        viaConnectProCommunicator = new VIAConnectProCommunicator();
+        viaConnectProCommunicator.setProtocol("telnet");
+        viaConnectProCommunicator.setHost("127.0.0.1");
+        viaConnectProCommunicator.setPort(simulator.getPort());
+        viaConnectProCommunicator.setLogin(USERNAME);
+        viaConnectProCommunicator.setPassword(PASSWORD);
+        viaConnectProCommunicator.setConfigManagement("true");
+        viaConnectProCommunicator.init();
+    }
+
+    @AfterEach
+    public void destroy() {
+        viaConnectProCommunicator.destroy();
+        simulator.close();
+    }
+
+    /**
+     * Test get statistics against the simulator:
+     * - Participants, volume and streaming of the simulated device are reported.
+     */
+    @Test
+    @Tag("Mock")
+    void testGetMultipleStatistics() throws Exception {
+        Map<String, String> stats = getStatistics();
+        Assertions.assertEquals("127.0.0.1", stats.get(VIAConnectProConstant.IP_ADDRESS));
+        Assertions.assertEquals("1234", stats.get(VIAConnectProConstant.ROOM_CODE));
+        Assertions.assertEquals("50", stats.get(String.format("%s#%s", VIAConnectProMonitoringMetric.VOLUME.getGroupName(), VIAConnectProConstant.VOLUME)));
+        Assertions.assertEquals("2", stats.get(String.format("%s#%s", VIAConnectProMonitoringMetric.PLIST_All_STATUS.getGroupName(), VIAConnectProConstant.CURRENT_LOGGED_IN_USERS)));
+        String streamingGroup = VIAConnectProMonitoringMetric.STREAMING_STATUS_GET.getGroupName();
+        Assertions.assertEquals("1", stats.get(String.format("%s#%s", streamingGroup, VIAConnectProConstant.STREAMING_MODE)));
+        Assertions.assertEquals("udp://239.0.0.1:5000", stats.get(String.format("%s#%s", streamingGroup, VIAConnectProConstant.URL)));
+    }
+
+    /**
+     * Test control templates:
+     * - Static streaming controls of two polls are distinct instances sharing the same type and drop-down options.
+     */
+    @Test
+    @Tag("Mock")
+    void testStaticControlsShareTemplates() throws Exception {
+        String action = String.format("%s#%s", VIAConnectProConstant.STREAMING_FROM_DEVICE_TO_EXTERNAL, VIAConnectProConstant.ACTION);
+        AdvancedControllableProperty first = getControl(action);
+        AdvancedControllableProperty second = getControl(action);
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(first.getType(), second.getType());
+        Assertions.assertArrayEquals(new String[] { VIAConnectProConstant.START, VIAConnectProConstant.STOP, VIAConnectProConstant.RESTART, VIAConnectProConstant.CHANGE },
+                ((AdvancedControllableProperty.DropDown) first.getType()).getOptions());
+    }
+
+    /**
+     * Test control against the simulator:
+     * - The device applies the new volume and the next statistics report it.
+     */
+    @Test
+    @Tag("Mock")
+    void testControlVolume() throws Exception {
+        getStatistics();
+        String property = String.format("%s#%s", VIAConnectProMonitoringMetric.VOLUME.getGroupName(), VIAConnectProConstant.VOLUME);
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty(property);
+        controllableProperty.setValue(70f);
+        viaConnectProCommunicator.controlProperty(controllableProperty);
+        Assertions.assertEquals(70, simulator.getDevice().getVolume());
+        Assertions.assertEquals("70", getStatistics().get(property));
+    }
+
+    /**
+     * Test published snapshots:
+     * - Statistics returned by a poll belong to the caller: changing them doesn't affect the snapshot,
+     * and a control patching the next snapshot doesn't change them.
+     */
+    @Test
+    @Tag("Mock")
+    void testPublishedSnapshotIsImmutable() throws Exception {
+        Map<String, String> stats = getStatistics();
+        String property = String.format("%s#%s", VIAConnectProMonitoringMetric.VOLUME.getGroupName(), VIAConnectProConstant.VOLUME);
+        stats.remove(VIAConnectProConstant.IP_ADDRESS);
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty(property);
+        controllableProperty.setValue(20f);
+        viaConnectProCommunicator.controlProperty(controllableProperty);
+        Assertions.assertEquals("50", stats.get(property));
+        Map<String, String> patchedStats = getStatistics();
+        Assertions.assertEquals("20", patchedStats.get(property));
+        Assertions.assertNotNull(patchedStats.get(VIAConnectProConstant.IP_ADDRESS));
+    }
+
+    /**
+     * Test failure injection:
+     * - Error codes of the device are reported as None, latency is applied to the reply.
+     */
+    @Test
+    @Tag("Mock")
+    void testInjectedErrorAndLatency() throws Exception {
+        simulator.getDevice().injectError(VIAConnectProMonitoringMetric.VERSION_GET.getCommand(), VIAConnectProErrorMetric.ERROR_703);
+        simulator.setLatency(VIAConnectProMonitoringMetric.PLIST_All_STATUS.getCommand(), 300);
+        long start = System.currentTimeMillis();
+        Map<String, String> stats = getStatistics();
+        Assertions.assertTrue(System.currentTimeMillis() - start >= 300);
+        Assertions.assertEquals(VIAConnectProConstant.NONE, stats.get(VIAConnectProConstant.VERSION));
+    }
+
+    /**
+     * Test command metrics:
+     * - AdapterMetadata statistics report the poll, request counts per command and device error codes.
+     */
+    @Test
+    @Tag("Mock")
+    void testCommandMetrics() throws Exception {
+        viaConnectProCommunicator.setCommandMetrics("true");
+        simulator.getDevice().injectError(VIAConnectProMonitoringMetric.VERSION_GET.getCommand(), VIAConnectProErrorMetric.ERROR_703);
+        Map<String, String> stats = getStatistics();
+        String versionCommand = VIAConnectProMonitoringMetric.VERSION_GET.getCommand();
+        Assertions.assertEquals("1", stats.get("AdapterMetadata#Polls"));
+        Assertions.assertEquals("0", stats.get("AdapterMetadata#FailedPolls"));
+        Assertions.assertEquals("1", stats.get("AdapterMetadata#" + versionCommand + "Requests"));
+        Assertions.assertEquals("1", stats.get("AdapterMetadata#" + versionCommand + VIAConnectProErrorMetric.ERROR_703.getErrorCode()));
+        Assertions.assertEquals("0", stats.get("AdapterMetadata#" + versionCommand + "Timeouts"));
+    }
+
+    /**
+     * Test JFR events:
+     * - A poll followed by a control records telnet command, session and control events with their results.
+     */
+    @Test
+    @Tag("Mock")
+    void testFlightRecorderEvents() throws Exception {
+        Assumptions.assumeTrue(FlightRecorderEvents.isAvailable());
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.avispl.viaconnectpro.TelnetCommand");
+            recording.enable("com.avispl.viaconnectpro.TelnetSession");
+            recording.enable("com.avispl.viaconnectpro.ControlProperty");
+            recording.start();
+            getStatistics();
+            ControllableProperty controllableProperty = new ControllableProperty();
+            controllableProperty.setProperty(String.format("%s#%s", VIAConnectProMonitoringMetric.VOLUME.getGroupName(), VIAConnectProConstant.VOLUME));
+            controllableProperty.setValue(30f);
+            viaConnectProCommunicator.controlProperty(controllableProperty);
+            recording.stop();
+            Path file = Files.createTempFile("via-connect-pro", ".jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+            Files.delete(file);
+        }
+        String plist = VIAConnectProMonitoringMetric.PLIST_All_STATUS.getCommand();
+        Assertions.assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().endsWith("TelnetCommand")
+                && event.getString("command").contains(plist) && event.getLong("responseBytes") > 0 && FlightRecorderEvents.OK.equals(event.getString("result"))));
+        Assertions.assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().endsWith("TelnetSession")
+                && FlightRecorderEvents.LOGIN.equals(event.getString("action")) && FlightRecorderEvents.OK.equals(event.getString("result"))));
+        Assertions.assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().endsWith("ControlProperty")
+                && FlightRecorderEvents.OK.equals(event.getString("result"))));
+    }
+
+    private Map<String, String> getStatistics() throws Exception {
+        ExtendedStatistics extendedStatistics = (ExtendedStatistics) viaConnectProCommunicator.getMultipleStatistics().get(0);
+        return extendedStatistics.getStatistics();
+    }
+
+    private AdvancedControllableProperty getControl(String property) throws Exception {
+        ExtendedStatistics extendedStatistics = (ExtendedStatistics) viaConnectProCommunicator.getMultipleStatistics().get(0);
+        return extendedStatistics.getControllableProperties().stream().filter(control -> control.getName().equals(property)).findFirst()
+                .orElseThrow(() -> new AssertionError("Missing control " + property));
+    }
+}
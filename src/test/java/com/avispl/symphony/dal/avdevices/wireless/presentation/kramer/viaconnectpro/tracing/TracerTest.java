@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.tracing;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TracerTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class TracerTest {
+
+    /**
+     * Test disabled tracer:
+     * - Spans are not started and ending them does nothing.
+     */
+    @Test
+    @Tag("Mock")
+    void testDisabledTracer() {
+        Tracer tracer = new Tracer();
+        Assertions.assertEquals(Tracer.NOT_STARTED, tracer.startTrace());
+        Assertions.assertEquals(Tracer.NOT_STARTED, tracer.start());
+        tracer.end(SpanKind.COMMAND, "PList", Tracer.NOT_STARTED, TraceSpan.OK);
+        Assertions.assertFalse(tracer.isEnabled());
+    }
+
+    /**
+     * Test ring buffer sink:
+     * - Spans carry the id of their trace, only the last spans are kept, oldest first.
+     */
+    @Test
+    @Tag("Mock")
+    void testRingBufferSink() {
+        RingBufferTraceSink sink = new RingBufferTraceSink(3);
+        Tracer tracer = new Tracer();
+        tracer.setSink(sink);
+        for (int i = 0; i < 2; i++) {
+            long poll = tracer.startTrace();
+            tracer.end(SpanKind.COMMAND, "PList", tracer.start(), TraceSpan.OK);
+            tracer.end(SpanKind.POLL, null, poll, i == 0 ? TraceSpan.OK : Tracer.outcomeOf(new IllegalStateException()));
+        }
+        List<TraceSpan> spans = sink.getSpans();
+        Assertions.assertEquals(3, spans.size());
+        Assertions.assertEquals(SpanKind.POLL, spans.get(0).getKind());
+        Assertions.assertEquals(1, spans.get(0).getTraceId());
+        Assertions.assertEquals("PList", spans.get(1).getDetail());
+        Assertions.assertEquals(2, spans.get(2).getTraceId());
+        Assertions.assertEquals("IllegalStateException", spans.get(2).getOutcome());
+        Assertions.assertFalse(spans.get(2).isOk());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FramedResponseReaderTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class FramedResponseReaderTest {
+
+    /**
+     * Test framed reader:
+     * - Responses split across reads, including a \r\n boundary split in two, are only returned once complete,
+     * the buffer grows for a response longer than its capacity and a partial response times out.
+     */
+    @Test
+    @Tag("Mock")
+    void testResponsesSplitAcrossReads() throws Exception {
+        String longResponse = String.join("", Collections.nCopies(20, "Alice_1#"));
+        ChunkedInputStream in = new ChunkedInputStream("Vol|Get|5", "0\r", "\nPList|all|", longResponse + "\r\nRoom", "Code|Get|1234\r\nIpInfo");
+        FramedResponseReader reader = new FramedResponseReader(16);
+
+        Assertions.assertEquals("Vol|Get|50", reader.readResponse(in, 1000, "Vol"));
+        Assertions.assertEquals("PList|all|" + longResponse, reader.readResponse(in, 1000, "PList"));
+        Assertions.assertEquals("RoomCode|Get|1234\r\n", reader.readResponses(in, 1000, "RoomCode"));
+        IOException exception = Assertions.assertThrows(IOException.class, () -> reader.readResponse(in, 20, "IpInfo"));
+        Assertions.assertTrue(exception.getMessage().endsWith("IpInfo"));
+
+        reader.reset();
+        in.add("IpInfo|Get|10.0.0.5\r\n");
+        Assertions.assertEquals("IpInfo|Get|10.0.0.5", reader.readResponse(in, 1000, "IpInfo"));
+    }
+
+    /**
+     * Input stream handing out one chunk per read, like bytes arriving from a socket
+     */
+    private static class ChunkedInputStream extends InputStream {
+
+        private final Deque<byte[]> chunks = new ArrayDeque<>();
+
+        ChunkedInputStream(String... chunks) {
+            Arrays.stream(chunks).forEach(this::add);
+        }
+
+        void add(String chunk) {
+            chunks.add(chunk.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int available() {
+            return chunks.isEmpty() ? 0 : chunks.peek().length;
+        }
+
+        @Override
+        public int read() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            byte[] chunk = chunks.poll();
+            if (chunk == null) {
+                return 0;
+            }
+            System.arraycopy(chunk, 0, b, off, chunk.length);
+            return chunk.length;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.transport.OutstandingReplies.OutstandingReply;
+
+/**
+ * OutstandingRepliesTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class OutstandingRepliesTest {
+
+    /**
+     * Test outstanding replies:
+     * - A late reply is attributed to the oldest request carrying its token, unknown replies are unsolicited and expired requests are dropped.
+     */
+    @Test
+    @Tag("Mock")
+    void testRepliesAreClaimedInOrder() throws Exception {
+        OutstandingReplies outstandingReplies = new OutstandingReplies(50);
+        OutstandingReply timedOutVolume = outstandingReplies.add("Vol");
+        OutstandingReply participants = outstandingReplies.add("PList");
+        OutstandingReply volume = outstandingReplies.add("Vol");
+
+        Assertions.assertSame(timedOutVolume, outstandingReplies.claim("<P><UN>su</UN><Pwd></Pwd><Cmd>Vol</Cmd><P1>Get</P1><P2>50</P2></P>"));
+        Assertions.assertNull(outstandingReplies.claim("<P><Cmd>IpInfo</Cmd></P>"));
+        Assertions.assertSame(participants, outstandingReplies.claim("<P><Cmd>PList</Cmd></P>"));
+        Assertions.assertTrue(outstandingReplies.isOutstanding(volume));
+        Assertions.assertSame(volume, outstandingReplies.claim("<P><Cmd>Vol</Cmd></P>"));
+        Assertions.assertEquals(0, outstandingReplies.size());
+
+        outstandingReplies.add("Vol");
+        Thread.sleep(60);
+        OutstandingReply roomCode = outstandingReplies.add("RCode");
+        Assertions.assertEquals(1, outstandingReplies.size());
+        Assertions.assertNull(outstandingReplies.claim("<P><Cmd>Vol</Cmd></P>"));
+        outstandingReplies.clear();
+        Assertions.assertFalse(outstandingReplies.isOutstanding(roomCode));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2022 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.wireless.presentation.kramer.viaconnectpro.utils;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CommandDescriptorTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+class CommandDescriptorTest {
+
+    /**
+     * Test command descriptors:
+     * - Requests are encoded with their fixed params, replies are classified by their first fields and errors are looked up by code.
+     */
+    @Test
+    @Tag("Mock")
+    void testRequestsAndReplies() {
+        String credentials = CommandDescriptor.encodeCredentials("su", null);
+        Assertions.assertEquals("<P><UN>su</UN><Pwd></Pwd><Cmd>PList</Cmd><P1>all</P1><P2>4</P2></P>",
+                VIAConnectProMonitoringMetric.PLIST_All_STATUS.getDescriptor().encodeRequest(credentials));
+        Assertions.assertEquals("<P><UN>su</UN><Pwd></Pwd><Cmd>DisplayStatus</Cmd><P1>Get</P1><P2>Alice</P2></P>",
+                CommandDescriptor.encodeRequest(credentials, "DisplayStatus", Arrays.asList("Get", "Alice")));
+
+        Assertions.assertSame(VIAConnectProControllingMetric.STREAMING_RESTART.getDescriptor(), CommandDescriptor.find("Streaming", "SRestart", true));
+        Assertions.assertEquals("RSStatus", CommandDescriptor.find("Streaming", "SStatus", false).getReplyToken());
+        Assertions.assertEquals("Streaming|SRestart", CommandDescriptor.replyTokenOf("Streaming|SRestart|1"));
+        Assertions.assertEquals("Streaming", CommandDescriptor.replyTokenOf("Streaming|Get|1|udp://239.0.0.1:5000"));
+        Assertions.assertEquals("StreamingURL", CommandDescriptor.replyTokenOf("StreamingURL|1|1"));
+        Assertions.assertEquals("IP:", CommandDescriptor.replyTokenOf("IP:10.0.0.5|SubnetMask:255.255.255.0"));
+        Assertions.assertNull(CommandDescriptor.replyTokenOf("Unknown|1"));
+        Assertions.assertFalse(VIAConnectProMonitoringMetric.STREAMING_STATUS_GET.getDescriptor().isReply("StreamingURL|1|1"));
+
+        CommandDescriptor version = VIAConnectProMonitoringMetric.VERSION_GET.getDescriptor();
+        Assertions.assertEquals(VIAConnectProErrorMetric.ERROR_703, version.errorOf("GetVersion|Error703"));
+        Assertions.assertNull(version.errorOf("GetVersion|3.0.0.1"));
+    }
+}